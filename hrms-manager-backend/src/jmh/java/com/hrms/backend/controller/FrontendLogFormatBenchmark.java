@@ -0,0 +1,63 @@
+package com.hrms.backend.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hrms.backend.dto.LogEntryDto;
+
+/**
+ * Formatting of the log line written for each frontend log entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrontendLogFormatBenchmark {
+
+    private LogEntryDto plainEntry;
+    private LogEntryDto errorEntry;
+
+    @Setup
+    public void setUp() {
+        plainEntry = entry("INFO", "Dashboard loaded", null);
+
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("component", "PayslipList");
+        context.put("url", "/employee/payslips");
+        context.put("stack", "TypeError: Cannot read properties of undefined (reading 'netSalary')\n    at PayslipList.render");
+        errorEntry = entry("ERROR", "Failed to render payslips", context);
+    }
+
+    @Benchmark
+    public String formatWithoutContext() {
+        return FrontendLogController.formatLogMessage(plainEntry);
+    }
+
+    @Benchmark
+    public String formatWithContext() {
+        return FrontendLogController.formatLogMessage(errorEntry);
+    }
+
+    private static LogEntryDto entry(String level, String message, Map<String, Object> context) {
+        LogEntryDto entry = new LogEntryDto();
+        entry.setTimestamp("2025-07-14T09:30:12.345Z");
+        entry.setLevel(level);
+        entry.setMessage(message);
+        entry.setContext(context);
+        return entry;
+    }
+}
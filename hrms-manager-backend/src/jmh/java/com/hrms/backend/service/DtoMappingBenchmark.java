@@ -0,0 +1,88 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.hrms.backend.dto.EmployeeDetailsDto;
+import com.hrms.backend.dto.PayslipDto;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+
+/**
+ * Entity to DTO mapping done for every row of the employee and payslip listings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private EmployeeService employeeService;
+    private PayrollService payrollService;
+    private Employee employee;
+    private Payslip payslip;
+
+    @Setup
+    public void setUp() {
+        employeeService = new EmployeeService();
+        payrollService = new PayrollService();
+
+        User user = new User(42L, "jdoe", "secret", Role.EMPLOYEE);
+        employee = new Employee(user, "EMP0042", "Jane", "Doe", "jane.doe@hrms.test", "Engineering", "Engineer",
+                960000.0, LocalDate.of(2024, 1, 1));
+        employee.setId(42L);
+
+        payslip = new Payslip();
+        payslip.setId(1001L);
+        payslip.setEmployee(employee);
+        payslip.setPayPeriodMonth(7);
+        payslip.setPayPeriodYear(2025);
+        payslip.setGrossSalary(new BigDecimal("81500.00"));
+        payslip.setBaseMonthlySalary(new BigDecimal("80000.00"));
+        payslip.setTotalWorkingDaysInMonth(23);
+        payslip.setDaysPresent(20);
+        payslip.setDaysAbsent(1);
+        payslip.setDaysHalfDay(1);
+        payslip.setDaysOnApprovedLeave(1);
+        payslip.setAttendanceDeduction(new BigDecimal("4800.00"));
+        payslip.setTaxDeduction(new BigDecimal("8000.00"));
+        payslip.setPfDeduction(new BigDecimal("9600.00"));
+        payslip.setOtherDeductions(BigDecimal.ZERO);
+        payslip.setBonusAmount(new BigDecimal("1500.00"));
+        payslip.setNetSalary(new BigDecimal("59100.00"));
+        payslip.setGenerationDate(LocalDateTime.of(2025, 8, 1, 9, 0));
+        payslip.setGeneratedBy("Admin System");
+    }
+
+    @Benchmark
+    public EmployeeDetailsDto employeeConvertToDto() {
+        return employeeService.convertToDto(employee);
+    }
+
+    @Benchmark
+    public PayslipDto employeeConvertToPayslipDto() {
+        return employeeService.convertToPayslipDto(payslip);
+    }
+
+    @Benchmark
+    public PayslipDto payrollConvertToPayslipDto() {
+        return payrollService.convertToPayslipDto(payslip);
+    }
+}
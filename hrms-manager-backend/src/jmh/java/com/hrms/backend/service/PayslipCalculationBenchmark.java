@@ -0,0 +1,102 @@
+package com.hrms.backend.service;
+
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.repository.HolidayRepository;
+
+/**
+ * Per-employee payslip calculation: the fixed-point kernel used by bulk payroll against the BigDecimal
+ * reference calculation. Scores are per payslip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayslipCalculationBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+    private static final BigDecimal TAX_PERCENTAGE = new BigDecimal("0.10");
+    private static final BigDecimal PF_PERCENTAGE = new BigDecimal("0.12");
+    private static final int STANDARD_WORKING_DAYS = 25;
+
+    private PayrollService payrollService;
+    private PayrollMonthInputs inputs;
+    private PayrollMath.Rate taxRate;
+    private PayrollMath.Rate pfRate;
+    private PayrollMath.Amounts amounts;
+    private final List<Employee> employees = new ArrayList<>(EMPLOYEES);
+    private final List<Payslip> payslips = new ArrayList<>(EMPLOYEES);
+
+    @Setup
+    public void setUp() {
+        WorkingCalendar workingCalendar = new WorkingCalendar();
+        ReflectionTestUtils.setField(workingCalendar, "holidayRepository", mock(HolidayRepository.class));
+        payrollService = new PayrollService();
+        ReflectionTestUtils.setField(payrollService, "workingCalendar", workingCalendar);
+
+        inputs = new PayrollMonthInputs(YearMonth.of(2025, 7));
+        Random random = new Random(7L);
+        for (long id = 1; id <= EMPLOYEES; id++) {
+            Employee employee = new Employee(null, "EMP" + id, "First" + id, "Last" + id, "employee" + id + "@hrms.test",
+                    "Engineering", "Engineer", 300000 + random.nextInt(200_000_000) / 100.0, LocalDate.of(2024, 1, 1));
+            employee.setId(id);
+            employees.add(employee);
+            payslips.add(new Payslip());
+            inputs.addAttendance(id, AttendanceStatus.PRESENT, 18 + random.nextInt(4));
+            inputs.addAttendance(id, AttendanceStatus.ABSENT, random.nextInt(3));
+            inputs.addAttendance(id, AttendanceStatus.HALF_DAY, random.nextInt(2));
+            if (random.nextInt(4) == 0) {
+                inputs.addBonus(id, BigDecimal.valueOf(random.nextInt(500_000), 2));
+            }
+        }
+        taxRate = PayrollMath.Rate.of(TAX_PERCENTAGE);
+        pfRate = PayrollMath.Rate.of(PF_PERCENTAGE);
+        amounts = new PayrollMath.Amounts();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public List<Payslip> fixedPoint() {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            payrollService.populatePayslipFixedPoint(payslips.get(i), employees.get(i), inputs, TAX_PERCENTAGE, PF_PERCENTAGE,
+                    taxRate, pfRate, STANDARD_WORKING_DAYS, amounts);
+        }
+        return payslips;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public List<Payslip> bigDecimal() {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            payrollService.populatePayslip(payslips.get(i), employees.get(i), inputs, TAX_PERCENTAGE, PF_PERCENTAGE,
+                    STANDARD_WORKING_DAYS);
+        }
+        return payslips;
+    }
+}
@@ -0,0 +1,69 @@
+package com.hrms.backend.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling // Background payslip recomputation, the month-end auto-run, payroll run heartbeats and the attendance write-behind flush
+public class PayrollConfig {
+
+    // Number of payroll chunks computed and committed concurrently. Each one holds a pooled connection,
+    // so keep this below the datasource pool size.
+    @Value("${hrms.payroll.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * Bounded executor for payroll chunks. When the queue is full the submitting thread runs the chunk
+     * itself, which throttles submission instead of rejecting work.
+     */
+    @Bean(name = "payrollExecutor")
+    public ThreadPoolTaskExecutor payrollExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(parallelism * 4);
+        executor.setThreadNamePrefix("payroll-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Runs submitted payroll jobs off the request threads. One job at a time; further submissions wait
+     * in the queue, and the job itself fans its chunks out onto the payroll executor. Beyond the queue a
+     * submission is rejected, and PayrollRunService fails the run rather than leave it queued.
+     */
+    @Bean(name = "payrollJobExecutor")
+    public ThreadPoolTaskExecutor payrollJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("payroll-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Renders a finished run's payslip PDFs, so the job thread can start the next run meanwhile. Rendering
+     * fans out onto the payroll executor; a month that does not fit in the queue, or is cut short by a
+     * shutdown, is rendered on first download.
+     */
+    @Bean(name = "payslipRenderExecutor")
+    public ThreadPoolTaskExecutor payslipRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("payslip-render-");
+        executor.initialize();
+        return executor;
+    }
+}
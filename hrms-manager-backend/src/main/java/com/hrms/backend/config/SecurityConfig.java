@@ -2,6 +2,8 @@ package com.hrms.backend.config;
 
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -101,6 +103,7 @@ public class SecurityConfig {
 			.exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler)) // (authEntryPoint)
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Use stateless sessions for JWT [cite: 234]
 			.authorizeHttpRequests(authorize -> authorize
+					.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE streams re-dispatch after the original request was authorized
 					.requestMatchers("/api/frontend-logs/**").permitAll() // Allow unauthenticated access to auth endpoints [cite: 234]
 					.requestMatchers("/api/auth/contact-us").permitAll() // <--- ADD OR MODIFY THIS LINE
 					.requestMatchers("/api/auth/**").permitAll() // Allow public registration/login
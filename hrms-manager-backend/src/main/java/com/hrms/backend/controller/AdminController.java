@@ -1,5 +1,6 @@
 package com.hrms.backend.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
@@ -10,7 +11,11 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -25,20 +30,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hrms.backend.config.UserDetailsImpl;
 import com.hrms.backend.dto.AddBonusRequest;
 import com.hrms.backend.dto.AdminAttendanceMarkRequest;
 import com.hrms.backend.dto.AttendanceDto;
+import com.hrms.backend.dto.AttendancePageDto;
 import com.hrms.backend.dto.AttendanceRecordDto;
+import com.hrms.backend.dto.BonusImportReport;
+import com.hrms.backend.dto.BulkAttendanceMarkReport;
+import com.hrms.backend.dto.BulkMarkAttendanceRequest;
 import com.hrms.backend.dto.EmployeeCreationRequest;
 import com.hrms.backend.dto.EmployeeDetailsDto;
+import com.hrms.backend.dto.HolidayDto;
+import com.hrms.backend.dto.HolidayRequest;
 import com.hrms.backend.dto.LeaveApplicationDto;
 import com.hrms.backend.dto.LeaveResponseDto;
 import com.hrms.backend.dto.LeaveUpdateStatusRequest;
 import com.hrms.backend.dto.MarkAttendanceRequest;
 import com.hrms.backend.dto.MessageResponse;
+import com.hrms.backend.dto.PayrollDryRunDto;
+import com.hrms.backend.dto.PayrollDryRunRequest;
+import com.hrms.backend.dto.PayrollMonthSummaryDto;
 import com.hrms.backend.dto.PayrollProcessRequest;
+import com.hrms.backend.dto.PayrollRuleSetDto;
+import com.hrms.backend.dto.PayrollRuleSetRequest;
+import com.hrms.backend.dto.PayrollRunDto;
+import com.hrms.backend.dto.PayrollRunReport;
 import com.hrms.backend.dto.PayslipDto;
 import com.hrms.backend.dto.ProcessLeaveRequest;
 import com.hrms.backend.dto.UserDto;
@@ -52,9 +71,17 @@ import com.hrms.backend.entity.Role;
 import com.hrms.backend.entity.User;
 import com.hrms.backend.service.AdminService;
 import com.hrms.backend.service.AttendanceService;
+import com.hrms.backend.service.BonusImportService;
 import com.hrms.backend.service.EmployeeService;
+import com.hrms.backend.service.HolidayService;
 import com.hrms.backend.service.LeaveService;
+import com.hrms.backend.service.PayrollDiffService;
+import com.hrms.backend.service.PayrollDryRunService;
+import com.hrms.backend.service.PayrollMonthSummaryService;
+import com.hrms.backend.service.PayrollRuleSetService;
+import com.hrms.backend.service.PayrollRunService;
 import com.hrms.backend.service.PayrollService;
+import com.hrms.backend.service.PayslipExportService;
 import com.hrms.backend.service.UserService;
 
 import jakarta.validation.Valid;
@@ -84,6 +111,30 @@ public class AdminController {
 
     @Autowired
     private PayrollService payrollService;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private HolidayService holidayService;
+
+    @Autowired
+    private PayrollRuleSetService payrollRuleSetService;
+
+    @Autowired
+    private PayrollDryRunService payrollDryRunService;
+
+    @Autowired
+    private PayrollDiffService payrollDiffService;
+
+    @Autowired
+    private PayslipExportService payslipExportService;
+
+    @Autowired
+    private PayrollMonthSummaryService payrollMonthSummaryService;
+
+    @Autowired
+    private BonusImportService bonusImportService;
     
     
     // Helper method to get the authenticated user's ID
@@ -95,6 +146,12 @@ public class AdminController {
         throw new IllegalStateException("User not authenticated or user ID not found in security context.");
     }
 
+    // Helper method to get the authenticated user's name, recorded on payroll runs
+    private String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "Admin System";
+    }
+
     // --- User and Employee Management Endpoints ---
     /**
      * Fetches all users from the backend.
@@ -300,6 +357,38 @@ public class AdminController {
         }
     }
 
+    /**
+     * Endpoint for an admin/HR to mark one date for many employees: a list of (employeeId, status) entries, or a
+     * department whose employees all get one status. Marks that already exist are skipped unless overwrite is set.
+     * @param request BulkMarkAttendanceRequest with attendanceDate, and entries or department plus status.
+     * @return ResponseEntity with BulkAttendanceMarkReport (an outcome per employee) or error message.
+     */
+    @PostMapping("/attendance/bulk")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_HR')")
+    public ResponseEntity<?> markAttendanceInBulk(@RequestBody BulkMarkAttendanceRequest request) {
+        try {
+            Long adminUserId = getCurrentUserId();
+            logger.info("Admin/HR user ID {} bulk marking attendance on {} ({})", adminUserId, request.getAttendanceDate(),
+                    request.getDepartment() != null ? "department " + request.getDepartment()
+                            : (request.getEntries() != null ? request.getEntries().size() : 0) + " entries");
+            BulkAttendanceMarkReport report = attendanceService.markAttendanceInBulk(request, adminUserId);
+            return ResponseEntity.ok(report);
+        } catch (IllegalStateException e) {
+            logger.error("Authentication error bulk marking attendance: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new MessageResponse(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error bulk marking attendance: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (DataIntegrityViolationException e) {
+            // Another request marked one of the employees between the lookup and the insert; nothing was written
+            logger.warn("Concurrent attendance marks during bulk marking: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("Attendance was marked concurrently for some of these employees. Please retry."));
+        } catch (Exception e) {
+            logger.error("Error bulk marking attendance: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Error bulk marking attendance: " + e.getMessage()));
+        }
+    }
+
     /**
      * Endpoint for an admin/HR to view all attendance records, filtered by a single date.
      * This is used by the AttendanceManagementPage when a single date is selected.
@@ -354,6 +443,35 @@ public class AdminController {
         }
     }
 
+    /**
+     * Endpoint for an admin/HR to page through all attendance records, newest first, without loading the
+     * whole table. Pass the nextCursor of each page as the cursor of the next request; it is null on the last page.
+     * @param cursor Optional continuation token from the previous page.
+     * @param size Optional page size (default 200, at most 1000).
+     * @return ResponseEntity with AttendancePageDto or error message.
+     */
+    @GetMapping("/attendance/page")
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_HR')")
+    public ResponseEntity<?> getAttendancePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            Long adminUserId = getCurrentUserId();
+            logger.info("Admin/HR user ID {} fetching an attendance page", adminUserId);
+            AttendancePageDto page = attendanceService.getAttendancePage(cursor, size);
+            logger.info("Attendance page fetched. Records: {}, more pages: {}", page.getRecords().size(), page.getNextCursor() != null);
+            return ResponseEntity.ok(page);
+        } catch (IllegalStateException e) {
+            logger.error("Authentication error fetching attendance page: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid attendance page request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching attendance page: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Error fetching attendance page: " + e.getMessage()));
+        }
+    }
 
     /**
      * Endpoint for an admin/HR to update an existing attendance record.
@@ -440,21 +558,268 @@ public class AdminController {
     
     
     // --- Payroll Management Endpoints ---
+    /**
+     * Submits monthly payroll as a background job and returns immediately. If the month already has a queued or
+     * running job, that job is returned instead of starting another one.
+     * Progress can be polled on /payroll/runs/{runId} or streamed from /payroll/runs/{runId}/events.
+     * @param request PayrollProcessRequest containing month and year.
+     * @return ResponseEntity (202 Accepted) with the queued PayrollRunDto or error message.
+     */
     @PostMapping("/payroll/process")
-    public ResponseEntity<MessageResponse> processMonthlyPayroll(@Valid @RequestBody PayrollProcessRequest request) {
+    public ResponseEntity<?> processMonthlyPayroll(@Valid @RequestBody PayrollProcessRequest request) {
         logger.info("Admin/HR attempting to process payroll for {}-{}", request.getMonth(), request.getYear());
         try {
-            adminService.processMonthlyPayroll(request.getMonth(), request.getYear());
-            return ResponseEntity.ok(new MessageResponse("Monthly payroll processing initiated."));
+            PayrollRunDto run = payrollRunService.submit(request.getMonth(), request.getYear(), getCurrentUsername());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(run);
         } catch (IllegalArgumentException e) {
             logger.error("Error processing payroll: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            logger.warn("Payroll request refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(e.getMessage()));
         } catch (Exception e) {
             logger.error("Unexpected error processing payroll: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to process payroll: " + e.getMessage()));
         }
     }
 
+    /**
+     * Fetches the status and progress of a payroll run.
+     * @param runId The ID of the payroll run.
+     * @return ResponseEntity with PayrollRunDto or error message.
+     */
+    @GetMapping("/payroll/runs/{runId}")
+    public ResponseEntity<?> getPayrollRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(payrollRunService.getRun(runId));
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll run not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error fetching payroll run {}: {}", runId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to fetch payroll run: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Streams payroll run progress as Server-Sent Events: a "progress" event per finished chunk and
+     * a final "finished" event, after which the stream is closed.
+     * @param runId The ID of the payroll run.
+     * @return SseEmitter for the run, or error message.
+     */
+    @GetMapping(value = "/payroll/runs/{runId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamPayrollRun(@PathVariable Long runId) {
+        try {
+            return ResponseEntity.ok(payrollRunService.subscribe(runId));
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll run not found for event stream: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Requests cancellation of a queued or running payroll run. Chunks already committed are kept;
+     * remaining chunks are skipped.
+     * @param runId The ID of the payroll run.
+     * @return ResponseEntity with the updated PayrollRunDto or error message.
+     */
+    @PostMapping("/payroll/runs/{runId}/cancel")
+    public ResponseEntity<?> cancelPayrollRun(@PathVariable Long runId) {
+        logger.info("Admin/HR attempting to cancel payroll run {}", runId);
+        try {
+            return ResponseEntity.ok(payrollRunService.requestCancel(runId));
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll run not found for cancellation: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            logger.error("Cannot cancel payroll run: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error cancelling payroll run {}: {}", runId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to cancel payroll run: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Streams the per-employee differences between two payroll runs as NDJSON, one object per employee
+     * that was added, removed or has changed figures (changed fields only, with deltas).
+     * @param runId The ID of the earlier payroll run.
+     * @param otherRunId The ID of the payroll run to compare it with.
+     * @return Streamed diff or error message.
+     */
+    @GetMapping(value = "/payroll/runs/{runId}/diff/{otherRunId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> diffPayrollRuns(@PathVariable Long runId, @PathVariable Long otherRunId) {
+        logger.info("Admin/HR requesting diff of payroll run {} against run {}", runId, otherRunId);
+        try {
+            return ResponseEntity.ok(payrollDiffService.diffRuns(runId, otherRunId));
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll run not found for diff: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Processes payroll in parallel chunks, each committed in its own transaction.
+     * Failed chunks are listed in the report instead of rolling back the whole month.
+     * @param request PayrollProcessRequest containing month and year.
+     * @return ResponseEntity with PayrollRunReport or error message.
+     */
+    @PostMapping("/payroll/process/partitioned")
+    public ResponseEntity<?> processMonthlyPayrollPartitioned(@Valid @RequestBody PayrollProcessRequest request) {
+        logger.info("Admin/HR attempting to process partitioned payroll for {}-{}", request.getMonth(), request.getYear());
+        try {
+            PayrollRunReport report = adminService.processMonthlyPayrollPartitioned(request.getMonth(), request.getYear());
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            logger.error("Error processing partitioned payroll: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (IllegalStateException e) {
+            logger.warn("Partitioned payroll refused: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error processing partitioned payroll: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to process payroll: " + e.getMessage()));
+        }
+    }
+
+    // --- Payroll Rule Set Endpoints ---
+
+    /**
+     * Lists all payroll rule sets, newest version first.
+     * @return ResponseEntity with a list of PayrollRuleSetDto.
+     */
+    @GetMapping("/payroll/rule-sets")
+    public ResponseEntity<List<PayrollRuleSetDto>> getPayrollRuleSets() {
+        return ResponseEntity.ok(payrollRuleSetService.getRuleSets());
+    }
+
+    /**
+     * Creates a new payroll rule set version, optionally activating it for subsequent payroll runs.
+     * @param request PayrollRuleSetRequest with the rates and standard working days.
+     * @return ResponseEntity with the created PayrollRuleSetDto or error message.
+     */
+    @PostMapping("/payroll/rule-sets")
+    public ResponseEntity<?> createPayrollRuleSet(@Valid @RequestBody PayrollRuleSetRequest request) {
+        logger.info("Admin/HR attempting to create payroll rule set '{}'", request.getName());
+        try {
+            PayrollRuleSetDto ruleSet = payrollRuleSetService.createRuleSet(request, getCurrentUsername());
+            return ResponseEntity.status(HttpStatus.CREATED).body(ruleSet);
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error creating payroll rule set: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error creating payroll rule set: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to create payroll rule set: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Makes a payroll rule set the one used by payroll runs and payslip recalculations.
+     * @param ruleSetId The ID of the rule set.
+     * @return ResponseEntity with the activated PayrollRuleSetDto or error message.
+     */
+    @PostMapping("/payroll/rule-sets/{ruleSetId}/activate")
+    public ResponseEntity<?> activatePayrollRuleSet(@PathVariable Long ruleSetId) {
+        logger.info("Admin/HR attempting to activate payroll rule set {}", ruleSetId);
+        try {
+            return ResponseEntity.ok(payrollRuleSetService.activateRuleSet(ruleSetId));
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll rule set not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error activating payroll rule set {}: {}", ruleSetId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to activate payroll rule set: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Evaluates a month of payroll against a rule set (the active one by default) without writing payslips.
+     * @param request PayrollDryRunRequest containing month, year and an optional rule set ID.
+     * @return ResponseEntity with PayrollDryRunDto (overall and per-department totals) or error message.
+     */
+    @PostMapping("/payroll/dry-run")
+    public ResponseEntity<?> dryRunPayroll(@Valid @RequestBody PayrollDryRunRequest request) {
+        logger.info("Admin/HR requesting payroll dry run for {}-{} (rule set {})", request.getMonth(), request.getYear(),
+                request.getRuleSetId() != null ? request.getRuleSetId() : "active");
+        try {
+            PayrollDryRunDto result = payrollDryRunService.dryRun(request.getMonth(), request.getYear(), request.getRuleSetId());
+            return ResponseEntity.ok(result);
+        } catch (NoSuchElementException e) {
+            logger.error("Payroll rule set not found for dry run: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            logger.error("Error running payroll dry run: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error running payroll dry run: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to run payroll dry run: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves the materialized payroll totals of a month, overall and per department.
+     * @param year The year.
+     * @param month The month (1-12).
+     * @return ResponseEntity with PayrollMonthSummaryDto or error message.
+     */
+    @GetMapping("/payroll/summary/{year}/{month}")
+    public ResponseEntity<?> getPayrollMonthSummary(@PathVariable Integer year, @PathVariable Integer month) {
+        logger.info("Admin/HR requesting payroll summary for {}-{}", month, year);
+        try {
+            PayrollMonthSummaryDto summary = payrollMonthSummaryService.getMonthSummary(month, year);
+            return ResponseEntity.ok(summary);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid payroll summary request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error fetching payroll summary: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to fetch payroll summary: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Recomputes the payroll summary of a month from its payslips, e.g. for months processed before the
+     * summary was maintained.
+     * @param year The year.
+     * @param month The month (1-12).
+     * @return ResponseEntity with the rebuilt PayrollMonthSummaryDto or error message.
+     */
+    @PostMapping("/payroll/summary/{year}/{month}/rebuild")
+    public ResponseEntity<?> rebuildPayrollMonthSummary(@PathVariable Integer year, @PathVariable Integer month) {
+        logger.info("Admin/HR rebuilding payroll summary for {}-{}", month, year);
+        try {
+            payrollMonthSummaryService.rebuildMonth(month, year);
+            return ResponseEntity.ok(payrollMonthSummaryService.getMonthSummary(month, year));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid payroll summary rebuild request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error rebuilding payroll summary: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to rebuild payroll summary: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Recomputes the year-to-date totals on every payslip of a year, e.g. for payslips written before the
+     * totals were maintained.
+     * @param year The year.
+     * @return ResponseEntity with a MessageResponse.
+     */
+    @PostMapping("/payroll/ytd/{year}/rebuild")
+    public ResponseEntity<MessageResponse> rebuildYearToDate(@PathVariable Integer year) {
+        logger.info("Admin/HR rebuilding year-to-date payroll totals for {}", year);
+        try {
+            int updated = payrollService.rebuildYearToDate(year);
+            return ResponseEntity.ok(new MessageResponse("Year-to-date totals rebuilt for " + year + ": " + updated + " payslips updated."));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid year-to-date rebuild request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error rebuilding year-to-date totals: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to rebuild year-to-date totals: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/bonuses")
     public ResponseEntity<MessageResponse> addBonus(@Valid @RequestBody AddBonusRequest request) {
         logger.info("Admin/HR attempting to add bonus for employee ID: {}", request.getEmployeeId());
@@ -473,6 +838,47 @@ public class AdminController {
         }
     }
 
+    /**
+     * Imports bonuses from CSV (header: employeeId,amount,month,year,description). Invalid rows are skipped and
+     * reported; each affected employee-month's payslip is recalculated once in the background.
+     * @param csv The CSV document.
+     * @return ResponseEntity with BonusImportReport (a result per row) or error message.
+     */
+    @PostMapping(value = "/bonuses/bulk", consumes = "text/csv")
+    public ResponseEntity<?> importBonusesCsv(@RequestBody String csv) {
+        logger.info("Admin/HR importing bonuses from CSV ({} characters)", csv.length());
+        try {
+            BonusImportReport report = bonusImportService.importCsv(csv);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid bonus import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error importing bonuses: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to import bonuses: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Imports bonuses from a JSON array of AddBonusRequest objects, with the same per-row report as the CSV import.
+     * @param requests The bonuses to add.
+     * @return ResponseEntity with BonusImportReport or error message.
+     */
+    @PostMapping(value = "/bonuses/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importBonusesJson(@RequestBody List<AddBonusRequest> requests) {
+        logger.info("Admin/HR importing {} bonuses from JSON", requests.size());
+        try {
+            BonusImportReport report = bonusImportService.importRequests(requests);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid bonus import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error importing bonuses: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to import bonuses: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/payslips/{year}/{month}")
     public ResponseEntity<List<PayslipDto>> getPayslipsForMonth(@PathVariable Integer year, @PathVariable Integer month) {
         logger.info("Admin/HR attempting to fetch payslips for {}-{}", month, year);
@@ -485,6 +891,50 @@ public class AdminController {
         }
     }
 
+    /**
+     * Streams all payslips of a month as a CSV or NDJSON download, straight from a database cursor.
+     * @param year The year.
+     * @param month The month (1-12).
+     * @param format csv (default) or ndjson.
+     * @return Streamed export or error message.
+     */
+    @GetMapping("/payslips/{year}/{month}/export")
+    public ResponseEntity<?> exportPayslipsForMonth(@PathVariable Integer year, @PathVariable Integer month,
+                                                    @RequestParam(defaultValue = PayslipExportService.FORMAT_CSV) String format) {
+        logger.info("Admin/HR exporting payslips for {}-{} as {}", month, year, format);
+        try {
+            StreamingResponseBody body = payslipExportService.export(month, year, format);
+            String fileName = String.format("payslips-%d-%02d.%s", year, month, format);
+            MediaType contentType = PayslipExportService.FORMAT_CSV.equals(format)
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON;
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                    .contentType(contentType)
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid payslip export request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(new MessageResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Streams the per-employee differences between the payslips of two months as NDJSON.
+     * @param from Earlier month, as yyyy-MM.
+     * @param to Month to compare it with, as yyyy-MM.
+     * @return Streamed diff or error message.
+     */
+    @GetMapping(value = "/payslips/diff", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> diffPayslipMonths(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                               @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        logger.info("Admin/HR requesting payslip diff of {} against {}", from, to);
+        try {
+            return ResponseEntity.ok(payrollDiffService.diffMonths(from, to));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid payslip diff request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(new MessageResponse(e.getMessage()));
+        }
+    }
+
     @GetMapping("/payslips/{payslipId}")
     public ResponseEntity<PayslipDto> getPayslipDetails(@PathVariable Long payslipId) {
         logger.info("Admin/HR attempting to fetch payslip details for ID: {}", payslipId);
@@ -499,6 +949,65 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+
+    // --- Holiday Calendar Endpoints ---
+
+    /**
+     * Fetches the public holidays of a year. Holidays are excluded from working days in payroll,
+     * leave and attendance.
+     * @param year The calendar year.
+     * @return ResponseEntity with list of HolidayDto or error message.
+     */
+    @GetMapping("/holidays")
+    public ResponseEntity<?> getHolidays(@RequestParam Integer year) {
+        try {
+            return ResponseEntity.ok(holidayService.getHolidays(year));
+        } catch (Exception e) {
+            logger.error("Error fetching holidays for {}: {}", year, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to fetch holidays: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Adds a public holiday.
+     * @param request HolidayRequest containing the date and name.
+     * @return ResponseEntity with the created HolidayDto or error message.
+     */
+    @PostMapping("/holidays")
+    public ResponseEntity<?> addHoliday(@Valid @RequestBody HolidayRequest request) {
+        logger.info("Admin/HR attempting to add holiday '{}' on {}", request.getName(), request.getHolidayDate());
+        try {
+            HolidayDto holiday = holidayService.addHoliday(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(holiday);
+        } catch (IllegalArgumentException e) {
+            logger.error("Validation error adding holiday: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Unexpected error adding holiday: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to add holiday: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Deletes a public holiday.
+     * @param holidayId The ID of the holiday.
+     * @return ResponseEntity with success or error message.
+     */
+    @DeleteMapping("/holidays/{holidayId}")
+    public ResponseEntity<MessageResponse> deleteHoliday(@PathVariable Long holidayId) {
+        logger.info("Admin/HR attempting to delete holiday ID: {}", holidayId);
+        try {
+            holidayService.deleteHoliday(holidayId);
+            return ResponseEntity.ok(new MessageResponse("Holiday deleted successfully."));
+        } catch (NoSuchElementException e) {
+            logger.error("Holiday not found: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error deleting holiday ID {}: {}", holidayId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to delete holiday: " + e.getMessage()));
+        }
+    }
     
     /**
      * Endpoint for admins to retrieve all contact messages.
@@ -1,5 +1,13 @@
 package com.hrms.backend.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -8,7 +16,10 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -21,6 +32,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.hrms.backend.config.UserDetailsImpl;
 import com.hrms.backend.dto.ApplyLeaveRequest;
@@ -29,16 +41,24 @@ import com.hrms.backend.dto.EmployeeDetailsDto;
 import com.hrms.backend.dto.LeaveApplicationDto;
 import com.hrms.backend.dto.MarkAttendanceRequest;
 import com.hrms.backend.dto.MessageResponse;
+import com.hrms.backend.dto.PayrollYearToDateDto;
+import com.hrms.backend.dto.PayslipCacheValidators;
 import com.hrms.backend.dto.PayslipDto;
 import com.hrms.backend.dto.UserDto;
 import com.hrms.backend.entity.Employee;
 import com.hrms.backend.entity.Role;
 import com.hrms.backend.entity.User;
 import com.hrms.backend.service.AttendanceService;
+import com.hrms.backend.service.AttendanceWriteBehindService;
 import com.hrms.backend.service.EmployeeService;
 import com.hrms.backend.service.LeaveService;
+import com.hrms.backend.service.PayslipDocumentService;
+import com.hrms.backend.service.PayslipDocumentService.PayslipDocument;
 import com.hrms.backend.service.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/employee")
 @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_EMPLOYEE')") // Both ADMIN and EMPLOYEE can access employee-related data
@@ -47,6 +67,15 @@ public class EmployeeController {
 	
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
+	// Tomcat's sendfile request attributes (see org.apache.catalina.Globals)
+	private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+	// Payslip responses may be kept by the user's browser but must be revalidated before reuse
+	private static final CacheControl PAYSLIP_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
 	@Autowired
     private EmployeeService employeeService;
 	
@@ -55,10 +84,16 @@ public class EmployeeController {
 	
 	@Autowired
 	private AttendanceService attendanceService;
+
+	@Autowired
+	private AttendanceWriteBehindService attendanceWriteBehindService;
 	
 	@Autowired
 	private LeaveService leaveService;
 
+	@Autowired
+	private PayslipDocumentService payslipDocumentService;
+
 	// Helper method to get the authenticated user's ID from the security context
     private Long getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -129,6 +164,7 @@ public class EmployeeController {
      * Endpoint for an employee to mark their own attendance for today.
      * The request body only needs the status (e.g., PRESENT, HALF_DAY).
      * Employee ID and date will be derived from the authenticated user and current date.
+     * With write-behind enabled the mark is journaled and acknowledged with 202 Accepted instead of 201.
      * @param request MarkAttendanceRequest containing the status.
      * @return ResponseEntity with AttendanceDto or error message.
      */
@@ -138,10 +174,10 @@ public class EmployeeController {
         try {
             Long userId = getCurrentUserId();
             logger.info("Employee user ID {} attempting to mark own attendance.", userId);
-            // CORRECTED: Call markAttendanceByEmployee with userId and status
-            AttendanceDto attendance = attendanceService.markAttendanceByEmployee(userId, request.getStatus());
+            AttendanceDto attendance = attendanceWriteBehindService.markAttendanceByEmployee(userId, request.getStatus());
             logger.info("Attendance marked successfully for employee user ID {}.", userId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(attendance);
+            // A journaled mark has no id until it is flushed to the database
+            return ResponseEntity.status(attendance.getId() == null ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(attendance);
         } catch (IllegalStateException e) {
             logger.error("Authentication error marking attendance: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
@@ -180,6 +216,31 @@ public class EmployeeController {
         }
     }
     
+    /**
+     * Endpoint for an employee to view their attendance calendar for a month, with the days per status.
+     * @param year The year.
+     * @param month The month (1-12).
+     * @return ResponseEntity with an AttendanceMonthDto or error message.
+     */
+    @GetMapping("/attendance/{year}/{month}")
+    @PreAuthorize("hasAuthority('ROLE_EMPLOYEE')")
+    public ResponseEntity<?> getMyAttendanceMonth(@PathVariable Integer year, @PathVariable Integer month) {
+        try {
+            Long userId = getCurrentUserId();
+            logger.info("Employee user ID {} attempting to fetch attendance calendar for {}-{}.", userId, month, year);
+            return ResponseEntity.ok(attendanceService.getEmployeeAttendanceMonth(userId, year, month));
+        } catch (IllegalStateException e) {
+            logger.error("Authentication error fetching attendance calendar: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.error("Data error fetching attendance calendar: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error fetching attendance calendar: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error fetching attendance calendar: " + e.getMessage());
+        }
+    }
+
     //leave functionality
     /**
      * Endpoint for an employee to apply for a new leave.
@@ -235,13 +296,18 @@ public class EmployeeController {
     
  
     // --- My Salary Slips Endpoints ---
+    // Payslips only change on recalculation, so the client keeps its copy and revalidates with the validators
     @GetMapping("/payslips/{year}/{month}")
-    public ResponseEntity<PayslipDto> getMyPayslip(@PathVariable Integer year, @PathVariable Integer month) {
+    public ResponseEntity<PayslipDto> getMyPayslip(@PathVariable Integer year, @PathVariable Integer month, ServletWebRequest webRequest) {
         Long userId = getCurrentUserId();
         logger.info("Employee user ID {} attempting to fetch payslip for {}-{}", userId, month, year);
         try {
+            Optional<PayslipCacheValidators> validators = employeeService.getMyPayslipValidators(userId, month, year);
+            if (validators.isPresent() && webRequest.checkNotModified(validators.get().getEtag(), validators.get().getLastModified())) {
+                return null; // 304, validators already set
+            }
             PayslipDto payslip = employeeService.getMyPayslip(userId, month, year);
-            return ResponseEntity.ok(payslip);
+            return ResponseEntity.ok().cacheControl(PAYSLIP_CACHE_CONTROL).body(payslip);
         } catch (NoSuchElementException e) {
             logger.error("Payslip not found for user ID {} for {}-{}: {}", userId, month, year, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
@@ -251,14 +317,90 @@ public class EmployeeController {
         }
     }
 
+    /**
+     * Year-to-date gross, tax, PF and net of the current user, read from their latest payslip of the year.
+     * @param year The year.
+     */
+    @GetMapping("/payslips/{year}/ytd")
+    public ResponseEntity<PayrollYearToDateDto> getMyYearToDate(@PathVariable Integer year) {
+        Long userId = getCurrentUserId();
+        logger.info("Employee user ID {} attempting to fetch year-to-date totals for {}", userId, year);
+        try {
+            return ResponseEntity.ok(employeeService.getMyYearToDate(userId, year));
+        } catch (NoSuchElementException e) {
+            logger.error("Year-to-date totals not found for user ID {} for {}: {}", userId, year, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            logger.error("Error fetching year-to-date totals for user ID {} for {}: {}", userId, year, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Downloads one of the current user's payslips as PDF. The document key is a strong ETag, so a cached copy
+     * is revalidated with a 304; otherwise the file is sent with the container's sendfile support when
+     * available, or copied channel to channel. A document that is not in the store yet is rendered first.
+     * @param payslipId The ID of the payslip.
+     * @return null once the response is written, or ResponseEntity with an error message.
+     */
+    @GetMapping("/payslips/{payslipId}/pdf")
+    public ResponseEntity<?> downloadMyPayslipPdf(@PathVariable Long payslipId, ServletWebRequest webRequest,
+                                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Long userId = getCurrentUserId();
+        logger.info("Employee user ID {} attempting to download payslip {} as PDF", userId, payslipId);
+        PayslipDocument document;
+        Path path;
+        long size;
+        try {
+            document = payslipDocumentService.findDocumentForUser(payslipId, userId);
+            if (webRequest.checkNotModified(document.getKey())) {
+                return null; // 304, ETag already set
+            }
+            path = payslipDocumentService.resolve(document);
+            size = Files.size(path);
+        } catch (NoSuchElementException e) {
+            logger.error("Payslip {} not found for user ID {}: {}", payslipId, userId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(e.getMessage()));
+        } catch (Exception e) {
+            logger.error("Error rendering payslip {} for user ID {}: {}", payslipId, userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new MessageResponse("Failed to render payslip: " + e.getMessage()));
+        }
+
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(size);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PAYSLIP_CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + document.getFileName() + "\"");
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // Tomcat writes the file itself after the handler returns, straight from the page cache
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, size);
+            return null;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, target);
+            }
+            out.flush();
+        }
+        return null;
+    }
+
     @GetMapping("/payslips/my-all")
-    public ResponseEntity<List<PayslipDto>> getAllMyPayslips() {
+    public ResponseEntity<List<PayslipDto>> getAllMyPayslips(ServletWebRequest webRequest) {
         Long userId = getCurrentUserId();
         logger.info("Employee user ID {} attempting to fetch all their payslips.", userId);
         try {
+            Optional<PayslipCacheValidators> validators = employeeService.getMyPayslipHistoryValidators(userId);
+            if (validators.isPresent() && webRequest.checkNotModified(validators.get().getEtag(), validators.get().getLastModified())) {
+                return null; // 304, validators already set
+            }
             List<PayslipDto> payslips = employeeService.getAllPayslipsForEmployee(employeeService.getEmployeeByUserId(userId)
                     .orElseThrow(() -> new NoSuchElementException("Employee record not found for user ID: " + userId)).getId());
-            return ResponseEntity.ok(payslips);
+            return ResponseEntity.ok().cacheControl(PAYSLIP_CACHE_CONTROL).body(payslips);
         } catch (NoSuchElementException e) {
             logger.error("Employee record not found for user ID {}: {}", userId, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
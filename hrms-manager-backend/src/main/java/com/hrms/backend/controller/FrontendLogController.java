@@ -22,11 +22,7 @@ public class FrontendLogController {
     @ResponseStatus(HttpStatus.OK) // Or HttpStatus.ACCEPTED (202) if you don't need immediate confirmation
     public void receiveFrontendLog(@RequestBody LogEntryDto logEntry) {
         // Your custom logic to log the frontend entry using the dedicated logger
-        String logMessage = String.format("FE_LOG - [%s] %s: %s (Context: %s)",
-                                          logEntry.getTimestamp(),
-                                          logEntry.getLevel(),
-                                          logEntry.getMessage(),
-                                          logEntry.getContext());
+        String logMessage = formatLogMessage(logEntry);
 
         // Use the dedicated frontendLogger to write the log, mapping frontend level to backend level
         switch (logEntry.getLevel()) {
@@ -51,4 +47,13 @@ public class FrontendLogController {
                 frontendLogger.info(logMessage); // Default to info for unhandled levels
         }
     }
+
+    // Formats a frontend entry as a single backend log line
+    static String formatLogMessage(LogEntryDto logEntry) {
+        return String.format("FE_LOG - [%s] %s: %s (Context: %s)",
+                             logEntry.getTimestamp(),
+                             logEntry.getLevel(),
+                             logEntry.getMessage(),
+                             logEntry.getContext());
+    }
 }
@@ -0,0 +1,37 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.hrms.backend.entity.AttendanceStatus;
+
+/**
+ * One employee's attendance calendar for a month: the status of each day (null when unmarked) and the
+ * number of days with each status.
+ */
+public class AttendanceMonthDto {
+    private Integer year;
+    private Integer month;
+    private List<AttendanceStatus> days; // Element 0 is day 1
+    private Map<AttendanceStatus, Integer> counts;
+
+    // Constructors
+    public AttendanceMonthDto() {}
+
+    public AttendanceMonthDto(Integer year, Integer month, List<AttendanceStatus> days, Map<AttendanceStatus, Integer> counts) {
+        this.year = year;
+        this.month = month;
+        this.days = days;
+        this.counts = counts;
+    }
+
+    // Getters and Setters
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public List<AttendanceStatus> getDays() { return days; }
+    public void setDays(List<AttendanceStatus> days) { this.days = days; }
+    public Map<AttendanceStatus, Integer> getCounts() { return counts; }
+    public void setCounts(Map<AttendanceStatus, Integer> counts) { this.counts = counts; }
+}
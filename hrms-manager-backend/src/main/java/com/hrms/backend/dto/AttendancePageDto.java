@@ -0,0 +1,22 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+
+public class AttendancePageDto {
+    private List<AttendanceDto> records;
+    private String nextCursor; // Opaque token for the following page; null on the last page
+
+    // Constructors
+    public AttendancePageDto() {}
+
+    public AttendancePageDto(List<AttendanceDto> records, String nextCursor) {
+        this.records = records;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<AttendanceDto> getRecords() { return records; }
+    public void setRecords(List<AttendanceDto> records) { this.records = records; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
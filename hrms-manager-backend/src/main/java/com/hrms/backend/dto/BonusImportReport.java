@@ -0,0 +1,39 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+
+public class BonusImportReport {
+    private Integer totalRows;
+    private Integer importedRows;
+    private Integer rejectedRows;
+    private Integer affectedEmployeeMonths; // Distinct (employee, month) pairs among the imported rows
+    private Integer payslipsQueuedForRecalculation; // Of those, the ones that already had a payslip
+    private List<BonusImportRowResult> rows;
+
+    // Constructors
+    public BonusImportReport() {}
+
+    public BonusImportReport(Integer totalRows, Integer importedRows, Integer rejectedRows, Integer affectedEmployeeMonths,
+                             Integer payslipsQueuedForRecalculation, List<BonusImportRowResult> rows) {
+        this.totalRows = totalRows;
+        this.importedRows = importedRows;
+        this.rejectedRows = rejectedRows;
+        this.affectedEmployeeMonths = affectedEmployeeMonths;
+        this.payslipsQueuedForRecalculation = payslipsQueuedForRecalculation;
+        this.rows = rows;
+    }
+
+    // Getters and Setters
+    public Integer getTotalRows() { return totalRows; }
+    public void setTotalRows(Integer totalRows) { this.totalRows = totalRows; }
+    public Integer getImportedRows() { return importedRows; }
+    public void setImportedRows(Integer importedRows) { this.importedRows = importedRows; }
+    public Integer getRejectedRows() { return rejectedRows; }
+    public void setRejectedRows(Integer rejectedRows) { this.rejectedRows = rejectedRows; }
+    public Integer getAffectedEmployeeMonths() { return affectedEmployeeMonths; }
+    public void setAffectedEmployeeMonths(Integer affectedEmployeeMonths) { this.affectedEmployeeMonths = affectedEmployeeMonths; }
+    public Integer getPayslipsQueuedForRecalculation() { return payslipsQueuedForRecalculation; }
+    public void setPayslipsQueuedForRecalculation(Integer payslipsQueuedForRecalculation) { this.payslipsQueuedForRecalculation = payslipsQueuedForRecalculation; }
+    public List<BonusImportRowResult> getRows() { return rows; }
+    public void setRows(List<BonusImportRowResult> rows) { this.rows = rows; }
+}
@@ -0,0 +1,28 @@
+package com.hrms.backend.dto;
+
+public class BonusImportRowResult {
+    private Integer row; // 1-based data row (CSV header excluded) or array index + 1
+    private Long employeeId;
+    private String status; // IMPORTED or REJECTED
+    private String error;
+
+    // Constructors
+    public BonusImportRowResult() {}
+
+    public BonusImportRowResult(Integer row, Long employeeId, String status, String error) {
+        this.row = row;
+        this.employeeId = employeeId;
+        this.status = status;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public Integer getRow() { return row; }
+    public void setRow(Integer row) { this.row = row; }
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
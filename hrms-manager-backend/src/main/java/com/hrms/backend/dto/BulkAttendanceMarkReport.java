@@ -0,0 +1,49 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class BulkAttendanceMarkReport {
+    private LocalDate attendanceDate;
+    private Integer created;
+    private Integer updated;
+    private Integer unchanged; // Already marked with the requested status
+    private Integer skipped; // Already marked with another status and overwrite was off
+    private Integer rejected;
+    private Integer payslipsQueuedForRecalculation;
+    private List<BulkAttendanceMarkResult> results;
+
+    // Constructors
+    public BulkAttendanceMarkReport() {}
+
+    public BulkAttendanceMarkReport(LocalDate attendanceDate, Integer created, Integer updated, Integer unchanged,
+                                    Integer skipped, Integer rejected, Integer payslipsQueuedForRecalculation,
+                                    List<BulkAttendanceMarkResult> results) {
+        this.attendanceDate = attendanceDate;
+        this.created = created;
+        this.updated = updated;
+        this.unchanged = unchanged;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.payslipsQueuedForRecalculation = payslipsQueuedForRecalculation;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public LocalDate getAttendanceDate() { return attendanceDate; }
+    public void setAttendanceDate(LocalDate attendanceDate) { this.attendanceDate = attendanceDate; }
+    public Integer getCreated() { return created; }
+    public void setCreated(Integer created) { this.created = created; }
+    public Integer getUpdated() { return updated; }
+    public void setUpdated(Integer updated) { this.updated = updated; }
+    public Integer getUnchanged() { return unchanged; }
+    public void setUnchanged(Integer unchanged) { this.unchanged = unchanged; }
+    public Integer getSkipped() { return skipped; }
+    public void setSkipped(Integer skipped) { this.skipped = skipped; }
+    public Integer getRejected() { return rejected; }
+    public void setRejected(Integer rejected) { this.rejected = rejected; }
+    public Integer getPayslipsQueuedForRecalculation() { return payslipsQueuedForRecalculation; }
+    public void setPayslipsQueuedForRecalculation(Integer payslipsQueuedForRecalculation) { this.payslipsQueuedForRecalculation = payslipsQueuedForRecalculation; }
+    public List<BulkAttendanceMarkResult> getResults() { return results; }
+    public void setResults(List<BulkAttendanceMarkResult> results) { this.results = results; }
+}
@@ -0,0 +1,30 @@
+package com.hrms.backend.dto;
+
+import com.hrms.backend.entity.AttendanceStatus;
+
+public class BulkAttendanceMarkResult {
+    private Long employeeId;
+    private AttendanceStatus status; // The requested status
+    private String outcome; // CREATED, UPDATED, UNCHANGED, SKIPPED or REJECTED
+    private String error; // Why the entry was skipped or rejected
+
+    // Constructors
+    public BulkAttendanceMarkResult() {}
+
+    public BulkAttendanceMarkResult(Long employeeId, AttendanceStatus status, String outcome, String error) {
+        this.employeeId = employeeId;
+        this.status = status;
+        this.outcome = outcome;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public AttendanceStatus getStatus() { return status; }
+    public void setStatus(AttendanceStatus status) { this.status = status; }
+    public String getOutcome() { return outcome; }
+    public void setOutcome(String outcome) { this.outcome = outcome; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,38 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.hrms.backend.entity.AttendanceStatus;
+
+public class BulkMarkAttendanceRequest {
+    private LocalDate attendanceDate; // Required; applies to every entry
+    private List<MarkAttendanceRequest> entries; // Either entries (employeeId and status each)...
+    private String department; // ...or a department, whose employees all get the status below
+    private AttendanceStatus status; // Required with department
+    private Boolean overwrite; // Replace existing marks of the date instead of skipping them; default false
+
+    // Constructors
+    public BulkMarkAttendanceRequest() {}
+
+    public BulkMarkAttendanceRequest(LocalDate attendanceDate, List<MarkAttendanceRequest> entries, String department,
+                                     AttendanceStatus status, Boolean overwrite) {
+        this.attendanceDate = attendanceDate;
+        this.entries = entries;
+        this.department = department;
+        this.status = status;
+        this.overwrite = overwrite;
+    }
+
+    // Getters and Setters
+    public LocalDate getAttendanceDate() { return attendanceDate; }
+    public void setAttendanceDate(LocalDate attendanceDate) { this.attendanceDate = attendanceDate; }
+    public List<MarkAttendanceRequest> getEntries() { return entries; }
+    public void setEntries(List<MarkAttendanceRequest> entries) { this.entries = entries; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public AttendanceStatus getStatus() { return status; }
+    public void setStatus(AttendanceStatus status) { this.status = status; }
+    public Boolean getOverwrite() { return overwrite; }
+    public void setOverwrite(Boolean overwrite) { this.overwrite = overwrite; }
+}
@@ -0,0 +1,26 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDate;
+
+public class HolidayDto {
+    private Long id;
+    private LocalDate holidayDate;
+    private String name;
+
+    // Constructors
+    public HolidayDto() {}
+
+    public HolidayDto(Long id, LocalDate holidayDate, String name) {
+        this.id = id;
+        this.holidayDate = holidayDate;
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public LocalDate getHolidayDate() { return holidayDate; }
+    public void setHolidayDate(LocalDate holidayDate) { this.holidayDate = holidayDate; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,30 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class HolidayRequest {
+    @NotNull(message = "Holiday date is required")
+    private LocalDate holidayDate;
+
+    @NotBlank(message = "Holiday name is required")
+    @Size(max = 100, message = "Holiday name cannot exceed 100 characters")
+    private String name;
+
+    // Constructors
+    public HolidayRequest() {}
+
+    public HolidayRequest(LocalDate holidayDate, String name) {
+        this.holidayDate = holidayDate;
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public LocalDate getHolidayDate() { return holidayDate; }
+    public void setHolidayDate(LocalDate holidayDate) { this.holidayDate = holidayDate; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,32 @@
+package com.hrms.backend.dto;
+
+public class PayrollChunkFailure {
+    private Integer chunkIndex;
+    private Long firstEmployeeId;
+    private Long lastEmployeeId;
+    private Integer employeeCount;
+    private String error;
+
+    // Constructors
+    public PayrollChunkFailure() {}
+
+    public PayrollChunkFailure(Integer chunkIndex, Long firstEmployeeId, Long lastEmployeeId, Integer employeeCount, String error) {
+        this.chunkIndex = chunkIndex;
+        this.firstEmployeeId = firstEmployeeId;
+        this.lastEmployeeId = lastEmployeeId;
+        this.employeeCount = employeeCount;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public Integer getChunkIndex() { return chunkIndex; }
+    public void setChunkIndex(Integer chunkIndex) { this.chunkIndex = chunkIndex; }
+    public Long getFirstEmployeeId() { return firstEmployeeId; }
+    public void setFirstEmployeeId(Long firstEmployeeId) { this.firstEmployeeId = firstEmployeeId; }
+    public Long getLastEmployeeId() { return lastEmployeeId; }
+    public void setLastEmployeeId(Long lastEmployeeId) { this.lastEmployeeId = lastEmployeeId; }
+    public Integer getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(Integer employeeCount) { this.employeeCount = employeeCount; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,39 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+
+public class PayrollDryRunDto {
+    private Integer month;
+    private Integer year;
+    private PayrollRuleSetDto ruleSet;
+    private PayrollTotalsDto totals;
+    private List<PayrollTotalsDto> departments;
+    private Long elapsedMillis;
+
+    // Constructors
+    public PayrollDryRunDto() {}
+
+    public PayrollDryRunDto(Integer month, Integer year, PayrollRuleSetDto ruleSet, PayrollTotalsDto totals,
+                            List<PayrollTotalsDto> departments, Long elapsedMillis) {
+        this.month = month;
+        this.year = year;
+        this.ruleSet = ruleSet;
+        this.totals = totals;
+        this.departments = departments;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    // Getters and Setters
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public PayrollRuleSetDto getRuleSet() { return ruleSet; }
+    public void setRuleSet(PayrollRuleSetDto ruleSet) { this.ruleSet = ruleSet; }
+    public PayrollTotalsDto getTotals() { return totals; }
+    public void setTotals(PayrollTotalsDto totals) { this.totals = totals; }
+    public List<PayrollTotalsDto> getDepartments() { return departments; }
+    public void setDepartments(List<PayrollTotalsDto> departments) { this.departments = departments; }
+    public Long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(Long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,35 @@
+package com.hrms.backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class PayrollDryRunRequest {
+    @NotNull(message = "Month is required")
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer month;
+
+    @NotNull(message = "Year is required")
+    @Min(value = 2000, message = "Year must be a valid year")
+    private Integer year;
+
+    private Long ruleSetId; // Optional; the active rule set when omitted
+
+    // Constructors
+    public PayrollDryRunRequest() {}
+
+    public PayrollDryRunRequest(Integer month, Integer year, Long ruleSetId) {
+        this.month = month;
+        this.year = year;
+        this.ruleSetId = ruleSetId;
+    }
+
+    // Getters and Setters
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Long getRuleSetId() { return ruleSetId; }
+    public void setRuleSetId(Long ruleSetId) { this.ruleSetId = ruleSetId; }
+}
@@ -0,0 +1,36 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class PayrollMonthSummaryDto {
+    private Integer month;
+    private Integer year;
+    private PayrollTotalsDto totals;
+    private List<PayrollTotalsDto> departments;
+    private LocalDateTime updatedAt; // Latest change to any department; null when the month has no payslips
+
+    // Constructors
+    public PayrollMonthSummaryDto() {}
+
+    public PayrollMonthSummaryDto(Integer month, Integer year, PayrollTotalsDto totals, List<PayrollTotalsDto> departments,
+                                  LocalDateTime updatedAt) {
+        this.month = month;
+        this.year = year;
+        this.totals = totals;
+        this.departments = departments;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public PayrollTotalsDto getTotals() { return totals; }
+    public void setTotals(PayrollTotalsDto totals) { this.totals = totals; }
+    public List<PayrollTotalsDto> getDepartments() { return departments; }
+    public void setDepartments(List<PayrollTotalsDto> departments) { this.departments = departments; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,52 @@
+package com.hrms.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class PayrollRuleSetDto {
+    private Long id;
+    private Integer version;
+    private String name;
+    private BigDecimal taxPercentage;
+    private BigDecimal pfPercentage;
+    private Integer standardWorkingDaysPerMonth;
+    private Boolean active;
+    private LocalDateTime createdAt;
+    private String createdBy;
+
+    // Constructors
+    public PayrollRuleSetDto() {}
+
+    public PayrollRuleSetDto(Long id, Integer version, String name, BigDecimal taxPercentage, BigDecimal pfPercentage,
+                             Integer standardWorkingDaysPerMonth, Boolean active, LocalDateTime createdAt, String createdBy) {
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.taxPercentage = taxPercentage;
+        this.pfPercentage = pfPercentage;
+        this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.createdBy = createdBy;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public BigDecimal getTaxPercentage() { return taxPercentage; }
+    public void setTaxPercentage(BigDecimal taxPercentage) { this.taxPercentage = taxPercentage; }
+    public BigDecimal getPfPercentage() { return pfPercentage; }
+    public void setPfPercentage(BigDecimal pfPercentage) { this.pfPercentage = pfPercentage; }
+    public Integer getStandardWorkingDaysPerMonth() { return standardWorkingDaysPerMonth; }
+    public void setStandardWorkingDaysPerMonth(Integer standardWorkingDaysPerMonth) { this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth; }
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public String getCreatedBy() { return createdBy; }
+    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+}
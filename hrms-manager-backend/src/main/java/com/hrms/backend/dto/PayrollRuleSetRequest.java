@@ -0,0 +1,58 @@
+package com.hrms.backend.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class PayrollRuleSetRequest {
+    @NotBlank(message = "Rule set name is required")
+    @Size(max = 100, message = "Rule set name cannot exceed 100 characters")
+    private String name;
+
+    @NotNull(message = "Tax percentage is required")
+    @DecimalMin(value = "0.0", message = "Tax percentage cannot be negative")
+    @DecimalMax(value = "1.0", message = "Tax percentage is a fraction, e.g. 0.10 for 10%")
+    private BigDecimal taxPercentage;
+
+    @NotNull(message = "PF percentage is required")
+    @DecimalMin(value = "0.0", message = "PF percentage cannot be negative")
+    @DecimalMax(value = "1.0", message = "PF percentage is a fraction, e.g. 0.12 for 12%")
+    private BigDecimal pfPercentage;
+
+    @NotNull(message = "Standard working days per month is required")
+    @Min(value = 1, message = "Standard working days must be between 1 and 31")
+    @Max(value = 31, message = "Standard working days must be between 1 and 31")
+    private Integer standardWorkingDaysPerMonth;
+
+    private boolean activate; // Make this version the active one right away
+
+    // Constructors
+    public PayrollRuleSetRequest() {}
+
+    public PayrollRuleSetRequest(String name, BigDecimal taxPercentage, BigDecimal pfPercentage,
+                                 Integer standardWorkingDaysPerMonth, boolean activate) {
+        this.name = name;
+        this.taxPercentage = taxPercentage;
+        this.pfPercentage = pfPercentage;
+        this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth;
+        this.activate = activate;
+    }
+
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public BigDecimal getTaxPercentage() { return taxPercentage; }
+    public void setTaxPercentage(BigDecimal taxPercentage) { this.taxPercentage = taxPercentage; }
+    public BigDecimal getPfPercentage() { return pfPercentage; }
+    public void setPfPercentage(BigDecimal pfPercentage) { this.pfPercentage = pfPercentage; }
+    public Integer getStandardWorkingDaysPerMonth() { return standardWorkingDaysPerMonth; }
+    public void setStandardWorkingDaysPerMonth(Integer standardWorkingDaysPerMonth) { this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth; }
+    public boolean isActivate() { return activate; }
+    public void setActivate(boolean activate) { this.activate = activate; }
+}
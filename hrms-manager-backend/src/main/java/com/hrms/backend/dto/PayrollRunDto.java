@@ -0,0 +1,81 @@
+package com.hrms.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class PayrollRunDto {
+    private Long id;
+    private Integer month;
+    private Integer year;
+    private String status;
+    private Integer totalEmployees;
+    private Integer processedEmployees;
+    private Integer failedEmployees;
+    private Integer totalChunks;
+    private Integer completedChunks;
+    private Boolean cancelRequested;
+    private String errors;
+    private String requestedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message; // Human readable summary, shown by the payroll page
+
+    // Constructors
+    public PayrollRunDto() {}
+
+    public PayrollRunDto(Long id, Integer month, Integer year, String status, Integer totalEmployees,
+                         Integer processedEmployees, Integer failedEmployees, Integer totalChunks,
+                         Integer completedChunks, Boolean cancelRequested, String errors, String requestedBy,
+                         LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt, String message) {
+        this.id = id;
+        this.month = month;
+        this.year = year;
+        this.status = status;
+        this.totalEmployees = totalEmployees;
+        this.processedEmployees = processedEmployees;
+        this.failedEmployees = failedEmployees;
+        this.totalChunks = totalChunks;
+        this.completedChunks = completedChunks;
+        this.cancelRequested = cancelRequested;
+        this.errors = errors;
+        this.requestedBy = requestedBy;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Integer getTotalEmployees() { return totalEmployees; }
+    public void setTotalEmployees(Integer totalEmployees) { this.totalEmployees = totalEmployees; }
+    public Integer getProcessedEmployees() { return processedEmployees; }
+    public void setProcessedEmployees(Integer processedEmployees) { this.processedEmployees = processedEmployees; }
+    public Integer getFailedEmployees() { return failedEmployees; }
+    public void setFailedEmployees(Integer failedEmployees) { this.failedEmployees = failedEmployees; }
+    public Integer getTotalChunks() { return totalChunks; }
+    public void setTotalChunks(Integer totalChunks) { this.totalChunks = totalChunks; }
+    public Integer getCompletedChunks() { return completedChunks; }
+    public void setCompletedChunks(Integer completedChunks) { this.completedChunks = completedChunks; }
+    public Boolean getCancelRequested() { return cancelRequested; }
+    public void setCancelRequested(Boolean cancelRequested) { this.cancelRequested = cancelRequested; }
+    public String getErrors() { return errors; }
+    public void setErrors(String errors) { this.errors = errors; }
+    public String getRequestedBy() { return requestedBy; }
+    public void setRequestedBy(String requestedBy) { this.requestedBy = requestedBy; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
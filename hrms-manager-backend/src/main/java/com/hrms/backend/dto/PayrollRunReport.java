@@ -0,0 +1,45 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+
+public class PayrollRunReport {
+    private Integer month;
+    private Integer year;
+    private Integer totalEmployees;
+    private Integer processedEmployees;
+    private Integer chunkCount;
+    private List<PayrollChunkFailure> failedChunks;
+    private Integer resumedEmployees = 0; // Already committed before a restart, included in processedEmployees
+    private boolean cancelled;
+
+    // Constructors
+    public PayrollRunReport() {}
+
+    public PayrollRunReport(Integer month, Integer year, Integer totalEmployees, Integer processedEmployees,
+                            Integer chunkCount, List<PayrollChunkFailure> failedChunks) {
+        this.month = month;
+        this.year = year;
+        this.totalEmployees = totalEmployees;
+        this.processedEmployees = processedEmployees;
+        this.chunkCount = chunkCount;
+        this.failedChunks = failedChunks;
+    }
+
+    // Getters and Setters
+    public Integer getMonth() { return month; }
+    public void setMonth(Integer month) { this.month = month; }
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Integer getTotalEmployees() { return totalEmployees; }
+    public void setTotalEmployees(Integer totalEmployees) { this.totalEmployees = totalEmployees; }
+    public Integer getProcessedEmployees() { return processedEmployees; }
+    public void setProcessedEmployees(Integer processedEmployees) { this.processedEmployees = processedEmployees; }
+    public Integer getChunkCount() { return chunkCount; }
+    public void setChunkCount(Integer chunkCount) { this.chunkCount = chunkCount; }
+    public List<PayrollChunkFailure> getFailedChunks() { return failedChunks; }
+    public void setFailedChunks(List<PayrollChunkFailure> failedChunks) { this.failedChunks = failedChunks; }
+    public Integer getResumedEmployees() { return resumedEmployees; }
+    public void setResumedEmployees(Integer resumedEmployees) { this.resumedEmployees = resumedEmployees; }
+    public boolean isCancelled() { return cancelled; }
+    public void setCancelled(boolean cancelled) { this.cancelled = cancelled; }
+}
@@ -0,0 +1,52 @@
+package com.hrms.backend.dto;
+
+import java.math.BigDecimal;
+
+public class PayrollTotalsDto {
+    private String department; // null for the company-wide totals
+    private Integer employeeCount;
+    private BigDecimal totalBaseSalary;
+    private BigDecimal totalBonus;
+    private BigDecimal totalGrossSalary;
+    private BigDecimal totalAttendanceDeduction;
+    private BigDecimal totalTaxDeduction;
+    private BigDecimal totalPfDeduction;
+    private BigDecimal totalNetSalary;
+
+    // Constructors
+    public PayrollTotalsDto() {}
+
+    public PayrollTotalsDto(String department, Integer employeeCount, BigDecimal totalBaseSalary, BigDecimal totalBonus,
+                            BigDecimal totalGrossSalary, BigDecimal totalAttendanceDeduction, BigDecimal totalTaxDeduction,
+                            BigDecimal totalPfDeduction, BigDecimal totalNetSalary) {
+        this.department = department;
+        this.employeeCount = employeeCount;
+        this.totalBaseSalary = totalBaseSalary;
+        this.totalBonus = totalBonus;
+        this.totalGrossSalary = totalGrossSalary;
+        this.totalAttendanceDeduction = totalAttendanceDeduction;
+        this.totalTaxDeduction = totalTaxDeduction;
+        this.totalPfDeduction = totalPfDeduction;
+        this.totalNetSalary = totalNetSalary;
+    }
+
+    // Getters and Setters
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Integer getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(Integer employeeCount) { this.employeeCount = employeeCount; }
+    public BigDecimal getTotalBaseSalary() { return totalBaseSalary; }
+    public void setTotalBaseSalary(BigDecimal totalBaseSalary) { this.totalBaseSalary = totalBaseSalary; }
+    public BigDecimal getTotalBonus() { return totalBonus; }
+    public void setTotalBonus(BigDecimal totalBonus) { this.totalBonus = totalBonus; }
+    public BigDecimal getTotalGrossSalary() { return totalGrossSalary; }
+    public void setTotalGrossSalary(BigDecimal totalGrossSalary) { this.totalGrossSalary = totalGrossSalary; }
+    public BigDecimal getTotalAttendanceDeduction() { return totalAttendanceDeduction; }
+    public void setTotalAttendanceDeduction(BigDecimal totalAttendanceDeduction) { this.totalAttendanceDeduction = totalAttendanceDeduction; }
+    public BigDecimal getTotalTaxDeduction() { return totalTaxDeduction; }
+    public void setTotalTaxDeduction(BigDecimal totalTaxDeduction) { this.totalTaxDeduction = totalTaxDeduction; }
+    public BigDecimal getTotalPfDeduction() { return totalPfDeduction; }
+    public void setTotalPfDeduction(BigDecimal totalPfDeduction) { this.totalPfDeduction = totalPfDeduction; }
+    public BigDecimal getTotalNetSalary() { return totalNetSalary; }
+    public void setTotalNetSalary(BigDecimal totalNetSalary) { this.totalNetSalary = totalNetSalary; }
+}
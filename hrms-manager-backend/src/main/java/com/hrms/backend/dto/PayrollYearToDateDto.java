@@ -0,0 +1,42 @@
+package com.hrms.backend.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * An employee's year-to-date payroll totals, as of their last payslip of the year.
+ */
+public class PayrollYearToDateDto {
+    private Integer year;
+    private Integer throughMonth; // Month of the payslip the totals were read from
+    private BigDecimal grossSalary;
+    private BigDecimal taxDeduction;
+    private BigDecimal pfDeduction;
+    private BigDecimal netSalary;
+
+    // Constructors
+    public PayrollYearToDateDto() {}
+
+    public PayrollYearToDateDto(Integer year, Integer throughMonth, BigDecimal grossSalary, BigDecimal taxDeduction,
+                                BigDecimal pfDeduction, BigDecimal netSalary) {
+        this.year = year;
+        this.throughMonth = throughMonth;
+        this.grossSalary = grossSalary;
+        this.taxDeduction = taxDeduction;
+        this.pfDeduction = pfDeduction;
+        this.netSalary = netSalary;
+    }
+
+    // Getters and Setters
+    public Integer getYear() { return year; }
+    public void setYear(Integer year) { this.year = year; }
+    public Integer getThroughMonth() { return throughMonth; }
+    public void setThroughMonth(Integer throughMonth) { this.throughMonth = throughMonth; }
+    public BigDecimal getGrossSalary() { return grossSalary; }
+    public void setGrossSalary(BigDecimal grossSalary) { this.grossSalary = grossSalary; }
+    public BigDecimal getTaxDeduction() { return taxDeduction; }
+    public void setTaxDeduction(BigDecimal taxDeduction) { this.taxDeduction = taxDeduction; }
+    public BigDecimal getPfDeduction() { return pfDeduction; }
+    public void setPfDeduction(BigDecimal pfDeduction) { this.pfDeduction = pfDeduction; }
+    public BigDecimal getNetSalary() { return netSalary; }
+    public void setNetSalary(BigDecimal netSalary) { this.netSalary = netSalary; }
+}
@@ -0,0 +1,23 @@
+package com.hrms.backend.dto;
+
+/**
+ * ETag and Last-Modified of a payslip response, for conditional GETs.
+ */
+public class PayslipCacheValidators {
+    private String etag;
+    private long lastModified; // Epoch milliseconds
+
+    // Constructors
+    public PayslipCacheValidators() {}
+
+    public PayslipCacheValidators(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    // Getters and Setters
+    public String getEtag() { return etag; }
+    public void setEtag(String etag) { this.etag = etag; }
+    public long getLastModified() { return lastModified; }
+    public void setLastModified(long lastModified) { this.lastModified = lastModified; }
+}
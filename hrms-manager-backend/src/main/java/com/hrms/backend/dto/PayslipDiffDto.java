@@ -0,0 +1,30 @@
+package com.hrms.backend.dto;
+
+import java.util.List;
+
+public class PayslipDiffDto {
+    private Long employeeId;
+    private String employeeIdNumber;
+    private String change; // ADDED, REMOVED or CHANGED
+    private List<PayslipFieldDiffDto> fields; // Only the fields that differ
+
+    // Constructors
+    public PayslipDiffDto() {}
+
+    public PayslipDiffDto(Long employeeId, String employeeIdNumber, String change, List<PayslipFieldDiffDto> fields) {
+        this.employeeId = employeeId;
+        this.employeeIdNumber = employeeIdNumber;
+        this.change = change;
+        this.fields = fields;
+    }
+
+    // Getters and Setters
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public String getEmployeeIdNumber() { return employeeIdNumber; }
+    public void setEmployeeIdNumber(String employeeIdNumber) { this.employeeIdNumber = employeeIdNumber; }
+    public String getChange() { return change; }
+    public void setChange(String change) { this.change = change; }
+    public List<PayslipFieldDiffDto> getFields() { return fields; }
+    public void setFields(List<PayslipFieldDiffDto> fields) { this.fields = fields; }
+}
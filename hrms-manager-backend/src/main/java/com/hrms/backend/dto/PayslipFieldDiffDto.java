@@ -0,0 +1,30 @@
+package com.hrms.backend.dto;
+
+import java.math.BigDecimal;
+
+public class PayslipFieldDiffDto {
+    private String field;
+    private BigDecimal from; // null when the employee has no payslip on that side
+    private BigDecimal to;
+    private BigDecimal delta; // to - from, a missing side counted as zero
+
+    // Constructors
+    public PayslipFieldDiffDto() {}
+
+    public PayslipFieldDiffDto(String field, BigDecimal from, BigDecimal to, BigDecimal delta) {
+        this.field = field;
+        this.from = from;
+        this.to = to;
+        this.delta = delta;
+    }
+
+    // Getters and Setters
+    public String getField() { return field; }
+    public void setField(String field) { this.field = field; }
+    public BigDecimal getFrom() { return from; }
+    public void setFrom(BigDecimal from) { this.from = from; }
+    public BigDecimal getTo() { return to; }
+    public void setTo(BigDecimal to) { this.to = to; }
+    public BigDecimal getDelta() { return delta; }
+    public void setDelta(BigDecimal delta) { this.delta = delta; }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,6 +24,10 @@ import jakarta.persistence.UniqueConstraint;
 @Table(name = "attendance",
         uniqueConstraints = {
             @UniqueConstraint(columnNames = {"employee_id", "attendance_date"}) // Ensures one attendance record per employee per day
+        },
+        indexes = {
+            // Keyset pages of the admin listing, newest date first (the unique constraint leads with employee_id)
+            @Index(name = "idx_attendance_date", columnList = "attendance_date")
         })
 public class Attendance {
 
@@ -9,12 +9,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "bonuses")
+@Table(name = "bonuses", indexes = {
+        // Single-employee lookups (payslip recalculation)
+        @Index(name = "idx_bonuses_employee_period", columnList = "employee_id, year, month"),
+        // Whole-month totals grouped by employee (bulk payroll run)
+        @Index(name = "idx_bonuses_period_employee", columnList = "year, month, employee_id")
+})
 public class Bonus {
 
     @Id
@@ -0,0 +1,41 @@
+package com.hrms.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "holidays")
+public class Holiday {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name; // e.g., "Independence Day"
+
+    // Constructors
+    public Holiday() {}
+
+    public Holiday(LocalDate holidayDate, String name) {
+        this.holidayDate = holidayDate;
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public LocalDate getHolidayDate() { return holidayDate; }
+    public void setHolidayDate(LocalDate holidayDate) { this.holidayDate = holidayDate; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,44 @@
+package com.hrms.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Held payroll month lock on databases without advisory locks (see PayrollMonthLock). The primary key
+ * makes a second insert for the same month fail, so at most one node holds it.
+ */
+@Entity
+@Table(name = "payroll_locks")
+public class PayrollLock {
+
+    @Id
+    @Column(length = 20)
+    private String lockKey; // yyyy-MM
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime acquiredAt;
+
+    // Constructors
+    public PayrollLock() {}
+
+    public PayrollLock(String lockKey, String owner, LocalDateTime acquiredAt) {
+        this.lockKey = lockKey;
+        this.owner = owner;
+        this.acquiredAt = acquiredAt;
+    }
+
+    // Getters and Setters
+    public String getLockKey() { return lockKey; }
+    public void setLockKey(String lockKey) { this.lockKey = lockKey; }
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+    public LocalDateTime getAcquiredAt() { return acquiredAt; }
+    public void setAcquiredAt(LocalDateTime acquiredAt) { this.acquiredAt = acquiredAt; }
+}
@@ -0,0 +1,100 @@
+package com.hrms.backend.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Payroll totals of one department for one month, kept up to date as payslips are written so dashboards
+ * read one row per department instead of aggregating the month's payslips.
+ */
+@Entity
+@Table(name = "payroll_month_summary", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"pay_period_year", "pay_period_month", "department"})
+})
+public class PayrollMonthSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pay_period_year", nullable = false)
+    private Integer payPeriodYear;
+
+    @Column(name = "pay_period_month", nullable = false)
+    private Integer payPeriodMonth;
+
+    @Column(nullable = false, length = 100) // "Unassigned" for payslips without a department
+    private String department;
+
+    @Column(nullable = false)
+    private Integer headcount = 0;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBaseSalary = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalBonus = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalGrossSalary = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAttendanceDeduction = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalTaxDeduction = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPfDeduction = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalNetSalary = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PayrollMonthSummary() {}
+
+    public PayrollMonthSummary(Integer payPeriodYear, Integer payPeriodMonth, String department) {
+        this.payPeriodYear = payPeriodYear;
+        this.payPeriodMonth = payPeriodMonth;
+        this.department = department;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getPayPeriodYear() { return payPeriodYear; }
+    public void setPayPeriodYear(Integer payPeriodYear) { this.payPeriodYear = payPeriodYear; }
+    public Integer getPayPeriodMonth() { return payPeriodMonth; }
+    public void setPayPeriodMonth(Integer payPeriodMonth) { this.payPeriodMonth = payPeriodMonth; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Integer getHeadcount() { return headcount; }
+    public void setHeadcount(Integer headcount) { this.headcount = headcount; }
+    public BigDecimal getTotalBaseSalary() { return totalBaseSalary; }
+    public void setTotalBaseSalary(BigDecimal totalBaseSalary) { this.totalBaseSalary = totalBaseSalary; }
+    public BigDecimal getTotalBonus() { return totalBonus; }
+    public void setTotalBonus(BigDecimal totalBonus) { this.totalBonus = totalBonus; }
+    public BigDecimal getTotalGrossSalary() { return totalGrossSalary; }
+    public void setTotalGrossSalary(BigDecimal totalGrossSalary) { this.totalGrossSalary = totalGrossSalary; }
+    public BigDecimal getTotalAttendanceDeduction() { return totalAttendanceDeduction; }
+    public void setTotalAttendanceDeduction(BigDecimal totalAttendanceDeduction) { this.totalAttendanceDeduction = totalAttendanceDeduction; }
+    public BigDecimal getTotalTaxDeduction() { return totalTaxDeduction; }
+    public void setTotalTaxDeduction(BigDecimal totalTaxDeduction) { this.totalTaxDeduction = totalTaxDeduction; }
+    public BigDecimal getTotalPfDeduction() { return totalPfDeduction; }
+    public void setTotalPfDeduction(BigDecimal totalPfDeduction) { this.totalPfDeduction = totalPfDeduction; }
+    public BigDecimal getTotalNetSalary() { return totalNetSalary; }
+    public void setTotalNetSalary(BigDecimal totalNetSalary) { this.totalNetSalary = totalNetSalary; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,82 @@
+package com.hrms.backend.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Versioned payroll rates. A rule set is never edited after creation; a change is a new version,
+ * and exactly one version is active for payroll runs.
+ */
+@Entity
+@Table(name = "payroll_rule_sets")
+public class PayrollRuleSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Integer version;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, precision = 7, scale = 4)
+    private BigDecimal taxPercentage; // 0.10 = 10%
+
+    @Column(nullable = false, precision = 7, scale = 4)
+    private BigDecimal pfPercentage; // 0.12 = 12%
+
+    @Column(nullable = false)
+    private Integer standardWorkingDaysPerMonth;
+
+    @Column(nullable = false)
+    private Boolean active = false;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false, length = 100)
+    private String createdBy;
+
+    // Constructors
+    public PayrollRuleSet() {}
+
+    public PayrollRuleSet(Integer version, String name, BigDecimal taxPercentage, BigDecimal pfPercentage,
+                          Integer standardWorkingDaysPerMonth, String createdBy) {
+        this.version = version;
+        this.name = name;
+        this.taxPercentage = taxPercentage;
+        this.pfPercentage = pfPercentage;
+        this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth;
+        this.createdBy = createdBy;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getVersion() { return version; }
+    public void setVersion(Integer version) { this.version = version; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public BigDecimal getTaxPercentage() { return taxPercentage; }
+    public void setTaxPercentage(BigDecimal taxPercentage) { this.taxPercentage = taxPercentage; }
+    public BigDecimal getPfPercentage() { return pfPercentage; }
+    public void setPfPercentage(BigDecimal pfPercentage) { this.pfPercentage = pfPercentage; }
+    public Integer getStandardWorkingDaysPerMonth() { return standardWorkingDaysPerMonth; }
+    public void setStandardWorkingDaysPerMonth(Integer standardWorkingDaysPerMonth) { this.standardWorkingDaysPerMonth = standardWorkingDaysPerMonth; }
+    public Boolean getActive() { return active; }
+    public void setActive(Boolean active) { this.active = active; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public String getCreatedBy() { return createdBy; }
+    public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }
+}
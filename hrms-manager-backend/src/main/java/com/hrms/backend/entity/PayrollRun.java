@@ -0,0 +1,126 @@
+package com.hrms.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "payroll_runs")
+public class PayrollRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pay_period_month", nullable = false)
+    private Integer payPeriodMonth; // 1-12
+
+    @Column(name = "pay_period_year", nullable = false)
+    private Integer payPeriodYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private PayrollRunStatus status;
+
+    @Column(nullable = false)
+    private Integer totalEmployees = 0;
+
+    @Column(nullable = false)
+    private Integer processedEmployees = 0;
+
+    @Column(nullable = false)
+    private Integer failedEmployees = 0;
+
+    @Column(nullable = false)
+    private Integer totalChunks = 0;
+
+    @Column(nullable = false)
+    private Integer completedChunks = 0;
+
+    @Column(columnDefinition = "TEXT") // One line per failed chunk
+    private String errorLog;
+
+    @Column(nullable = false)
+    private Boolean cancelRequested = false;
+
+    // Background runs (the month-end scheduler) pace their chunks against connection pool usage
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private Boolean throttled = false;
+
+    @Column(nullable = false, length = 100)
+    private String requestedBy; // e.g., "Admin System" or the admin's username
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // The instance executing an active run and when it last reported in; a stale heartbeat marks the run as orphaned
+    @Column(length = 36)
+    private String owner;
+
+    private LocalDateTime heartbeatAt;
+
+    // Constructors
+    public PayrollRun() {}
+
+    public PayrollRun(Integer payPeriodMonth, Integer payPeriodYear, String requestedBy) {
+        this.payPeriodMonth = payPeriodMonth;
+        this.payPeriodYear = payPeriodYear;
+        this.requestedBy = requestedBy;
+        this.status = PayrollRunStatus.QUEUED;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Integer getPayPeriodMonth() { return payPeriodMonth; }
+    public void setPayPeriodMonth(Integer payPeriodMonth) { this.payPeriodMonth = payPeriodMonth; }
+    public Integer getPayPeriodYear() { return payPeriodYear; }
+    public void setPayPeriodYear(Integer payPeriodYear) { this.payPeriodYear = payPeriodYear; }
+    public PayrollRunStatus getStatus() { return status; }
+    public void setStatus(PayrollRunStatus status) { this.status = status; }
+    public Integer getTotalEmployees() { return totalEmployees; }
+    public void setTotalEmployees(Integer totalEmployees) { this.totalEmployees = totalEmployees; }
+    public Integer getProcessedEmployees() { return processedEmployees; }
+    public void setProcessedEmployees(Integer processedEmployees) { this.processedEmployees = processedEmployees; }
+    public Integer getFailedEmployees() { return failedEmployees; }
+    public void setFailedEmployees(Integer failedEmployees) { this.failedEmployees = failedEmployees; }
+    public Integer getTotalChunks() { return totalChunks; }
+    public void setTotalChunks(Integer totalChunks) { this.totalChunks = totalChunks; }
+    public Integer getCompletedChunks() { return completedChunks; }
+    public void setCompletedChunks(Integer completedChunks) { this.completedChunks = completedChunks; }
+    public String getErrorLog() { return errorLog; }
+    public void setErrorLog(String errorLog) { this.errorLog = errorLog; }
+    public Boolean getCancelRequested() { return cancelRequested; }
+    public void setCancelRequested(Boolean cancelRequested) { this.cancelRequested = cancelRequested; }
+    public Boolean getThrottled() { return throttled; }
+    public void setThrottled(Boolean throttled) { this.throttled = throttled; }
+    public String getRequestedBy() { return requestedBy; }
+    public void setRequestedBy(String requestedBy) { this.requestedBy = requestedBy; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+    public LocalDateTime getHeartbeatAt() { return heartbeatAt; }
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) { this.heartbeatAt = heartbeatAt; }
+
+    public boolean isFinished() {
+        return status == PayrollRunStatus.COMPLETED || status == PayrollRunStatus.COMPLETED_WITH_ERRORS
+                || status == PayrollRunStatus.FAILED || status == PayrollRunStatus.CANCELLED;
+    }
+}
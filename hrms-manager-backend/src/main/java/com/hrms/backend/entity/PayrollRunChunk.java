@@ -0,0 +1,73 @@
+package com.hrms.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Checkpoint of one committed payroll chunk. Written in the same transaction as the chunk's payslips,
+ * so a checkpoint exists if and only if the chunk's payslips were committed.
+ */
+@Entity
+@Table(name = "payroll_run_chunks", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"payroll_run_id", "chunk_index"})
+})
+public class PayrollRunChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payroll_run_id", nullable = false)
+    private Long payrollRunId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(nullable = false)
+    private Long firstEmployeeId;
+
+    @Column(nullable = false)
+    private Long lastEmployeeId;
+
+    @Column(nullable = false)
+    private Integer employeeCount;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public PayrollRunChunk() {}
+
+    public PayrollRunChunk(Long payrollRunId, Integer chunkIndex, Long firstEmployeeId, Long lastEmployeeId,
+                           Integer employeeCount, LocalDateTime completedAt) {
+        this.payrollRunId = payrollRunId;
+        this.chunkIndex = chunkIndex;
+        this.firstEmployeeId = firstEmployeeId;
+        this.lastEmployeeId = lastEmployeeId;
+        this.employeeCount = employeeCount;
+        this.completedAt = completedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getPayrollRunId() { return payrollRunId; }
+    public void setPayrollRunId(Long payrollRunId) { this.payrollRunId = payrollRunId; }
+    public Integer getChunkIndex() { return chunkIndex; }
+    public void setChunkIndex(Integer chunkIndex) { this.chunkIndex = chunkIndex; }
+    public Long getFirstEmployeeId() { return firstEmployeeId; }
+    public void setFirstEmployeeId(Long firstEmployeeId) { this.firstEmployeeId = firstEmployeeId; }
+    public Long getLastEmployeeId() { return lastEmployeeId; }
+    public void setLastEmployeeId(Long lastEmployeeId) { this.lastEmployeeId = lastEmployeeId; }
+    public Integer getEmployeeCount() { return employeeCount; }
+    public void setEmployeeCount(Integer employeeCount) { this.employeeCount = employeeCount; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
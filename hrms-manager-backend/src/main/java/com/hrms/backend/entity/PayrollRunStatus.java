@@ -0,0 +1,10 @@
+package com.hrms.backend.entity;
+
+public enum PayrollRunStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	COMPLETED_WITH_ERRORS, // Some chunks failed and were rolled back, the rest committed
+	FAILED,
+	CANCELLED
+}
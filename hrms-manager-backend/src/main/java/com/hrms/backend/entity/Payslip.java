@@ -73,6 +73,19 @@ public class Payslip {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal netSalary;
 
+    // Running totals of the employee's payslips from January through this month; maintained by PayslipYtdWriter
+    @Column(precision = 19, scale = 2)
+    private BigDecimal ytdGrossSalary;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal ytdTaxDeduction;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal ytdPfDeduction;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal ytdNetSalary;
+
     @Column(nullable = false)
     private LocalDateTime generationDate;
 
@@ -80,6 +93,21 @@ public class Payslip {
     @Column(nullable = false, length = 100)
     private String generatedBy; // e.g., "Admin System" or "Super Admin"
 
+    // Employee's department when the payslip was written; keys the monthly payroll summary
+    @Column(length = 100)
+    private String department;
+
+    // Hash of the inputs the figures were computed from (see PayslipFingerprint); null for payslips written before it existed
+    @Column(name = "input_fingerprint")
+    private Long inputFingerprint;
+
+    @Column(name = "payroll_run_id") // Run that last wrote this payslip; null for single-employee recalculations
+    private Long payrollRunId;
+
+    // Set when attendance, leave or bonus inputs change after generation; cleared by the recalculation
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private Boolean dirty = false;
+
     // Constructors
     public Payslip() {}
 
@@ -144,8 +172,24 @@ public class Payslip {
     public void setBonusAmount(BigDecimal bonusAmount) { this.bonusAmount = bonusAmount; }
     public BigDecimal getNetSalary() { return netSalary; }
     public void setNetSalary(BigDecimal netSalary) { this.netSalary = netSalary; }
+    public BigDecimal getYtdGrossSalary() { return ytdGrossSalary; }
+    public void setYtdGrossSalary(BigDecimal ytdGrossSalary) { this.ytdGrossSalary = ytdGrossSalary; }
+    public BigDecimal getYtdTaxDeduction() { return ytdTaxDeduction; }
+    public void setYtdTaxDeduction(BigDecimal ytdTaxDeduction) { this.ytdTaxDeduction = ytdTaxDeduction; }
+    public BigDecimal getYtdPfDeduction() { return ytdPfDeduction; }
+    public void setYtdPfDeduction(BigDecimal ytdPfDeduction) { this.ytdPfDeduction = ytdPfDeduction; }
+    public BigDecimal getYtdNetSalary() { return ytdNetSalary; }
+    public void setYtdNetSalary(BigDecimal ytdNetSalary) { this.ytdNetSalary = ytdNetSalary; }
     public LocalDateTime getGenerationDate() { return generationDate; }
     public void setGenerationDate(LocalDateTime generationDate) { this.generationDate = generationDate; }
     public String getGeneratedBy() { return generatedBy; }
     public void setGeneratedBy(String generatedBy) { this.generatedBy = generatedBy; }
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    public Long getInputFingerprint() { return inputFingerprint; }
+    public void setInputFingerprint(Long inputFingerprint) { this.inputFingerprint = inputFingerprint; }
+    public Long getPayrollRunId() { return payrollRunId; }
+    public void setPayrollRunId(Long payrollRunId) { this.payrollRunId = payrollRunId; }
+    public Boolean getDirty() { return dirty; }
+    public void setDirty(Boolean dirty) { this.dirty = dirty; }
 }
\ No newline at end of file
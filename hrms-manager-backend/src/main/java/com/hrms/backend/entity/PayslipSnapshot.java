@@ -0,0 +1,118 @@
+package com.hrms.backend.entity;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Copy of the figures of a payslip as a payroll run left them. Payslips are overwritten by every re-run of a
+ * month, so these copies (taken when a run finishes) are what run-to-run diffs compare.
+ */
+@Entity
+@Table(name = "payslip_snapshots", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"payroll_run_id", "employee_id"})
+})
+public class PayslipSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payroll_run_id", nullable = false)
+    private Long payrollRunId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "pay_period_month", nullable = false)
+    private Integer payPeriodMonth;
+
+    @Column(name = "pay_period_year", nullable = false)
+    private Integer payPeriodYear;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal grossSalary;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal baseMonthlySalary;
+
+    @Column(nullable = false)
+    private Integer totalWorkingDaysInMonth;
+
+    @Column(nullable = false)
+    private Integer daysPresent;
+
+    @Column(nullable = false)
+    private Integer daysAbsent;
+
+    @Column(nullable = false)
+    private Integer daysHalfDay;
+
+    @Column(nullable = false)
+    private Integer daysOnApprovedLeave;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal attendanceDeduction;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal taxDeduction;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal pfDeduction;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal otherDeductions;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal bonusAmount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal netSalary;
+
+    // Constructors
+    public PayslipSnapshot() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getPayrollRunId() { return payrollRunId; }
+    public void setPayrollRunId(Long payrollRunId) { this.payrollRunId = payrollRunId; }
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public Integer getPayPeriodMonth() { return payPeriodMonth; }
+    public void setPayPeriodMonth(Integer payPeriodMonth) { this.payPeriodMonth = payPeriodMonth; }
+    public Integer getPayPeriodYear() { return payPeriodYear; }
+    public void setPayPeriodYear(Integer payPeriodYear) { this.payPeriodYear = payPeriodYear; }
+    public BigDecimal getGrossSalary() { return grossSalary; }
+    public void setGrossSalary(BigDecimal grossSalary) { this.grossSalary = grossSalary; }
+    public BigDecimal getBaseMonthlySalary() { return baseMonthlySalary; }
+    public void setBaseMonthlySalary(BigDecimal baseMonthlySalary) { this.baseMonthlySalary = baseMonthlySalary; }
+    public Integer getTotalWorkingDaysInMonth() { return totalWorkingDaysInMonth; }
+    public void setTotalWorkingDaysInMonth(Integer totalWorkingDaysInMonth) { this.totalWorkingDaysInMonth = totalWorkingDaysInMonth; }
+    public Integer getDaysPresent() { return daysPresent; }
+    public void setDaysPresent(Integer daysPresent) { this.daysPresent = daysPresent; }
+    public Integer getDaysAbsent() { return daysAbsent; }
+    public void setDaysAbsent(Integer daysAbsent) { this.daysAbsent = daysAbsent; }
+    public Integer getDaysHalfDay() { return daysHalfDay; }
+    public void setDaysHalfDay(Integer daysHalfDay) { this.daysHalfDay = daysHalfDay; }
+    public Integer getDaysOnApprovedLeave() { return daysOnApprovedLeave; }
+    public void setDaysOnApprovedLeave(Integer daysOnApprovedLeave) { this.daysOnApprovedLeave = daysOnApprovedLeave; }
+    public BigDecimal getAttendanceDeduction() { return attendanceDeduction; }
+    public void setAttendanceDeduction(BigDecimal attendanceDeduction) { this.attendanceDeduction = attendanceDeduction; }
+    public BigDecimal getTaxDeduction() { return taxDeduction; }
+    public void setTaxDeduction(BigDecimal taxDeduction) { this.taxDeduction = taxDeduction; }
+    public BigDecimal getPfDeduction() { return pfDeduction; }
+    public void setPfDeduction(BigDecimal pfDeduction) { this.pfDeduction = pfDeduction; }
+    public BigDecimal getOtherDeductions() { return otherDeductions; }
+    public void setOtherDeductions(BigDecimal otherDeductions) { this.otherDeductions = otherDeductions; }
+    public BigDecimal getBonusAmount() { return bonusAmount; }
+    public void setBonusAmount(BigDecimal bonusAmount) { this.bonusAmount = bonusAmount; }
+    public BigDecimal getNetSalary() { return netSalary; }
+    public void setNetSalary(BigDecimal netSalary) { this.netSalary = netSalary; }
+}
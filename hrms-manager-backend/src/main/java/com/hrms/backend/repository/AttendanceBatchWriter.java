@@ -0,0 +1,108 @@
+package com.hrms.backend.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.Attendance;
+
+/**
+ * Writes attendance marks for bulk marking: new marks with multi-row INSERT statements (Hibernate cannot batch
+ * IDENTITY inserts), existing ones with a JDBC batch of updates by id. The caller has already looked up which
+ * marks exist, so no statement needs a conflict clause; a mark inserted concurrently fails the unique
+ * (employee, date) constraint and rolls the caller back. Runs in the caller's transaction; the entities are
+ * not attached. The statements bypass JPA, so Attendance's @PrePersist/@PreUpdate callback does not run: the
+ * caller sets the timestamp of every mark it passes in.
+ */
+@Repository
+public class AttendanceBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceBatchWriter.class);
+
+    private static final String[] COLUMNS = {"employee_id", "attendance_date", "status", "marked_by_user_id", "marked_by_label_override", "timestamp"};
+
+    private static final String UPDATE_SQL = "UPDATE attendance SET status = ?, marked_by_user_id = ?, marked_by_label_override = ?, timestamp = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${hrms.attendance-bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * @return the number of marks inserted.
+     */
+    public int insert(List<Attendance> marks) {
+        int rowsPerStatement = Math.max(1, batchSize);
+        int written = 0;
+        for (int from = 0; from < marks.size(); from += rowsPerStatement) {
+            List<Attendance> batch = marks.subList(from, Math.min(marks.size(), from + rowsPerStatement));
+            written += jdbcTemplate.update(insertSql(batch.size()), ps -> bindInsert(ps, batch));
+        }
+        logger.debug("Inserted {} attendance marks in statements of up to {} rows.", written, rowsPerStatement);
+        return written;
+    }
+
+    /**
+     * Overwrites the status and marker of existing marks, identified by their ids.
+     * @return the number of marks updated.
+     */
+    public int update(List<Attendance> marks) {
+        if (marks.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, marks, Math.max(1, batchSize), (ps, mark) -> {
+            ps.setString(1, mark.getStatus().name());
+            bindMarker(ps, 2, mark);
+            ps.setTimestamp(4, Timestamp.valueOf(mark.getTimestamp()));
+            ps.setLong(5, mark.getId());
+        });
+        // Drivers may report SUCCESS_NO_INFO (-2) instead of a count; those rows were updated too
+        int updated = Arrays.stream(counts).flatMapToInt(Arrays::stream)
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : count)
+                .sum();
+        logger.debug("Updated {} attendance marks.", updated);
+        return updated;
+    }
+
+    private static String insertSql(int rows) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(COLUMNS.length, "?")) + ")";
+        return "INSERT INTO attendance (" + String.join(", ", COLUMNS) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+
+    private static void bindInsert(PreparedStatement ps, List<Attendance> batch) throws SQLException {
+        int i = 1;
+        for (Attendance a : batch) {
+            ps.setLong(i++, a.getEmployee().getId());
+            ps.setDate(i++, Date.valueOf(a.getAttendanceDate()));
+            ps.setString(i++, a.getStatus().name());
+            bindMarker(ps, i, a);
+            i += 2;
+            ps.setTimestamp(i++, Timestamp.valueOf(a.getTimestamp()));
+        }
+    }
+
+    // marked_by_user_id and marked_by_label_override at index and index + 1
+    private static void bindMarker(PreparedStatement ps, int index, Attendance a) throws SQLException {
+        if (a.getMarkedBy() != null) {
+            ps.setLong(index, a.getMarkedBy().getId());
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+        ps.setString(index + 1, a.getMarkedByLabelOverride());
+    }
+}
@@ -1,16 +1,25 @@
 package com.hrms.backend.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.hrms.backend.entity.Attendance;
 import com.hrms.backend.entity.AttendanceStatus;
 import com.hrms.backend.entity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 	// Find attendance records for a specific employee
@@ -42,5 +51,58 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
 	List<Attendance> findAllByOrderByAttendanceDateDescEmployeeFirstNameAsc();
 
+	// Keyset pages of all attendance: newest date first, then employee first name and id. The date index bounds
+	// the scan and PostgreSQL sorts each day's rows incrementally, so a page reads about one page of rows.
+	@Query("SELECT a FROM Attendance a JOIN FETCH a.employee e LEFT JOIN FETCH a.markedBy "
+			+ "ORDER BY a.attendanceDate DESC, e.firstName ASC, a.id ASC")
+	List<Attendance> findFirstPage(Limit limit);
+
+	// The page after (date, firstName, id), the position of the previous page's last row
+	@Query("SELECT a FROM Attendance a JOIN FETCH a.employee e LEFT JOIN FETCH a.markedBy "
+			+ "WHERE a.attendanceDate <= ?1 AND (a.attendanceDate < ?1 OR e.firstName > ?2 OR (e.firstName = ?2 AND a.id > ?3)) "
+			+ "ORDER BY a.attendanceDate DESC, e.firstName ASC, a.id ASC")
+	List<Attendance> findPageAfter(LocalDate attendanceDate, String firstName, Long id, Limit limit);
+
 	List<Attendance> findByEmployeeIdAndAttendanceDateBetween(Long id, LocalDate atDay, LocalDate atEndOfMonth);
+
+	// Status counts per employee for a whole period in a single round trip (used by the bulk payroll run)
+	@Query("SELECT a.employee.id AS employeeId, a.status AS status, COUNT(a) AS total FROM Attendance a "
+			+ "WHERE a.attendanceDate BETWEEN ?1 AND ?2 GROUP BY a.employee.id, a.status")
+	List<AttendanceStatusCount> countByStatusGroupedByEmployee(LocalDate startDate, LocalDate endDate);
+
+	// Projection for the grouped status counts above
+	interface AttendanceStatusCount {
+		Long getEmployeeId();
+		AttendanceStatus getStatus();
+		Long getTotal();
+	}
+
+	// Every attendance day as three columns, for building the AttendanceIndex; consume inside a transaction and close
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "5000"))
+	@Query("SELECT a.employee.id AS employeeId, a.attendanceDate AS attendanceDate, a.status AS status FROM Attendance a")
+	Stream<AttendanceDay> streamAllDays();
+
+	// One employee's days of a period as three columns, without loading the entities and their employee
+	@Query("SELECT a.employee.id AS employeeId, a.attendanceDate AS attendanceDate, a.status AS status FROM Attendance a "
+			+ "WHERE a.employee.id = ?1 AND a.attendanceDate BETWEEN ?2 AND ?3")
+	List<AttendanceDay> findDaysByEmployeeIdAndDateBetween(Long employeeId, LocalDate startDate, LocalDate endDate);
+
+	// The marks that already exist on a date for the given employees, for bulk marking
+	@Query("SELECT a.id AS id, a.employee.id AS employeeId, a.status AS status FROM Attendance a "
+			+ "WHERE a.attendanceDate = ?1 AND a.employee.id IN ?2")
+	List<AttendanceMark> findMarksByDateAndEmployeeIdIn(LocalDate attendanceDate, Collection<Long> employeeIds);
+
+	// Projection for findMarksByDateAndEmployeeIdIn
+	interface AttendanceMark {
+		Long getId();
+		Long getEmployeeId();
+		AttendanceStatus getStatus();
+	}
+
+	// Projection for streamAllDays and findDaysByEmployeeIdAndDateBetween
+	interface AttendanceDay {
+		Long getEmployeeId();
+		LocalDate getAttendanceDate();
+		AttendanceStatus getStatus();
+	}
 }
@@ -0,0 +1,68 @@
+package com.hrms.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.Bonus;
+
+/**
+ * Inserts bonuses with multi-row INSERT statements. Hibernate cannot batch IDENTITY inserts, so saveAll
+ * would send one statement per bonus; here the ids come from the identity default inside the statement.
+ * Runs in the caller's transaction; the entities are not attached and their ids stay unset.
+ */
+@Repository
+public class BonusBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BonusBatchWriter.class);
+
+    private static final String[] COLUMNS = {"employee_id", "amount", "month", "year", "description", "added_by", "added_date"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${hrms.bonus-import.insert-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * @return the number of bonuses inserted.
+     */
+    public int insert(List<Bonus> bonuses) {
+        int rowsPerStatement = Math.max(1, batchSize);
+        int written = 0;
+        for (int from = 0; from < bonuses.size(); from += rowsPerStatement) {
+            List<Bonus> batch = bonuses.subList(from, Math.min(bonuses.size(), from + rowsPerStatement));
+            written += jdbcTemplate.update(insertSql(batch.size()), ps -> bind(ps, batch));
+        }
+        logger.debug("Inserted {} bonuses in statements of up to {} rows.", written, rowsPerStatement);
+        return written;
+    }
+
+    private static String insertSql(int rows) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(COLUMNS.length, "?")) + ")";
+        return "INSERT INTO bonuses (" + String.join(", ", COLUMNS) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+
+    private static void bind(PreparedStatement ps, List<Bonus> batch) throws SQLException {
+        int i = 1;
+        for (Bonus b : batch) {
+            ps.setLong(i++, b.getEmployee().getId());
+            ps.setBigDecimal(i++, b.getAmount());
+            ps.setInt(i++, b.getMonth());
+            ps.setInt(i++, b.getYear());
+            ps.setString(i++, b.getDescription());
+            ps.setString(i++, b.getAddedBy());
+            ps.setTimestamp(i++, Timestamp.valueOf(b.getAddedDate()));
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.hrms.backend.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hrms.backend.entity.Bonus;
@@ -11,5 +13,19 @@ import com.hrms.backend.entity.Bonus;
 public interface BonusRepository extends JpaRepository<Bonus, Long> {
 
 	List<Bonus> findByEmployeeIdAndMonthAndYear(Long employeeId, Integer month, Integer year);
-	
+
+	// Bonus total of one employee-month without loading the entities; zero when there are none
+	@Query("SELECT COALESCE(SUM(b.amount), 0) FROM Bonus b WHERE b.employee.id = ?1 AND b.month = ?2 AND b.year = ?3")
+	BigDecimal sumAmountByEmployeeIdAndMonthAndYear(Long employeeId, Integer month, Integer year);
+
+	// Bonus totals per employee for a whole month in a single round trip (used by the bulk payroll run)
+	@Query("SELECT b.employee.id AS employeeId, SUM(b.amount) AS total FROM Bonus b "
+			+ "WHERE b.month = ?1 AND b.year = ?2 GROUP BY b.employee.id")
+	List<BonusTotal> sumAmountGroupedByEmployee(Integer month, Integer year);
+
+	// Projection for the grouped bonus totals above
+	interface BonusTotal {
+		Long getEmployeeId();
+		BigDecimal getTotal();
+	}
 }
@@ -1,9 +1,11 @@
 package com.hrms.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hrms.backend.entity.Employee;
@@ -26,5 +28,47 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByEmail(String email);
 
     List<Employee> findAllByOrderByFirstNameAscLastNameAsc();
+
+    // Fetches every employee together with the (otherwise eagerly selected one by one) user account
+    @Query("SELECT e FROM Employee e JOIN FETCH e.user ORDER BY e.id")
+    List<Employee> findAllWithUser();
+
+    // Just the columns a payroll evaluation needs, without materialising entities (used by the dry run)
+    @Query("SELECT e.id AS id, e.salary AS salary, e.department AS department FROM Employee e ORDER BY e.id")
+    List<EmployeePayProfile> findAllPayProfiles();
+
+    // Every employee id, for validating bulk imports against one preloaded set
+    @Query("SELECT e.id FROM Employee e")
+    List<Long> findAllIds();
+
+    // The given ids that exist, for validating a bulk request with one IN query
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN ?1")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    // Ids of a department's employees (case-insensitive), for department-wide bulk actions
+    @Query("SELECT e.id FROM Employee e WHERE LOWER(e.department) = LOWER(?1) ORDER BY e.id")
+    List<Long> findIdsByDepartment(String department);
+
+    // Each user's employee record, for validating self-marks without a query per request
+    @Query("SELECT e.user.id AS userId, e.id AS id, e.firstName AS firstName, e.lastName AS lastName FROM Employee e WHERE e.user IS NOT NULL")
+    List<EmployeeSelfMarker> findAllSelfMarkers();
+
+    @Query("SELECT e.user.id AS userId, e.id AS id, e.firstName AS firstName, e.lastName AS lastName FROM Employee e WHERE e.user.id = ?1")
+    Optional<EmployeeSelfMarker> findSelfMarkerByUserId(Long userId);
+
+    // Projection for findAllSelfMarkers and findSelfMarkerByUserId
+    interface EmployeeSelfMarker {
+        Long getUserId();
+        Long getId();
+        String getFirstName();
+        String getLastName();
+    }
+
+    // Projection for findAllPayProfiles
+    interface EmployeePayProfile {
+        Long getId();
+        Double getSalary();
+        String getDepartment();
+    }
     
 }
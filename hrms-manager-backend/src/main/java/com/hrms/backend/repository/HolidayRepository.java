@@ -0,0 +1,17 @@
+package com.hrms.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.Holiday;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+
+	List<Holiday> findByHolidayDateBetweenOrderByHolidayDateAsc(LocalDate start, LocalDate end);
+
+	boolean existsByHolidayDate(LocalDate holidayDate);
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.hrms.backend.entity.Employee;
@@ -41,4 +42,16 @@ public interface LeaveApplicationRepository extends JpaRepository<LeaveApplicati
 
 	List<LeaveApplication> findByEmployeeIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long id,
 			LeaveStatus approved, LocalDate atEndOfMonth, LocalDate atDay);
+
+	// Leave intervals of every employee overlapping a period, without loading the entities (used by the bulk payroll run)
+	@Query("SELECT l.employee.id AS employeeId, l.startDate AS startDate, l.endDate AS endDate FROM LeaveApplication l "
+			+ "WHERE l.status = ?1 AND l.startDate <= ?2 AND l.endDate >= ?3")
+	List<LeaveSpan> findSpansByStatusOverlapping(LeaveStatus status, LocalDate periodEnd, LocalDate periodStart);
+
+	// Projection for the leave intervals above
+	interface LeaveSpan {
+		Long getEmployeeId();
+		LocalDate getStartDate();
+		LocalDate getEndDate();
+	}
 }
@@ -0,0 +1,40 @@
+package com.hrms.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hrms.backend.entity.PayrollMonthSummary;
+
+@Repository
+public interface PayrollMonthSummaryRepository extends JpaRepository<PayrollMonthSummary, Long> {
+
+    // Rebuilds only write departments with payslips; zero rows left by the earlier incremental updates are skipped
+    List<PayrollMonthSummary> findByPayPeriodYearAndPayPeriodMonthAndHeadcountGreaterThanOrderByDepartmentAsc(
+            Integer year, Integer month, Integer headcount);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PayrollMonthSummary s WHERE s.payPeriodYear = ?1 AND s.payPeriodMonth = ?2")
+    int deleteByPeriod(Integer year, Integer month);
+
+    // Recomputes a month from its payslips in one grouped statement; same department key as PayrollMonthSummaryService
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO payroll_month_summary (pay_period_year, pay_period_month, department, headcount, total_base_salary, "
+            + "total_bonus, total_gross_salary, total_attendance_deduction, total_tax_deduction, total_pf_deduction, "
+            + "total_net_salary, updated_at) "
+            + "SELECT p.pay_period_year, p.pay_period_month, "
+            + "COALESCE(NULLIF(TRIM(COALESCE(p.department, e.department)), ''), 'Unassigned') AS dept, COUNT(*), "
+            + "SUM(p.base_monthly_salary), COALESCE(SUM(p.bonus_amount), 0), SUM(p.gross_salary), SUM(p.attendance_deduction), "
+            + "SUM(p.tax_deduction), SUM(p.pf_deduction), SUM(p.net_salary), CURRENT_TIMESTAMP "
+            + "FROM payslips p JOIN employees e ON e.id = p.employee_id "
+            + "WHERE p.pay_period_year = ?1 AND p.pay_period_month = ?2 "
+            + "GROUP BY p.pay_period_year, p.pay_period_month, COALESCE(NULLIF(TRIM(COALESCE(p.department, e.department)), ''), 'Unassigned')",
+            nativeQuery = true)
+    int rebuildPeriod(Integer year, Integer month);
+}
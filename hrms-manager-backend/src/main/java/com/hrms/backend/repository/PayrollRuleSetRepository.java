@@ -0,0 +1,25 @@
+package com.hrms.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.PayrollRuleSet;
+
+@Repository
+public interface PayrollRuleSetRepository extends JpaRepository<PayrollRuleSet, Long> {
+
+	Optional<PayrollRuleSet> findFirstByActiveTrue();
+
+	Optional<PayrollRuleSet> findTopByOrderByVersionDesc();
+
+	List<PayrollRuleSet> findAllByOrderByVersionDesc();
+
+	@Modifying
+	@Query("UPDATE PayrollRuleSet r SET r.active = false WHERE r.active = true")
+	int deactivateAll();
+}
@@ -0,0 +1,14 @@
+package com.hrms.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.PayrollRunChunk;
+
+@Repository
+public interface PayrollRunChunkRepository extends JpaRepository<PayrollRunChunk, Long> {
+
+	List<PayrollRunChunk> findByPayrollRunIdOrderByChunkIndexAsc(Long payrollRunId);
+}
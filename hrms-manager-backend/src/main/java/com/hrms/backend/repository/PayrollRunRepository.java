@@ -0,0 +1,62 @@
+package com.hrms.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hrms.backend.entity.PayrollRun;
+import com.hrms.backend.entity.PayrollRunStatus;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+	List<PayrollRun> findByPayPeriodMonthAndPayPeriodYearOrderByCreatedAtDesc(Integer month, Integer year);
+
+	// Active runs whose owner stopped heartbeating, or that never had one
+	@Query("SELECT r FROM PayrollRun r WHERE r.status IN ?2 AND (r.heartbeatAt IS NULL OR r.heartbeatAt < ?1) ORDER BY r.createdAt")
+	List<PayrollRun> findOrphaned(LocalDateTime staleBefore, Collection<PayrollRunStatus> statuses);
+
+	// The queued or running job of a month, which new requests for that month attach to
+	Optional<PayrollRun> findFirstByPayPeriodMonthAndPayPeriodYearAndStatusInOrderByCreatedAtAsc(Integer month, Integer year,
+			Collection<PayrollRunStatus> statuses);
+
+	// Chunks finish concurrently, so progress is accumulated in the database rather than on a loaded entity
+	@Modifying
+	@Transactional
+	@Query("UPDATE PayrollRun r SET r.completedChunks = r.completedChunks + 1, "
+			+ "r.processedEmployees = r.processedEmployees + ?2, r.failedEmployees = r.failedEmployees + ?3 WHERE r.id = ?1")
+	int recordChunkProgress(Long runId, int processedEmployees, int failedEmployees);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE PayrollRun r SET r.errorLog = CONCAT(COALESCE(r.errorLog, ''), ?2) WHERE r.id = ?1")
+	int appendError(Long runId, String errorLine);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE PayrollRun r SET r.cancelRequested = true WHERE r.id = ?1")
+	int requestCancel(Long runId);
+
+	// Also takes a run back from an instance that adopted it while this one was still executing it
+	@Modifying
+	@Transactional
+	@Query("UPDATE PayrollRun r SET r.owner = ?1, r.heartbeatAt = ?2 WHERE r.id IN ?3 AND r.status IN ?4")
+	int heartbeat(String owner, LocalDateTime now, Collection<Long> runIds, Collection<PayrollRunStatus> statuses);
+
+	// Conditional on the heartbeat still being stale, so only one instance adopts an orphaned run
+	@Modifying
+	@Transactional
+	@Query("UPDATE PayrollRun r SET r.owner = ?2, r.heartbeatAt = ?3 WHERE r.id = ?1 AND r.status IN ?5 "
+			+ "AND (r.heartbeatAt IS NULL OR r.heartbeatAt < ?4)")
+	int claim(Long runId, String owner, LocalDateTime now, LocalDateTime staleBefore, Collection<PayrollRunStatus> statuses);
+
+	@Query("SELECT r.cancelRequested FROM PayrollRun r WHERE r.id = ?1")
+	Boolean isCancelRequested(Long runId);
+}
@@ -0,0 +1,145 @@
+package com.hrms.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.Payslip;
+
+/**
+ * Writes payslips with multi-row upserts on the (employee, month, year) unique constraint instead of a
+ * find-then-save per row. Ids come from the table's identity default inside the statement, so rows can be
+ * written many at a time even though Hibernate cannot batch IDENTITY inserts.
+ * Databases other than PostgreSQL fall back to a single lookup of the existing rows plus saveAll.
+ * Runs in the caller's transaction.
+ */
+@Repository
+public class PayslipBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipBatchWriter.class);
+
+    private static final String[] COLUMNS = {
+            "employee_id", "pay_period_month", "pay_period_year", "gross_salary", "base_monthly_salary",
+            "total_working_days_in_month", "days_present", "days_absent", "days_half_day", "days_on_approved_leave",
+            "attendance_deduction", "tax_deduction", "pf_deduction", "other_deductions", "bonus_amount",
+            "net_salary", "generation_date", "generated_by", "department", "input_fingerprint",
+            "payroll_run_id"
+    };
+
+    // PostgreSQL accepts at most 32767 bind parameters per statement
+    private static final int MAX_ROWS_PER_STATEMENT = 32767 / COLUMNS.length;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Value("${hrms.payroll.upsert-batch-size:500}")
+    private int batchSize;
+
+    private volatile Boolean postgres;
+
+    /**
+     * Inserts or overwrites the given payslips. The entities are not attached to the persistence context
+     * on the PostgreSQL path, so their ids stay unset.
+     * @return the number of payslips written.
+     */
+    public int upsert(List<Payslip> payslips) {
+        if (payslips.isEmpty()) {
+            return 0;
+        }
+        if (!isPostgres()) {
+            return saveWithLookup(payslips);
+        }
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_ROWS_PER_STATEMENT));
+        int written = 0;
+        for (int from = 0; from < payslips.size(); from += rowsPerStatement) {
+            List<Payslip> batch = payslips.subList(from, Math.min(payslips.size(), from + rowsPerStatement));
+            written += jdbcTemplate.update(upsertSql(batch.size()), ps -> bind(ps, batch));
+        }
+        logger.debug("Upserted {} payslips in statements of up to {} rows.", written, rowsPerStatement);
+        return written;
+    }
+
+    private int saveWithLookup(List<Payslip> payslips) {
+        Payslip first = payslips.get(0);
+        List<Long> employeeIds = payslips.stream().map(p -> p.getEmployee().getId()).collect(Collectors.toList());
+        Map<Long, Long> existingIds = payslipRepository.findByPayPeriodMonthAndPayPeriodYearAndEmployeeIdIn(
+                        first.getPayPeriodMonth(), first.getPayPeriodYear(), employeeIds).stream()
+                .collect(Collectors.toMap(p -> p.getEmployee().getId(), Payslip::getId));
+        // Existing rows are managed after the lookup, so saving with their id merges without another select
+        payslips.forEach(p -> p.setId(existingIds.get(p.getEmployee().getId())));
+        return payslipRepository.saveAll(payslips).size();
+    }
+
+    private static String upsertSql(int rows) {
+        String columnList = String.join(", ", COLUMNS);
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(COLUMNS.length, "?")) + ")";
+        List<String> updates = new ArrayList<>();
+        for (int i = 3; i < COLUMNS.length; i++) { // Everything but the conflict key
+            updates.add(COLUMNS[i] + " = EXCLUDED." + COLUMNS[i]);
+        }
+        return "INSERT INTO payslips (" + columnList + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, rowPlaceholders))
+                + " ON CONFLICT (employee_id, pay_period_month, pay_period_year) DO UPDATE SET "
+                + String.join(", ", updates) + ", dirty = false";
+    }
+
+    private static void bind(PreparedStatement ps, List<Payslip> batch) throws SQLException {
+        int i = 1;
+        for (Payslip p : batch) {
+            ps.setLong(i++, p.getEmployee().getId());
+            ps.setInt(i++, p.getPayPeriodMonth());
+            ps.setInt(i++, p.getPayPeriodYear());
+            ps.setBigDecimal(i++, p.getGrossSalary());
+            ps.setBigDecimal(i++, p.getBaseMonthlySalary());
+            ps.setInt(i++, p.getTotalWorkingDaysInMonth());
+            ps.setInt(i++, p.getDaysPresent());
+            ps.setInt(i++, p.getDaysAbsent());
+            ps.setInt(i++, p.getDaysHalfDay());
+            ps.setInt(i++, p.getDaysOnApprovedLeave());
+            ps.setBigDecimal(i++, p.getAttendanceDeduction());
+            ps.setBigDecimal(i++, p.getTaxDeduction());
+            ps.setBigDecimal(i++, p.getPfDeduction());
+            ps.setBigDecimal(i++, p.getOtherDeductions());
+            ps.setBigDecimal(i++, p.getBonusAmount());
+            ps.setBigDecimal(i++, p.getNetSalary());
+            ps.setTimestamp(i++, Timestamp.valueOf(p.getGenerationDate()));
+            ps.setString(i++, p.getGeneratedBy());
+            ps.setString(i++, p.getDepartment());
+            if (p.getInputFingerprint() != null) {
+                ps.setLong(i++, p.getInputFingerprint());
+            } else {
+                ps.setNull(i++, Types.BIGINT);
+            }
+            if (p.getPayrollRunId() != null) {
+                ps.setLong(i++, p.getPayrollRunId());
+            } else {
+                ps.setNull(i++, Types.BIGINT);
+            }
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
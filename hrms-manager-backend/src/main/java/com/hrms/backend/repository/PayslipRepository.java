@@ -1,14 +1,25 @@
 package com.hrms.backend.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.hrms.backend.entity.Payslip;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PayslipRepository extends JpaRepository<Payslip, Long> {
 	
@@ -31,5 +42,153 @@ public interface PayslipRepository extends JpaRepository<Payslip, Long> {
     @Query("SELECT p FROM Payslip p JOIN FETCH p.employee e WHERE p.employee.id = ?1 ORDER BY p.payPeriodYear DESC, p.payPeriodMonth DESC")
     List<Payslip> findByEmployeeIdOrderByPayPeriodYearDescPayPeriodMonthDesc(Long employeeId);
 
-}
+    // Existing payslips of one payroll chunk, with employee and user fetched in the same query
+    @Query("SELECT p FROM Payslip p JOIN FETCH p.employee e JOIN FETCH e.user WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 AND e.id IN ?3")
+    List<Payslip> findByPayPeriodMonthAndPayPeriodYearAndEmployeeIdIn(Integer month, Integer year, Collection<Long> employeeIds);
+
+    // A year of payslips per employee, in month order, for recomputing the YTD totals. Does not flush first: payslips
+    // the caller just changed come back as the managed instances, so their totals are written in the same update
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT p FROM Payslip p JOIN FETCH p.employee e JOIN FETCH e.user WHERE p.payPeriodYear = ?1 AND e.id IN ?2 "
+            + "ORDER BY e.id, p.payPeriodMonth")
+    List<Payslip> findYearByEmployeeIdIn(Integer year, Collection<Long> employeeIds);
+
+    // Latest YTD totals of an employee account for a year, from its last payslip of that year
+    Optional<PayslipYearToDate> findFirstByEmployeeUserIdAndPayPeriodYearOrderByPayPeriodMonthDesc(Long userId, Integer year);
+
+    // Employees already committed by a payroll run, skipped when the run is resumed
+    @Query("SELECT p.employee.id FROM Payslip p WHERE p.payrollRunId = ?1")
+    List<Long> findEmployeeIdsByPayrollRunId(Long payrollRunId);
+
+    // Flags an already generated payslip whose inputs changed; 0 when payroll has not been run for that month
+    @Modifying
+    @Query("UPDATE Payslip p SET p.dirty = true WHERE p.employee.id = ?1 AND p.payPeriodMonth = ?2 AND p.payPeriodYear = ?3")
+    int markDirty(Long employeeId, Integer month, Integer year);
+
+    // Bulk version of markDirty for one month; returns how many generated payslips were flagged
+    @Modifying
+    @Query("UPDATE Payslip p SET p.dirty = true WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 AND p.employee.id IN ?3")
+    int markDirty(Integer month, Integer year, Collection<Long> employeeIds);
+
+    // Re-runs restamp the payslips they found unchanged, so the run's snapshot and resume checkpoints still cover them
+    @Modifying
+    @Query("UPDATE Payslip p SET p.payrollRunId = ?4 WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 AND p.employee.id IN ?3")
+    int assignPayrollRun(Integer month, Integer year, Collection<Long> employeeIds, Long payrollRunId);
+
+    // Stored input fingerprints of a chunk's existing payslips
+    @Query("SELECT p.employee.id AS employeeId, p.inputFingerprint AS inputFingerprint, p.dirty AS dirty FROM Payslip p "
+            + "WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 AND p.employee.id IN ?3")
+    List<PayslipInputFingerprint> findInputFingerprints(Integer month, Integer year, Collection<Long> employeeIds);
+
+    @Query("SELECT p.employee.id AS employeeId, p.payPeriodMonth AS month, p.payPeriodYear AS year FROM Payslip p WHERE p.dirty = true")
+    List<PayslipKey> findDirtyKeys();
+
+    // Validators of one employee payslip, read without loading the entity
+    @Query("SELECT p.id AS id, p.generationDate AS generationDate, p.payrollRunId AS payrollRunId FROM Payslip p "
+            + "WHERE p.employee.user.id = ?1 AND p.payPeriodMonth = ?2 AND p.payPeriodYear = ?3")
+    Optional<PayslipVersion> findVersionByUserIdAndPeriod(Long userId, Integer month, Integer year);
+
+    // Validators of an employee's whole payslip history: any recalculation moves the latest generation date
+    @Query("SELECT COUNT(p) AS count, MAX(p.generationDate) AS lastGenerated, MAX(p.payrollRunId) AS lastRunId FROM Payslip p "
+            + "WHERE p.employee.user.id = ?1")
+    PayslipHistoryVersion findHistoryVersionByUserId(Long userId);
 
+    // Projection for findVersionByUserIdAndPeriod
+    interface PayslipVersion {
+        Long getId();
+        LocalDateTime getGenerationDate();
+        Long getPayrollRunId();
+    }
+
+    // Projection for findHistoryVersionByUserId
+    interface PayslipHistoryVersion {
+        Long getCount();
+        LocalDateTime getLastGenerated();
+        Long getLastRunId();
+    }
+
+    // Projection for findInputFingerprints
+    interface PayslipInputFingerprint {
+        Long getEmployeeId();
+        Long getInputFingerprint();
+        Boolean getDirty();
+    }
+
+    // Projection for findFirstByEmployeeUserIdAndPayPeriodYearOrderByPayPeriodMonthDesc
+    interface PayslipYearToDate {
+        Integer getPayPeriodMonth();
+        BigDecimal getYtdGrossSalary();
+        BigDecimal getYtdTaxDeduction();
+        BigDecimal getYtdPfDeduction();
+        BigDecimal getYtdNetSalary();
+    }
+
+    // Projection for findDirtyKeys
+    interface PayslipKey {
+        Long getEmployeeId();
+        Integer getMonth();
+        Integer getYear();
+    }
+
+    // Cursor over one month's payslips in employee order; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.id AS employeeId, e.employeeIdNumber AS employeeIdNumber, p.grossSalary AS grossSalary, "
+            + "p.baseMonthlySalary AS baseMonthlySalary, p.totalWorkingDaysInMonth AS totalWorkingDaysInMonth, "
+            + "p.daysPresent AS daysPresent, p.daysAbsent AS daysAbsent, p.daysHalfDay AS daysHalfDay, "
+            + "p.daysOnApprovedLeave AS daysOnApprovedLeave, p.attendanceDeduction AS attendanceDeduction, "
+            + "p.taxDeduction AS taxDeduction, p.pfDeduction AS pfDeduction, p.otherDeductions AS otherDeductions, "
+            + "p.bonusAmount AS bonusAmount, p.netSalary AS netSalary "
+            + "FROM Payslip p JOIN p.employee e WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 ORDER BY e.id")
+    Stream<PayslipFigures> streamFiguresByPeriod(Integer month, Integer year);
+
+    // Select list of PayslipExportRow, shared by the export and document queries
+    String EXPORT_ROW_SELECT = "SELECT p.id AS id, e.id AS employeeId, e.employeeIdNumber AS employeeIdNumber, "
+            + "e.firstName AS firstName, e.lastName AS lastName, p.payPeriodMonth AS payPeriodMonth, p.payPeriodYear AS payPeriodYear, "
+            + "p.grossSalary AS grossSalary, p.baseMonthlySalary AS baseMonthlySalary, "
+            + "p.totalWorkingDaysInMonth AS totalWorkingDaysInMonth, p.daysPresent AS daysPresent, p.daysAbsent AS daysAbsent, "
+            + "p.daysHalfDay AS daysHalfDay, p.daysOnApprovedLeave AS daysOnApprovedLeave, "
+            + "p.attendanceDeduction AS attendanceDeduction, p.taxDeduction AS taxDeduction, p.pfDeduction AS pfDeduction, "
+            + "p.otherDeductions AS otherDeductions, p.bonusAmount AS bonusAmount, p.netSalary AS netSalary, "
+            + "p.generationDate AS generationDate, p.generatedBy AS generatedBy "
+            + "FROM Payslip p JOIN p.employee e ";
+
+    // Forward-only cursor over one month's payslips for export, in employee order; consume inside a transaction and close
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(EXPORT_ROW_SELECT + "WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2 ORDER BY e.id")
+    Stream<PayslipExportRow> streamExportRowsByPeriod(Integer month, Integer year);
+
+    // A payslip only if it belongs to the employee account of the given user
+    @Query(EXPORT_ROW_SELECT + "WHERE p.id = ?1 AND e.user.id = ?2")
+    Optional<PayslipExportRow> findExportRowByIdAndUserId(Long payslipId, Long userId);
+
+    // Projection of the compared payslip figures, shared with PayslipSnapshotRepository
+    interface PayslipFigures {
+        Long getEmployeeId();
+        String getEmployeeIdNumber();
+        BigDecimal getGrossSalary();
+        BigDecimal getBaseMonthlySalary();
+        Integer getTotalWorkingDaysInMonth();
+        Integer getDaysPresent();
+        Integer getDaysAbsent();
+        Integer getDaysHalfDay();
+        Integer getDaysOnApprovedLeave();
+        BigDecimal getAttendanceDeduction();
+        BigDecimal getTaxDeduction();
+        BigDecimal getPfDeduction();
+        BigDecimal getOtherDeductions();
+        BigDecimal getBonusAmount();
+        BigDecimal getNetSalary();
+    }
+
+    // Projection for the export and document queries: the figures plus what a payslip listing shows
+    interface PayslipExportRow extends PayslipFigures {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        Integer getPayPeriodMonth();
+        Integer getPayPeriodYear();
+        LocalDateTime getGenerationDate();
+        String getGeneratedBy();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.hrms.backend.repository;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hrms.backend.entity.PayslipSnapshot;
+import com.hrms.backend.repository.PayslipRepository.PayslipFigures;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface PayslipSnapshotRepository extends JpaRepository<PayslipSnapshot, Long> {
+
+    // Copies the payslips a run wrote, in a single set-based statement
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO payslip_snapshots (payroll_run_id, employee_id, pay_period_month, pay_period_year, gross_salary, "
+            + "base_monthly_salary, total_working_days_in_month, days_present, days_absent, days_half_day, days_on_approved_leave, "
+            + "attendance_deduction, tax_deduction, pf_deduction, other_deductions, bonus_amount, net_salary) "
+            + "SELECT payroll_run_id, employee_id, pay_period_month, pay_period_year, gross_salary, "
+            + "base_monthly_salary, total_working_days_in_month, days_present, days_absent, days_half_day, days_on_approved_leave, "
+            + "attendance_deduction, tax_deduction, pf_deduction, other_deductions, bonus_amount, net_salary "
+            + "FROM payslips WHERE payroll_run_id = ?1", nativeQuery = true)
+    int snapshotRun(Long payrollRunId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PayslipSnapshot s WHERE s.payrollRunId = ?1")
+    int deleteByPayrollRunId(Long payrollRunId);
+
+    // Cursor over a run's snapshot in employee order; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.employeeId AS employeeId, e.employeeIdNumber AS employeeIdNumber, s.grossSalary AS grossSalary, "
+            + "s.baseMonthlySalary AS baseMonthlySalary, s.totalWorkingDaysInMonth AS totalWorkingDaysInMonth, "
+            + "s.daysPresent AS daysPresent, s.daysAbsent AS daysAbsent, s.daysHalfDay AS daysHalfDay, "
+            + "s.daysOnApprovedLeave AS daysOnApprovedLeave, s.attendanceDeduction AS attendanceDeduction, "
+            + "s.taxDeduction AS taxDeduction, s.pfDeduction AS pfDeduction, s.otherDeductions AS otherDeductions, "
+            + "s.bonusAmount AS bonusAmount, s.netSalary AS netSalary "
+            + "FROM PayslipSnapshot s LEFT JOIN Employee e ON e.id = s.employeeId "
+            + "WHERE s.payrollRunId = ?1 ORDER BY s.employeeId")
+    Stream<PayslipFigures> streamFiguresByPayrollRunId(Long payrollRunId);
+}
@@ -0,0 +1,143 @@
+package com.hrms.backend.repository;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hrms.backend.entity.Payslip;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Keeps the year-to-date totals on payslips current. After payslips of some employees are written for a month,
+ * the running sums of that month and every later month of the year are recomputed for just those employees
+ * (at most twelve rows each), so a correction to an earlier month cascades to the months after it. On PostgreSQL
+ * this is one UPDATE with a window function per batch of employees, touching only rows whose totals change.
+ * Other databases load the year's payslips and update them through the persistence context.
+ * Runs in the caller's transaction.
+ */
+@Repository
+public class PayslipYtdWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipYtdWriter.class);
+
+    private static final String[][] TOTALS = {
+            {"ytd_gross_salary", "gross_salary"},
+            {"ytd_tax_deduction", "tax_deduction"},
+            {"ytd_pf_deduction", "pf_deduction"},
+            {"ytd_net_salary", "net_salary"}
+    };
+
+    // Employee ids per statement, well below PostgreSQL's bind parameter limit
+    private static final int EMPLOYEES_PER_STATEMENT = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    /**
+     * Recomputes the YTD totals of the given employees' payslips from fromMonth to December of the year.
+     * @return the number of payslips whose totals changed.
+     */
+    public int refresh(Integer year, Integer fromMonth, List<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return 0;
+        }
+        boolean onPostgres = isPostgres();
+        if (onPostgres) {
+            entityManager.flush(); // The statement reads figures the caller may have written through JPA
+        }
+        int updated = 0;
+        for (int from = 0; from < employeeIds.size(); from += EMPLOYEES_PER_STATEMENT) {
+            List<Long> batch = employeeIds.subList(from, Math.min(employeeIds.size(), from + EMPLOYEES_PER_STATEMENT));
+            updated += onPostgres ? refreshWithWindow(year, fromMonth, batch) : refreshInMemory(year, fromMonth, batch);
+        }
+        logger.debug("Refreshed YTD totals of {} payslips for {} employees from {}-{}.", updated, employeeIds.size(), fromMonth, year);
+        return updated;
+    }
+
+    private int refreshWithWindow(Integer year, Integer fromMonth, List<Long> employeeIds) {
+        return jdbcTemplate.update(refreshSql(employeeIds.size()), ps -> {
+            int i = 1;
+            ps.setInt(i++, year);
+            for (Long employeeId : employeeIds) {
+                ps.setLong(i++, employeeId);
+            }
+            ps.setInt(i, fromMonth);
+        });
+    }
+
+    private int refreshInMemory(Integer year, Integer fromMonth, List<Long> employeeIds) {
+        int updated = 0;
+        Long employeeId = null;
+        BigDecimal gross = BigDecimal.ZERO, tax = BigDecimal.ZERO, pf = BigDecimal.ZERO, net = BigDecimal.ZERO;
+        for (Payslip payslip : payslipRepository.findYearByEmployeeIdIn(year, employeeIds)) {
+            if (!payslip.getEmployee().getId().equals(employeeId)) {
+                employeeId = payslip.getEmployee().getId();
+                gross = BigDecimal.ZERO;
+                tax = BigDecimal.ZERO;
+                pf = BigDecimal.ZERO;
+                net = BigDecimal.ZERO;
+            }
+            gross = gross.add(payslip.getGrossSalary());
+            tax = tax.add(payslip.getTaxDeduction());
+            pf = pf.add(payslip.getPfDeduction());
+            net = net.add(payslip.getNetSalary());
+            if (payslip.getPayPeriodMonth() < fromMonth || (same(payslip.getYtdGrossSalary(), gross)
+                    && same(payslip.getYtdTaxDeduction(), tax) && same(payslip.getYtdPfDeduction(), pf)
+                    && same(payslip.getYtdNetSalary(), net))) {
+                continue;
+            }
+            payslip.setYtdGrossSalary(gross);
+            payslip.setYtdTaxDeduction(tax);
+            payslip.setYtdPfDeduction(pf);
+            payslip.setYtdNetSalary(net);
+            updated++;
+        }
+        return updated;
+    }
+
+    private static String refreshSql(int employees) {
+        StringBuilder assignments = new StringBuilder();
+        StringBuilder sums = new StringBuilder();
+        StringBuilder changed = new StringBuilder();
+        for (String[] total : TOTALS) {
+            String sep = assignments.length() == 0 ? "" : ", ";
+            assignments.append(sep).append(total[0]).append(" = s.").append(total[0]);
+            sums.append(", SUM(").append(total[1]).append(") OVER w AS ").append(total[0]);
+            changed.append(changed.length() == 0 ? "" : " OR ").append("p.").append(total[0])
+                    .append(" IS DISTINCT FROM s.").append(total[0]);
+        }
+        return "UPDATE payslips p SET " + assignments
+                + " FROM (SELECT id" + sums + " FROM payslips WHERE pay_period_year = ? AND employee_id IN ("
+                + String.join(", ", Collections.nCopies(employees, "?")) + ")"
+                + " WINDOW w AS (PARTITION BY employee_id ORDER BY pay_period_month)) s"
+                + " WHERE p.id = s.id AND p.pay_period_month >= ? AND (" + changed + ")";
+    }
+
+    private static boolean same(BigDecimal stored, BigDecimal computed) {
+        return stored != null && stored.compareTo(computed) == 0;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
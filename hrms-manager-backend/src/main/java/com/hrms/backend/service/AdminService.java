@@ -1,6 +1,7 @@
 package com.hrms.backend.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hrms.backend.dto.AddBonusRequest;
+import com.hrms.backend.dto.PayrollRunReport;
 import com.hrms.backend.dto.PayslipDto;
 import com.hrms.backend.entity.Contact;
 import com.hrms.backend.repository.ContactRepository;
@@ -38,6 +40,15 @@ public class AdminService {
     
     @Autowired
     private ContactRepository contactRepository;
+
+    @Autowired
+    private PartitionedPayrollRunner partitionedPayrollRunner;
+
+    @Autowired
+    private PayrollMonthLock payrollMonthLock;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
     
     /**
      * Fetches all contact messages from the database.
@@ -47,14 +58,23 @@ public class AdminService {
         return contactRepository.findAll();
     }
     
-    // New method to process payroll
-    @Transactional
-    public String processMonthlyPayroll(Integer month, Integer year) {
-        // This method will likely just delegate to PayrollService
-        // and handle any specific admin-level logging or pre-checks.
-        // The actual calculation and saving is in PayrollService.
-        payrollService.processMonthlyPayroll(month, year);
-        return "Payroll processing initiated successfully for " + month + "-" + year;
+    // Partitioned payroll: not transactional here, every chunk commits on its own
+    public PayrollRunReport processMonthlyPayrollPartitioned(Integer month, Integer year) {
+        try (PayrollMonthLock.Lease lease = lockMonth(month, year)) {
+            return partitionedPayrollRunner.run(month, year);
+        }
+    }
+
+    // Synchronous requests do not queue behind a month being processed; they are refused instead
+    private PayrollMonthLock.Lease lockMonth(Integer month, Integer year) {
+        Optional<PayrollMonthLock.Lease> lease = payrollMonthLock.tryAcquire(month, year);
+        if (lease.isPresent()) {
+            return lease.get();
+        }
+        String activeRun = payrollRunService.findActiveRun(month, year)
+                .map(run -> " by payroll run " + run.getId() + " (" + run.getStatus() + ")")
+                .orElse("");
+        throw new IllegalStateException("Payroll for " + month + "-" + year + " is already being processed" + activeRun + ".");
     }
 
     // New method to add bonus
@@ -0,0 +1,396 @@
+package com.hrms.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.repository.AttendanceRepository;
+import com.hrms.backend.repository.AttendanceRepository.AttendanceDay;
+
+/**
+ * In-memory attendance of every employee-month as packed 3-bit day codes (0 unmarked, otherwise the status
+ * ordinal + 1): days 1-21 in one long, days 22-31 in a second. Entries live in an open-addressing table keyed by
+ * a primitive (employee, month) long, 24 bytes per employee-month, so counting a month's statuses is a few
+ * XORs and bit counts instead of loading Attendance entities. Loaded from the database once the application
+ * is ready and updated by AttendanceService after each mark commits. Like WorkingCalendar it is local to this
+ * instance; readers that must not act on another instance's unseen writes use reloadMonth.
+ */
+@Component
+public class AttendanceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceIndex.class);
+
+    static final int BITS_PER_DAY = 3;
+    static final int DAYS_PER_WORD = 21;
+    private static final long DAY_MASK = (1L << BITS_PER_DAY) - 1;
+    // Lowest bit of each of the 21 day slots
+    private static final long SLOT_LOW_BITS = 0x1249249249249249L & ((1L << (DAYS_PER_WORD * BITS_PER_DAY)) - 1);
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private MonthTable table = new MonthTable(1024); // Guarded by lock
+    private List<Consumer<MonthTable>> writesDuringRebuild; // Guarded by lock; null when no rebuild is running
+    // Per employee-month being reloaded, one day bitmask per reload of the days written meanwhile; guarded by lock
+    private final Map<Long, List<int[]>> writesDuringReload = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        MonthTable rebuilt = new MonthTable(1024);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        int days = readOnly.execute(status -> {
+            int count = 0;
+            try (Stream<AttendanceDay> rows = attendanceRepository.streamAllDays()) {
+                for (AttendanceDay row : (Iterable<AttendanceDay>) rows::iterator) {
+                    rebuilt.setDay(key(row.getEmployeeId(), YearMonth.from(row.getAttendanceDate())),
+                            row.getAttendanceDate().getDayOfMonth(), code(row.getStatus()));
+                    count++;
+                }
+            }
+            return count;
+        });
+        lock.writeLock().lock();
+        try {
+            // Marks committed while the rows were streamed may be missing from them; they are newer, so replay them
+            writesDuringRebuild.forEach(change -> change.accept(rebuilt));
+            writesDuringRebuild = null;
+            table = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        logger.info("Attendance index built from {} attendance days ({} employee-months) in {} ms.",
+                days, rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    // False until the startup load has finished; callers read the database until then
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Records a day's status once the current transaction commits, or straight away outside a transaction,
+     * so a rolled back mark never reaches the index.
+     */
+    public void recordAfterCommit(Long employeeId, LocalDate date, AttendanceStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(employeeId, date, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(employeeId, date, status);
+            }
+        });
+    }
+
+    /**
+     * Bulk version for one date, applied under a single lock acquisition after commit.
+     */
+    public void recordAfterCommit(LocalDate date, Map<Long, AttendanceStatus> statuses) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(date, statuses);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(date, statuses);
+            }
+        });
+    }
+
+    void record(LocalDate date, Map<Long, AttendanceStatus> statuses) {
+        YearMonth yearMonth = YearMonth.from(date);
+        write(target -> statuses.forEach((employeeId, status) ->
+                setDay(target, key(employeeId, yearMonth), date.getDayOfMonth(), code(status))));
+    }
+
+    void record(Long employeeId, LocalDate date, AttendanceStatus status) {
+        long key = key(employeeId, YearMonth.from(date));
+        write(target -> setDay(target, key, date.getDayOfMonth(), code(status)));
+    }
+
+    // Under the write lock
+    private void setDay(MonthTable target, long key, int day, int code) {
+        target.setDay(key, day, code);
+        List<int[]> reloads = writesDuringReload.get(key);
+        if (reloads != null) {
+            reloads.forEach(written -> written[0] |= 1 << day);
+        }
+    }
+
+    /**
+     * Days of the month with each status, indexed by AttendanceStatus ordinal.
+     */
+    public int[] countByStatus(Long employeeId, YearMonth yearMonth) {
+        long[] words = words(employeeId, yearMonth);
+        return countByStatus(words[0], words[1]);
+    }
+
+    /**
+     * A day's status, or null when it is unmarked.
+     */
+    public AttendanceStatus dayStatus(Long employeeId, LocalDate date) {
+        return status(dayCode(words(employeeId, YearMonth.from(date)), date.getDayOfMonth()));
+    }
+
+    /**
+     * The month's statuses by day (element 0 is day 1), null for unmarked days.
+     */
+    public AttendanceStatus[] monthStatuses(Long employeeId, YearMonth yearMonth) {
+        return statuses(words(employeeId, yearMonth), yearMonth);
+    }
+
+    /**
+     * Replaces one employee-month with what the database holds, read as a three-column projection, and returns
+     * its status counts. For callers that must see marks committed on other instances.
+     */
+    public int[] reloadMonth(Long employeeId, YearMonth yearMonth) {
+        long[] words = reload(employeeId, yearMonth);
+        return countByStatus(words[0], words[1]);
+    }
+
+    /**
+     * reloadMonth returning the month's statuses by day, as monthStatuses does.
+     */
+    public AttendanceStatus[] reloadMonthStatuses(Long employeeId, YearMonth yearMonth) {
+        return statuses(reload(employeeId, yearMonth), yearMonth);
+    }
+
+    // The database is read outside the lock. A day recorded meanwhile may be missing from the rows, and it is
+    // newer than them, so the merge keeps the index's value for it.
+    private long[] reload(Long employeeId, YearMonth yearMonth) {
+        long key = key(employeeId, yearMonth);
+        int[] written = new int[1];
+        lock.writeLock().lock();
+        try {
+            writesDuringReload.computeIfAbsent(key, k -> new ArrayList<>()).add(written);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        long[] loaded = new long[2];
+        try {
+            List<AttendanceDay> days = attendanceRepository.findDaysByEmployeeIdAndDateBetween(employeeId,
+                    yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            for (AttendanceDay day : days) {
+                setDayCode(loaded, day.getAttendanceDate().getDayOfMonth(), code(day.getStatus()));
+            }
+        } catch (RuntimeException e) {
+            endReload(key, written);
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long[] current = table.get(key);
+            long[] merged = new long[2];
+            for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+                setDayCode(merged, day, dayCode((written[0] & (1 << day)) != 0 ? current : loaded, day));
+            }
+            endReload(key, written);
+            write(target -> target.put(key, merged[0], merged[1]));
+            return merged;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void endReload(long key, int[] written) {
+        lock.writeLock().lock();
+        try {
+            List<int[]> reloads = writesDuringReload.get(key);
+            reloads.remove(written);
+            if (reloads.isEmpty()) {
+                writesDuringReload.remove(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Applies a change to the table, and remembers it for the table being rebuilt if there is one
+    private void write(Consumer<MonthTable> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(table);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long[] words(Long employeeId, YearMonth yearMonth) {
+        lock.readLock().lock();
+        try {
+            return table.get(key(employeeId, yearMonth));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int[] countByStatus(long low, long high) {
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        int[] counts = new int[statuses.length];
+        for (AttendanceStatus status : statuses) {
+            counts[status.ordinal()] = countCode(low, code(status)) + countCode(high, code(status));
+        }
+        return counts;
+    }
+
+    // Day slots of a word holding the given code: XOR with the code in every slot zeroes the matching slots
+    static int countCode(long word, int code) {
+        long diff = word ^ (SLOT_LOW_BITS * code);
+        long nonZeroSlots = (diff | (diff >>> 1) | (diff >>> 2)) & SLOT_LOW_BITS;
+        return Long.bitCount(~nonZeroSlots & SLOT_LOW_BITS);
+    }
+
+    static void setDayCode(long[] words, int day, int code) {
+        int word = (day - 1) / DAYS_PER_WORD;
+        int shift = ((day - 1) % DAYS_PER_WORD) * BITS_PER_DAY;
+        words[word] = (words[word] & ~(DAY_MASK << shift)) | ((long) code << shift);
+    }
+
+    static int dayCode(long[] words, int day) {
+        int shift = ((day - 1) % DAYS_PER_WORD) * BITS_PER_DAY;
+        return (int) ((words[(day - 1) / DAYS_PER_WORD] >>> shift) & DAY_MASK);
+    }
+
+    static int code(AttendanceStatus status) {
+        return status == null ? 0 : status.ordinal() + 1;
+    }
+
+    private static AttendanceStatus[] statuses(long[] words, YearMonth yearMonth) {
+        AttendanceStatus[] statuses = new AttendanceStatus[yearMonth.lengthOfMonth()];
+        for (int day = 1; day <= statuses.length; day++) {
+            statuses[day - 1] = status(dayCode(words, day));
+        }
+        return statuses;
+    }
+
+    private static AttendanceStatus status(int code) {
+        return code == 0 ? null : AttendanceStatus.values()[code - 1];
+    }
+
+    // Employee id in the high bits, months since year 0 in the low 20; never 0 for a real employee
+    static long key(Long employeeId, YearMonth yearMonth) {
+        return (employeeId << 20) | (yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1);
+    }
+
+    /**
+     * Open-addressing (linear probing) table from a non-zero long key to two long words, in parallel primitive
+     * arrays. Entries are never removed: an employee-month with no marked day is simply all zeros.
+     */
+    static final class MonthTable {
+        private long[] keys;
+        private long[] lows;
+        private long[] highs;
+        private int size;
+
+        MonthTable(int initialCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(16, initialCapacity) - 1) << 1;
+            keys = new long[capacity];
+            lows = new long[capacity];
+            highs = new long[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        // A copy of the entry's words; zeros when absent
+        long[] get(long key) {
+            int slot = find(keys, key);
+            return keys[slot] == key ? new long[] {lows[slot], highs[slot]} : new long[2];
+        }
+
+        void setDay(long key, int day, int code) {
+            int slot = slotFor(key);
+            long[] words = {lows[slot], highs[slot]};
+            setDayCode(words, day, code);
+            lows[slot] = words[0];
+            highs[slot] = words[1];
+        }
+
+        void put(long key, long low, long high) {
+            int slot = slotFor(key);
+            lows[slot] = low;
+            highs[slot] = high;
+        }
+
+        // Slot of the key, inserting an empty entry when it is absent
+        private int slotFor(long key) {
+            int slot = find(keys, key);
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if ((size + 1) * 2 > keys.length) { // Keeps the load factor at or below one half
+                grow();
+                slot = find(keys, key);
+            }
+            keys[slot] = key;
+            size++;
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys, oldLows = lows, oldHighs = highs;
+            keys = new long[oldKeys.length * 2];
+            lows = new long[keys.length];
+            highs = new long[keys.length];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = find(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    lows[slot] = oldLows[i];
+                    highs[slot] = oldHighs[i];
+                }
+            }
+        }
+
+        // Slot holding the key, or the empty slot where it would go
+        private static int find(long[] keys, long key) {
+            int mask = keys.length - 1;
+            long hash = key * 0x9E3779B97F4A7C15L;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
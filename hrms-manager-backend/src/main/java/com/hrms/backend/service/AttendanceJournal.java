@@ -0,0 +1,165 @@
+package com.hrms.backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import com.hrms.backend.entity.AttendanceStatus;
+
+/**
+ * Append-only file of acknowledged self-marks, one "employeeId,date,status,markedAt" line each. Appends are
+ * group-committed: writers append under one lock and then wait for a force that covers their bytes, so a single
+ * fsync acknowledges every mark appended while the previous one was running. The file is truncated once all
+ * appended marks have reached the database; whatever it still holds at startup is replayed.
+ */
+final class AttendanceJournal implements Closeable {
+
+    private final FileChannel channel;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private volatile long written; // End of the last append; changed under appendLock
+    private long synced; // Guarded by syncLock; lock order is appendLock before syncLock
+
+    AttendanceJournal(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        written = channel.size();
+        synced = written;
+    }
+
+    /**
+     * Every complete entry in the file, for replay before the first append. A torn last line left by a crash
+     * mid-append was never acknowledged: it is skipped and cut off.
+     */
+    List<Entry> readAll() throws IOException {
+        synchronized (appendLock) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(written));
+            while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+                // Read until the buffer is full
+            }
+            int complete = buffer.position();
+            while (complete > 0 && buffer.get(complete - 1) != '\n') {
+                complete--;
+            }
+            if (complete < written) {
+                channel.truncate(complete);
+            }
+            written = complete;
+            synchronized (syncLock) {
+                synced = complete;
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (String line : new String(buffer.array(), 0, complete, StandardCharsets.UTF_8).split("\n")) {
+                Entry entry = Entry.parse(line);
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Appends an entry and returns once it is on disk. The callback runs under the append lock right after
+     * the write, so anything it enqueues is visible to truncateIf.
+     */
+    void append(Entry entry, Runnable onWritten) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap(entry.format().getBytes(StandardCharsets.UTF_8));
+        long end;
+        synchronized (appendLock) {
+            long position = written;
+            while (line.hasRemaining()) {
+                position += channel.write(line, position);
+            }
+            written = end = position;
+            onWritten.run();
+        }
+        sync(end);
+    }
+
+    // One force covers every append that finished before it started
+    private void sync(long end) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= end) {
+                return;
+            }
+            long target = written;
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    /**
+     * Empties the file if nothing is pending, checked under the append lock so no append slips in between.
+     * @return whether the file was truncated.
+     */
+    boolean truncateIf(BooleanSupplier nothingPending) throws IOException {
+        synchronized (appendLock) {
+            if (written == 0 || !nothingPending.getAsBoolean()) {
+                return false;
+            }
+            channel.truncate(0);
+            channel.force(false);
+            written = 0;
+            synchronized (syncLock) {
+                synced = 0;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    static final class Entry {
+        private final Long employeeId;
+        private final LocalDate date;
+        private final AttendanceStatus status;
+        private final LocalDateTime markedAt;
+
+        Entry(Long employeeId, LocalDate date, AttendanceStatus status, LocalDateTime markedAt) {
+            this.employeeId = employeeId;
+            this.date = date;
+            this.status = status;
+            this.markedAt = markedAt;
+        }
+
+        Long getEmployeeId() { return employeeId; }
+        LocalDate getDate() { return date; }
+        AttendanceStatus getStatus() { return status; }
+        LocalDateTime getMarkedAt() { return markedAt; }
+
+        String format() {
+            return employeeId + "," + date + "," + status.name() + "," + markedAt + "\n";
+        }
+
+        // Null for a line that is not a complete entry
+        static Entry parse(String line) {
+            String[] fields = line.split(",");
+            if (fields.length != 4) {
+                return null;
+            }
+            try {
+                return new Entry(Long.valueOf(fields[0]), LocalDate.parse(fields[1]), AttendanceStatus.valueOf(fields[2]),
+                        LocalDateTime.parse(fields[3]));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,25 +1,46 @@
 package com.hrms.backend.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import com.hrms.backend.dto.AttendanceDto;
+import com.hrms.backend.dto.AttendanceMonthDto;
+import com.hrms.backend.dto.AttendancePageDto;
+import com.hrms.backend.dto.BulkAttendanceMarkReport;
+import com.hrms.backend.dto.BulkAttendanceMarkResult;
+import com.hrms.backend.dto.BulkMarkAttendanceRequest;
 import com.hrms.backend.dto.MarkAttendanceRequest;
 import com.hrms.backend.entity.Attendance;
 import com.hrms.backend.entity.AttendanceStatus;
 import com.hrms.backend.entity.Employee;
 import com.hrms.backend.entity.Role;
 import com.hrms.backend.entity.User;
+import com.hrms.backend.repository.AttendanceBatchWriter;
 import com.hrms.backend.repository.AttendanceRepository;
+import com.hrms.backend.repository.AttendanceRepository.AttendanceMark;
 import com.hrms.backend.repository.EmployeeRepository;
 import com.hrms.backend.repository.UserRepository;
 
@@ -30,6 +51,14 @@ public class AttendanceService {
 
     private static final Logger logger = LoggerFactory.getLogger(AttendanceService.class);
 
+    public static final String SELF_MARKED_LABEL = "Employee Self-Marked";
+
+    public static final String OUTCOME_CREATED = "CREATED";
+    public static final String OUTCOME_UPDATED = "UPDATED";
+    public static final String OUTCOME_UNCHANGED = "UNCHANGED";
+    public static final String OUTCOME_SKIPPED = "SKIPPED";
+    public static final String OUTCOME_REJECTED = "REJECTED";
+
     @Autowired
     private AttendanceRepository attendanceRepository;
 
@@ -39,6 +68,27 @@ public class AttendanceService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private WorkingCalendar workingCalendar;
+
+    @Autowired
+    private PayslipRecomputeService payslipRecomputeService;
+
+    @Autowired
+    private AttendanceIndex attendanceIndex;
+
+    @Autowired
+    private AttendanceBatchWriter attendanceBatchWriter;
+
+    @Value("${hrms.attendance-bulk.max-entries:10000}")
+    private int maxBulkEntries;
+
+    @Value("${hrms.attendance.page.default-size:200}")
+    private int defaultPageSize;
+
+    @Value("${hrms.attendance.page.max-size:1000}")
+    private int maxPageSize;
+
     /**
      * Marks attendance for an employee. Can be used by an employee for self-marking
      * (for today only) or by an admin/HR for any employee on any date.
@@ -140,11 +190,7 @@ public class AttendanceService {
         if (existingAttendance.isPresent()) {
             throw new IllegalArgumentException("Attendance already marked for today for employee: " + employee.getFirstName());
         }
-        
-        // Employees can only mark PRESENT or HALF_DAY for themselves
-        if (status != AttendanceStatus.PRESENT && status != AttendanceStatus.HALF_DAY) {
-            throw new IllegalArgumentException("Employees can only mark themselves as PRESENT or HALF_DAY.");
-        }
+        checkSelfMark(status, today);
 
         Attendance attendance = new Attendance();
         attendance.setEmployee(employee);
@@ -153,15 +199,29 @@ public class AttendanceService {
         // MarkedBy can be null if employee marks their own attendance, or set to employee's user if desired
         // For simplicity, leaving as null here, as it's implied by the endpoint.
         attendance.setMarkedBy(null); // Employee marks their own, no specific admin user
-        attendance.setMarkedByLabelOverride("Employee Self-Marked"); // Custom label for UI
+        attendance.setMarkedByLabelOverride(SELF_MARKED_LABEL); // Custom label for UI
         attendance.setTimestamp(LocalDateTime.now());
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        attendanceIndex.recordAfterCommit(employee.getId(), today, status);
         logger.info("Attendance marked successfully for employee {} (ID: {}) as {} by Employee Self-Marked.",
                 employee.getFirstName(), employee.getId(), status);
         return convertToDto(savedAttendance);
     }
 
+    // Rules on what an employee may mark for themselves, shared with the write-behind path
+    void checkSelfMark(AttendanceStatus status, LocalDate date) {
+        // Employees can only mark PRESENT or HALF_DAY for themselves
+        if (status != AttendanceStatus.PRESENT && status != AttendanceStatus.HALF_DAY) {
+            throw new IllegalArgumentException("Employees can only mark themselves as PRESENT or HALF_DAY.");
+        }
+
+        // Weekends and holidays are not working days; attendance on those days is recorded by an admin
+        if (!workingCalendar.isWorkingDay(date)) {
+            throw new IllegalArgumentException("Today is not a working day. Attendance cannot be self-marked.");
+        }
+    }
+
     /**
      * Admin/HR marks attendance for a specific employee.
      * @param employeeId The ID of the employee whose attendance is being marked.
@@ -175,22 +235,9 @@ public class AttendanceService {
         logger.info("Admin user ID {} attempting to mark attendance for employee ID: {} as {}",
                     adminUserId, employeeId, status);
 
-        User markingUser = null;
-        String markedByLabel = null;
-        if (adminUserId == 0L) {
-            // Special handling for hardcoded 'superadmin' not in DB
-            //markingUser = new User(0L, "superadmin", null, Role.ADMIN); // Password can be null for this purpose
-        	logger.warn("Synthetic superadmin (ID 0) is marking attendance. 'marked_by_user_id' will be null in DB.");
-            markedByLabel = "Admin Marked (System)"; // Custom label for UI
-        } else {
-            // For regular admin/HR users stored in the database
-            markingUser = userRepository.findById(adminUserId)
-                    .orElseThrow(() -> new IllegalArgumentException("Admin user not found with ID: " + adminUserId));
-
-            if (markingUser.getRole() != Role.ADMIN && markingUser.getRole() != Role.HR) {
-                throw new IllegalArgumentException("Unauthorized: Only ADMIN or HR can mark attendance for others.");
-            }
-        }
+        MarkingAdmin markingAdmin = resolveMarkingAdmin(adminUserId);
+        User markingUser = markingAdmin.user;
+        String markedByLabel = markingAdmin.label;
 
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found with ID: " + employeeId));
@@ -223,6 +270,8 @@ public class AttendanceService {
         attendance.setTimestamp(LocalDateTime.now());
 
         Attendance savedAttendance = attendanceRepository.save(attendance);
+        attendanceIndex.recordAfterCommit(employee.getId(), attendanceDate, status);
+        payslipRecomputeService.markDirty(employee.getId(), attendanceDate); // Back-dated marks can change a generated payslip
         logger.info("Attendance marked successfully for employee {} (ID: {}) on {} as {} by {}.",
                     employee.getFirstName(), employee.getId(), attendanceDate, status,
                     (markedByLabel != null ? markedByLabel : (markingUser != null ? markingUser.getUsername() : "Unknown Admin")));
@@ -230,6 +279,168 @@ public class AttendanceService {
     }
 
 
+    /**
+     * Admin/HR marks one date for many employees at once: either the listed (employeeId, status) entries or
+     * every employee of a department with one status. The admin is resolved once, the date's existing marks are
+     * read with one IN query per thousand employees, new marks go out as multi-row inserts and overwritten ones
+     * as one batch of updates, and each affected payslip is queued for recalculation once.
+     * @param request The date, and either entries or a department plus status.
+     * @param adminUserId The ID of the authenticated admin/HR user performing the action.
+     * @return BulkAttendanceMarkReport with an outcome per employee.
+     * @throws IllegalArgumentException if the request is malformed or the admin user is not found/unauthorized.
+     */
+    @Transactional
+    public BulkAttendanceMarkReport markAttendanceInBulk(BulkMarkAttendanceRequest request, Long adminUserId) {
+        LocalDate date = request.getAttendanceDate();
+        if (date == null) {
+            throw new IllegalArgumentException("Attendance date is required.");
+        }
+        boolean byDepartment = request.getDepartment() != null && !request.getDepartment().isBlank();
+        boolean hasEntries = request.getEntries() != null && !request.getEntries().isEmpty();
+        if (byDepartment == hasEntries) {
+            throw new IllegalArgumentException("Provide exactly one of a list of entries or a department.");
+        }
+        if (byDepartment && request.getStatus() == null) {
+            throw new IllegalArgumentException("A status is required when marking a whole department.");
+        }
+        MarkingAdmin markingAdmin = resolveMarkingAdmin(adminUserId);
+
+        List<MarkAttendanceRequest> entries = request.getEntries();
+        if (byDepartment) {
+            entries = employeeRepository.findIdsByDepartment(request.getDepartment().trim()).stream()
+                    .map(employeeId -> new MarkAttendanceRequest(employeeId, date, request.getStatus()))
+                    .collect(Collectors.toList());
+            if (entries.isEmpty()) {
+                throw new IllegalArgumentException("No employees found in department: " + request.getDepartment());
+            }
+        }
+        if (entries.size() > maxBulkEntries) {
+            throw new IllegalArgumentException("At most " + maxBulkEntries + " employees can be marked at once; got " + entries.size() + ".");
+        }
+
+        // Which employees exist and which are already marked on the date
+        Set<Long> requestedIds = entries.stream()
+                .map(entry -> entry == null ? null : entry.getEmployeeId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Long> knownIds = byDepartment ? requestedIds : new HashSet<>();
+        Map<Long, AttendanceMark> existing = new HashMap<>();
+        for (List<Long> batch : Partitions.partition(new ArrayList<>(requestedIds), 1000)) {
+            if (!byDepartment) {
+                knownIds.addAll(employeeRepository.findExistingIds(batch));
+            }
+            attendanceRepository.findMarksByDateAndEmployeeIdIn(date, batch)
+                    .forEach(mark -> existing.put(mark.getEmployeeId(), mark));
+        }
+
+        boolean overwrite = Boolean.TRUE.equals(request.getOverwrite());
+        LocalDateTime now = LocalDateTime.now();
+        List<Attendance> inserts = new ArrayList<>();
+        List<Attendance> updates = new ArrayList<>();
+        Map<Long, AttendanceStatus> written = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        List<BulkAttendanceMarkResult> results = new ArrayList<>(entries.size());
+        int unchanged = 0;
+        int skipped = 0;
+        for (MarkAttendanceRequest entry : entries) {
+            Long employeeId = entry == null ? null : entry.getEmployeeId();
+            AttendanceStatus status = entry == null ? null : entry.getStatus();
+            String error = validateBulkEntry(entry, date, knownIds, seen);
+            if (error != null) {
+                results.add(new BulkAttendanceMarkResult(employeeId, status, OUTCOME_REJECTED, error));
+                continue;
+            }
+            AttendanceMark mark = existing.get(employeeId);
+            if (mark != null && mark.getStatus() == status) {
+                results.add(new BulkAttendanceMarkResult(employeeId, status, OUTCOME_UNCHANGED, null));
+                unchanged++;
+                continue;
+            }
+            if (mark != null && !overwrite) {
+                results.add(new BulkAttendanceMarkResult(employeeId, status, OUTCOME_SKIPPED,
+                        "Attendance already marked as " + mark.getStatus() + " for this date"));
+                skipped++;
+                continue;
+            }
+            Employee employee = new Employee(); // Only the id is written
+            employee.setId(employeeId);
+            Attendance attendance = new Attendance(employee, date, status, markingAdmin.user, markingAdmin.label, now);
+            if (mark == null) {
+                inserts.add(attendance);
+            } else {
+                attendance.setId(mark.getId());
+                updates.add(attendance);
+            }
+            written.put(employeeId, status);
+            results.add(new BulkAttendanceMarkResult(employeeId, status, mark == null ? OUTCOME_CREATED : OUTCOME_UPDATED, null));
+        }
+
+        int created = attendanceBatchWriter.insert(inserts);
+        int updated = attendanceBatchWriter.update(updates);
+        int flagged = 0;
+        if (!written.isEmpty()) {
+            attendanceIndex.recordAfterCommit(date, written);
+            // Back-dated marks can change generated payslips
+            flagged = payslipRecomputeService.markDirty(date.getMonthValue(), date.getYear(), written.keySet());
+        }
+        int rejected = entries.size() - written.size() - unchanged - skipped;
+        logger.info("Bulk attendance for {} by {}: {} created, {} updated, {} unchanged, {} skipped, {} rejected; {} payslips queued for recalculation.",
+                date, markingAdmin.describe(), created, updated, unchanged, skipped, rejected, flagged);
+        return new BulkAttendanceMarkReport(date, created, updated, unchanged, skipped, rejected, flagged, results);
+    }
+
+    // Null when the entry can be written
+    private static String validateBulkEntry(MarkAttendanceRequest entry, LocalDate date, Set<Long> knownIds, Set<Long> seen) {
+        if (entry == null) {
+            return "Empty entry";
+        }
+        if (entry.getEmployeeId() == null) {
+            return "Employee ID is required";
+        }
+        if (entry.getStatus() == null) {
+            return "Status is required";
+        }
+        if (entry.getAttendanceDate() != null && !entry.getAttendanceDate().equals(date)) {
+            return "Entry date " + entry.getAttendanceDate() + " differs from the request date " + date;
+        }
+        if (!knownIds.contains(entry.getEmployeeId())) {
+            return "Employee not found with ID: " + entry.getEmployeeId();
+        }
+        if (!seen.add(entry.getEmployeeId())) {
+            return "Duplicate entry for this employee";
+        }
+        return null;
+    }
+
+    // The synthetic superadmin (ID 0) is not in the DB; its marks carry a label instead of a user
+    private MarkingAdmin resolveMarkingAdmin(Long adminUserId) {
+        if (adminUserId == 0L) {
+            logger.warn("Synthetic superadmin (ID 0) is marking attendance. 'marked_by_user_id' will be null in DB.");
+            return new MarkingAdmin(null, "Admin Marked (System)"); // Custom label for UI
+        }
+        // For regular admin/HR users stored in the database
+        User markingUser = userRepository.findById(adminUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Admin user not found with ID: " + adminUserId));
+        if (markingUser.getRole() != Role.ADMIN && markingUser.getRole() != Role.HR) {
+            throw new IllegalArgumentException("Unauthorized: Only ADMIN or HR can mark attendance for others.");
+        }
+        return new MarkingAdmin(markingUser, null);
+    }
+
+    private static final class MarkingAdmin {
+        final User user;
+        final String label;
+
+        MarkingAdmin(User user, String label) {
+            this.user = user;
+            this.label = label;
+        }
+
+        String describe() {
+            return label != null ? label : user.getUsername();
+        }
+    }
+
     /**
      * Retrieves attendance history for a specific employee.
      *
@@ -248,6 +459,32 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * An employee's attendance calendar for one month, decoded from the AttendanceIndex once the month is
+     * reloaded from a three-column projection, without loading attendance records.
+     * @throws IllegalArgumentException if the employee is not found or the month is invalid.
+     */
+    public AttendanceMonthDto getEmployeeAttendanceMonth(Long employeeUserId, Integer year, Integer month) {
+        if (year == null || month == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month or year for attendance calendar.");
+        }
+        Employee employee = employeeRepository.findByUserId(employeeUserId)
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found for user ID: " + employeeUserId));
+        YearMonth yearMonth = YearMonth.of(year, month);
+        // Reloaded, so marks made through other instances show up; one narrow query for the month
+        AttendanceStatus[] days = attendanceIndex.reloadMonthStatuses(employee.getId(), yearMonth);
+        Map<AttendanceStatus, Integer> countsByStatus = new EnumMap<>(AttendanceStatus.class);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            countsByStatus.put(status, 0);
+        }
+        for (AttendanceStatus day : days) {
+            if (day != null) {
+                countsByStatus.merge(day, 1, Integer::sum);
+            }
+        }
+        return new AttendanceMonthDto(year, month, Arrays.asList(days), countsByStatus);
+    }
+
     /**
      * Retrieves all attendance records, optionally filtered by date range.
      * Requires ADMIN or HR role.
@@ -287,6 +524,68 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * One page of all attendance records, newest date first, then by employee first name and record id. Pages are
+     * read by keyset rather than OFFSET: the cursor holds the previous page's last (date, first name, id), so every
+     * page costs the same however deep it is, and rows added meanwhile never shift later pages.
+     * @param cursor Continuation token from the previous page, or null for the first page.
+     * @param size   Records per page; defaults to hrms.attendance.page.default-size and is capped at the max size.
+     * @return AttendancePageDto with the records and the next page's cursor (null on the last page).
+     * @throws IllegalArgumentException if the cursor is malformed or the size is not positive.
+     */
+    public AttendancePageDto getAttendancePage(String cursor, Integer size) {
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        int pageSize = Math.min(size == null ? defaultPageSize : size, maxPageSize);
+        Limit limit = Limit.of(pageSize + 1); // One extra row tells whether another page follows
+        List<Attendance> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = attendanceRepository.findFirstPage(limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = attendanceRepository.findPageAfter(after.attendanceDate, after.firstName, after.id, limit);
+        }
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = PageCursor.of(rows.get(pageSize - 1)).encode();
+        }
+        return new AttendancePageDto(rows.stream().map(this::convertToDto).collect(Collectors.toList()), nextCursor);
+    }
+
+    // Position of a row in the listing order, as an opaque URL-safe token
+    private static final class PageCursor {
+        final LocalDate attendanceDate;
+        final Long id;
+        final String firstName;
+
+        PageCursor(LocalDate attendanceDate, Long id, String firstName) {
+            this.attendanceDate = attendanceDate;
+            this.id = id;
+            this.firstName = firstName;
+        }
+
+        static PageCursor of(Attendance attendance) {
+            return new PageCursor(attendance.getAttendanceDate(), attendance.getId(), attendance.getEmployee().getFirstName());
+        }
+
+        // The name goes last, so it may contain the separator
+        String encode() {
+            String position = attendanceDate + "|" + id + "|" + firstName;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageCursor decode(String token) {
+            try {
+                String[] fields = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+                return new PageCursor(LocalDate.parse(fields[0]), Long.valueOf(fields[1]), fields[2]);
+            } catch (RuntimeException e) { // Bad Base64, too few fields, or unparsable values
+                throw new IllegalArgumentException("Invalid page cursor.");
+            }
+        }
+    }
+
     /**
      * Updates an existing attendance record. Requires ADMIN or HR role.
      *
@@ -331,6 +630,8 @@ public class AttendanceService {
         attendance.setTimestamp(LocalDateTime.now()); // Update timestamp
 
         Attendance updatedAttendance = attendanceRepository.save(attendance);
+        attendanceIndex.recordAfterCommit(attendance.getEmployee().getId(), attendance.getAttendanceDate(), updatedAttendance.getStatus());
+        payslipRecomputeService.markDirty(attendance.getEmployee().getId(), attendance.getAttendanceDate());
         logger.info("Successfully updated attendance record ID: {} to status {}", attendanceId, updatedAttendance.getStatus());
         return convertToDto(updatedAttendance);
     }
@@ -0,0 +1,237 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrms.backend.dto.AttendanceDto;
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.repository.AttendanceBatchWriter;
+import com.hrms.backend.repository.AttendanceRepository;
+import com.hrms.backend.repository.EmployeeRepository;
+import com.hrms.backend.repository.EmployeeRepository.EmployeeSelfMarker;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Opt-in write-behind path for employee self-marks (hrms.attendance.write-behind.enabled), for the morning spike
+ * when nearly everyone marks within minutes. A mark is checked in memory (the employee from a preloaded user map,
+ * duplicates against the pending set and the AttendanceIndex, the day against the WorkingCalendar), appended to a
+ * local AttendanceJournal and acknowledged once the append is on disk, without taking a connection. A scheduled
+ * flusher writes the pending marks with multi-row inserts every few hundred milliseconds, and the journal is
+ * replayed at startup, so an acknowledged mark survives a crash. Like the index, the pending set is local to this
+ * instance: if two instances accept the same employee-day, the first mark to reach the database wins.
+ * Until the journal has been replayed and the index loaded, marks take the synchronous path.
+ */
+@Service
+public class AttendanceWriteBehindService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceWriteBehindService.class);
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceIndex attendanceIndex;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private AttendanceBatchWriter attendanceBatchWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${hrms.attendance.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${hrms.attendance.write-behind.journal:attendance-journal/self-marks.log}")
+    private String journalFile;
+
+    @Value("${hrms.attendance.write-behind.max-batch:2000}")
+    private int maxBatch;
+
+    private final Map<Long, EmployeeSelfMarker> employeesByUserId = new ConcurrentHashMap<>();
+    private final Set<Long> pendingKeys = ConcurrentHashMap.newKeySet(); // (employee, day) of every journaled, unflushed mark
+    private final BlockingQueue<AttendanceJournal.Entry> pending = new LinkedBlockingQueue<>();
+    private volatile AttendanceJournal journal; // Null while disabled or starting up
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        AttendanceJournal opened = new AttendanceJournal(Paths.get(journalFile));
+        List<AttendanceJournal.Entry> replayed = opened.readAll();
+        for (AttendanceJournal.Entry entry : replayed) {
+            if (pendingKeys.add(key(entry.getEmployeeId(), entry.getDate()))) {
+                pending.add(entry);
+            }
+        }
+        flush(opened);
+        employeeRepository.findAllSelfMarkers().forEach(employee -> employeesByUserId.put(employee.getUserId(), employee));
+        journal = opened;
+        logger.info("Attendance write-behind enabled: replayed {} journaled marks, {} employees preloaded.",
+                replayed.size(), employeesByUserId.size());
+    }
+
+    /**
+     * Employee marks their own attendance for today. With write-behind on, the mark is acknowledged once it is
+     * journaled and the returned AttendanceDto has no id yet; otherwise this is AttendanceService's method.
+     * @throws IllegalArgumentException if employee not found, attendance already marked for today, or the status
+     * or day cannot be self-marked.
+     */
+    public AttendanceDto markAttendanceByEmployee(Long employeeUserId, AttendanceStatus status) {
+        AttendanceJournal current = journal;
+        if (current == null || !attendanceIndex.isReady()) {
+            return attendanceService.markAttendanceByEmployee(employeeUserId, status);
+        }
+        EmployeeSelfMarker employee = employeesByUserId.get(employeeUserId);
+        if (employee == null) { // Hired since startup
+            employee = employeeRepository.findSelfMarkerByUserId(employeeUserId)
+                    .orElseThrow(() -> new IllegalArgumentException("Employee record not found for user ID: " + employeeUserId));
+            employeesByUserId.put(employeeUserId, employee);
+        }
+
+        LocalDate today = LocalDate.now();
+        long key = key(employee.getId(), today);
+        if (pendingKeys.contains(key) || attendanceIndex.dayStatus(employee.getId(), today) != null) {
+            throw new IllegalArgumentException("Attendance already marked for today for employee: " + employee.getFirstName());
+        }
+        attendanceService.checkSelfMark(status, today);
+        if (!pendingKeys.add(key)) { // A concurrent request for the same employee got there first
+            throw new IllegalArgumentException("Attendance already marked for today for employee: " + employee.getFirstName());
+        }
+
+        AttendanceJournal.Entry entry = new AttendanceJournal.Entry(employee.getId(), today, status, LocalDateTime.now());
+        try {
+            current.append(entry, () -> pending.add(entry));
+        } catch (IOException e) {
+            if (!pending.contains(entry)) { // The write failed; a failed force leaves the entry queued
+                pendingKeys.remove(key);
+            }
+            throw new UncheckedIOException("Could not journal attendance mark", e);
+        }
+        logger.debug("Attendance journaled for employee ID {} as {}.", employee.getId(), status);
+        return new AttendanceDto(null, employee.getId(), employee.getFirstName() + " " + employee.getLastName(), today,
+                status, AttendanceService.SELF_MARKED_LABEL, entry.getMarkedAt());
+    }
+
+    @Scheduled(fixedDelayString = "${hrms.attendance.write-behind.flush-interval-ms:250}")
+    public void flushPending() {
+        AttendanceJournal current = journal;
+        if (current != null) {
+            flush(current);
+        }
+    }
+
+    // Writes everything pending, then empties the journal if nothing new arrived meanwhile
+    private synchronized void flush(AttendanceJournal target) {
+        while (!pending.isEmpty()) {
+            List<AttendanceJournal.Entry> batch = new ArrayList<>();
+            pending.drainTo(batch, Math.max(1, maxBatch));
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                // Typically the database is unavailable, or another path marked one of these employee-days after
+                // the lookup; the next attempt reads the existing marks again
+                pending.addAll(batch);
+                logger.warn("Could not flush {} journaled attendance marks, will retry: {}", batch.size(), e.getMessage());
+                return;
+            }
+            batch.forEach(entry -> pendingKeys.remove(key(entry.getEmployeeId(), entry.getDate())));
+        }
+        try {
+            target.truncateIf(pending::isEmpty);
+        } catch (IOException e) {
+            logger.warn("Could not truncate the attendance journal: {}", e.getMessage());
+        }
+    }
+
+    private void write(List<AttendanceJournal.Entry> batch) {
+        Map<LocalDate, List<AttendanceJournal.Entry>> byDate = new TreeMap<>();
+        batch.forEach(entry -> byDate.computeIfAbsent(entry.getDate(), date -> new ArrayList<>()).add(entry));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> byDate.forEach(this::writeDay));
+    }
+
+    private void writeDay(LocalDate date, List<AttendanceJournal.Entry> entries) {
+        Set<Long> requestedIds = new HashSet<>();
+        entries.forEach(entry -> requestedIds.add(entry.getEmployeeId()));
+        Set<Long> knownIds = new HashSet<>();
+        Set<Long> markedIds = new HashSet<>();
+        for (List<Long> ids : Partitions.partition(new ArrayList<>(requestedIds), 1000)) {
+            knownIds.addAll(employeeRepository.findExistingIds(ids));
+            attendanceRepository.findMarksByDateAndEmployeeIdIn(date, ids).forEach(mark -> markedIds.add(mark.getEmployeeId()));
+        }
+
+        List<Attendance> rows = new ArrayList<>(entries.size());
+        Map<Long, AttendanceStatus> written = new HashMap<>();
+        for (AttendanceJournal.Entry entry : entries) {
+            Long employeeId = entry.getEmployeeId();
+            if (!knownIds.contains(employeeId)) {
+                logger.warn("Dropping journaled attendance of deleted employee ID {} on {}.", employeeId, date);
+            } else if (markedIds.contains(employeeId) || written.containsKey(employeeId)) {
+                // Already written before a crash, or marked through another path first
+                logger.debug("Dropping journaled attendance of employee ID {} on {}: already marked.", employeeId, date);
+            } else {
+                Employee employee = new Employee(); // Only the id is written
+                employee.setId(employeeId);
+                rows.add(new Attendance(employee, date, entry.getStatus(), null, AttendanceService.SELF_MARKED_LABEL,
+                        entry.getMarkedAt()));
+                written.put(employeeId, entry.getStatus());
+            }
+        }
+        int inserted = attendanceBatchWriter.insert(rows);
+        attendanceIndex.recordAfterCommit(date, written);
+        logger.debug("Flushed {} journaled attendance marks for {} ({} dropped).", inserted, date, entries.size() - inserted);
+    }
+
+    @PreDestroy
+    public void stop() {
+        AttendanceJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        journal = null; // Later marks take the synchronous path
+        flush(current); // Best effort; whatever is left is replayed on the next start
+        try {
+            current.close();
+        } catch (IOException e) {
+            logger.warn("Could not close the attendance journal: {}", e.getMessage());
+        }
+    }
+
+    private static long key(Long employeeId, LocalDate date) {
+        return (employeeId << 24) | date.toEpochDay();
+    }
+}
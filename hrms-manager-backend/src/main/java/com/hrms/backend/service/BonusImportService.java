@@ -0,0 +1,251 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.hrms.backend.dto.AddBonusRequest;
+import com.hrms.backend.dto.BonusImportReport;
+import com.hrms.backend.dto.BonusImportRowResult;
+import com.hrms.backend.entity.Bonus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.repository.BonusBatchWriter;
+import com.hrms.backend.repository.EmployeeRepository;
+
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports many bonuses at once from CSV or a JSON array. Rows are validated against the same constraints as a
+ * single bonus and against one preloaded set of employee ids, valid rows are written with multi-row inserts,
+ * and every affected employee-month is marked dirty once, so its payslip is recalculated once however many
+ * of its bonuses were imported. Invalid rows are reported and skipped; the valid ones are imported.
+ */
+@Service
+public class BonusImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BonusImportService.class);
+
+    public static final String STATUS_IMPORTED = "IMPORTED";
+    public static final String STATUS_REJECTED = "REJECTED";
+
+    private static final String CSV_FORMAT = "employeeId,amount,month,year,description";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private BonusBatchWriter bonusBatchWriter;
+
+    @Autowired
+    private PayslipRecomputeService payslipRecomputeService;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${hrms.bonus-import.max-rows:10000}")
+    private int maxRows;
+
+    /**
+     * @param csv header row with the columns employeeId, amount, month, year and optionally description (any
+     *            order, case-insensitive), then one bonus per line.
+     */
+    @Transactional
+    public BonusImportReport importCsv(String csv) {
+        List<List<String>> records = parseCsv(csv == null ? "" : csv);
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("The CSV is empty. Expected a header row: " + CSV_FORMAT);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = records.get(0);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : List.of("employeeid", "amount", "month", "year")) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing CSV column '" + required + "'. Expected: " + CSV_FORMAT);
+            }
+        }
+
+        List<ImportRow> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // Blank line
+            }
+            rows.add(toRow(i, record, columns));
+        }
+        return importRows(rows);
+    }
+
+    @Transactional
+    public BonusImportReport importRequests(List<AddBonusRequest> requests) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Expected a JSON array of bonuses.");
+        }
+        List<ImportRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            AddBonusRequest request = requests.get(i);
+            rows.add(new ImportRow(i + 1, request, request == null ? "Empty row" : null));
+        }
+        return importRows(rows);
+    }
+
+    private BonusImportReport importRows(List<ImportRow> rows) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("At most " + maxRows + " bonuses can be imported at once; got " + rows.size() + ".");
+        }
+        Set<Long> employeeIds = new HashSet<>(employeeRepository.findAllIds());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Bonus> bonuses = new ArrayList<>(rows.size());
+        List<BonusImportRowResult> results = new ArrayList<>(rows.size());
+        Map<YearMonth, Set<Long>> affected = new TreeMap<>();
+        for (ImportRow row : rows) {
+            AddBonusRequest request = row.request;
+            Long employeeId = request == null ? null : request.getEmployeeId();
+            String error = row.error != null ? row.error : validate(request, employeeIds);
+            if (error != null) {
+                results.add(new BonusImportRowResult(row.row, employeeId, STATUS_REJECTED, error));
+                continue;
+            }
+            Employee employee = new Employee(); // Only the id is written
+            employee.setId(employeeId);
+            bonuses.add(new Bonus(employee, request.getAmount(), request.getMonth(), request.getYear(),
+                    request.getDescription(), BonusService.ADMIN_LABEL, now));
+            affected.computeIfAbsent(YearMonth.of(request.getYear(), request.getMonth()), ym -> new TreeSet<>()).add(employeeId);
+            results.add(new BonusImportRowResult(row.row, employeeId, STATUS_IMPORTED, null));
+        }
+
+        int imported = bonusBatchWriter.insert(bonuses);
+        int employeeMonths = 0;
+        int flagged = 0;
+        for (Map.Entry<YearMonth, Set<Long>> entry : affected.entrySet()) {
+            employeeMonths += entry.getValue().size();
+            flagged += payslipRecomputeService.markDirty(entry.getKey().getMonthValue(), entry.getKey().getYear(), entry.getValue());
+        }
+        logger.info("Bonus import: {} rows, {} imported, {} rejected; {} employee-months affected, {} payslips queued for recalculation.",
+                rows.size(), imported, rows.size() - bonuses.size(), employeeMonths, flagged);
+        return new BonusImportReport(rows.size(), imported, rows.size() - bonuses.size(), employeeMonths, flagged, results);
+    }
+
+    // Null when the row can be imported
+    private String validate(AddBonusRequest request, Set<Long> employeeIds) {
+        Set<ConstraintViolation<AddBonusRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+        }
+        if (request.getMonth() > 12) {
+            return "Month must be between 1 and 12";
+        }
+        if (!employeeIds.contains(request.getEmployeeId())) {
+            return "Employee not found with ID: " + request.getEmployeeId();
+        }
+        return null;
+    }
+
+    private static ImportRow toRow(int row, List<String> record, Map<String, Integer> columns) {
+        try {
+            AddBonusRequest request = new AddBonusRequest(
+                    parse(field(record, columns, "employeeid"), "employeeId", Long::valueOf),
+                    parse(field(record, columns, "amount"), "amount", BigDecimal::new),
+                    parse(field(record, columns, "month"), "month", Integer::valueOf),
+                    parse(field(record, columns, "year"), "year", Integer::valueOf),
+                    field(record, columns, "description"));
+            return new ImportRow(row, request, null);
+        } catch (IllegalArgumentException e) {
+            return new ImportRow(row, null, e.getMessage());
+        }
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return record.get(index).trim();
+    }
+
+    private static <T> T parse(String value, String column, Function<String, T> parser) {
+        if (value == null) {
+            return null; // Reported by the @NotNull constraint
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    // RFC 4180: comma-separated, fields optionally quoted with "" as an escaped quote; CRLF or LF line ends
+    static List<List<String>> parseCsv(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int start = !csv.isEmpty() && csv.charAt(0) == '\uFEFF' ? 1 : 0; // Byte order mark written by spreadsheet exports
+        for (int i = start; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static final class ImportRow {
+        final int row;
+        final AddBonusRequest request;
+        final String error;
+
+        ImportRow(int row, AddBonusRequest request, String error) {
+            this.row = row;
+            this.request = request;
+            this.error = error;
+        }
+    }
+}
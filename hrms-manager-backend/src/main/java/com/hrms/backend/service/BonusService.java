@@ -1,6 +1,5 @@
 package com.hrms.backend.service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -30,15 +29,9 @@ public class BonusService {
     private EmployeeRepository employeeRepository;
 
     @Autowired
-    private PayrollService payrollService; // To trigger payslip recalculation
-
-    private static final String ADMIN_LABEL = "Admin"; // Hardcoded admin label for bonus addedBy
-
-    // Hardcoded payroll constants for recalculation (must match PayrollService)
-    private static final BigDecimal TAX_PERCENTAGE_FOR_RECALC = new BigDecimal("0.10"); // 10%
-    private static final BigDecimal PF_PERCENTAGE_FOR_RECALC = new BigDecimal("0.12"); // 12%
-    private static final Integer STANDARD_WORKING_DAYS_PER_MONTH_FOR_RECALC = 25; // 25 days
+    private PayslipRecomputeService payslipRecomputeService; // To trigger payslip recalculation
 
+    static final String ADMIN_LABEL = "Admin"; // Hardcoded admin label for bonus addedBy, shared with BonusImportService
 
     @Transactional
     public String addBonus(AddBonusRequest request) {
@@ -60,14 +53,10 @@ public class BonusService {
         logger.info("Bonus of {} added for employee {} (ID: {}) for {}-{}",
                 request.getAmount(), employee.getUser().getUsername(), employee.getId(), request.getMonth(), request.getYear());
 
-        // Recalculate payslip for this employee for the affected month/year
-        // Use the hardcoded constants defined in this service
-        payrollService.calculateAndSavePayslipForEmployee(
-            employee, request.getMonth(), request.getYear(),
-            TAX_PERCENTAGE_FOR_RECALC, PF_PERCENTAGE_FOR_RECALC, STANDARD_WORKING_DAYS_PER_MONTH_FOR_RECALC
-        );
+        // The payslip for the affected month/year (if already generated) is recalculated in the background
+        payslipRecomputeService.markDirty(employee.getId(), request.getMonth(), request.getYear());
 
-        return "Bonus added successfully and payslip updated.";
+        return "Bonus added successfully. The payslip will be updated shortly.";
     }
 
     public List<Bonus> getBonusesForEmployee(Long employeeId, Integer month, Integer year) {
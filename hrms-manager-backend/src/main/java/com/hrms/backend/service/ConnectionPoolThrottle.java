@@ -0,0 +1,97 @@
+package com.hrms.backend.service;
+
+import java.sql.SQLException;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Paces background payroll chunks against interactive traffic. A chunk may start only when at least the
+ * minimum interval has passed since the previous one, no request thread is waiting for a pooled connection and
+ * the share of busy connections (the payroll's own included) is at or below the configured ceiling. Chunk
+ * starts are serialized, so the effective chunk rate drops as soon as the pool gets busy and recovers when
+ * it quietens down. Without a Hikari pool only the minimum interval applies.
+ */
+@Component
+public class ConnectionPoolThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolThrottle.class);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${hrms.payroll.throttle.max-pool-utilization:0.75}")
+    private double maxPoolUtilization;
+
+    @Value("${hrms.payroll.throttle.min-chunk-interval-ms:500}")
+    private long minChunkIntervalMillis;
+
+    @Value("${hrms.payroll.throttle.poll-interval-ms:500}")
+    private long pollIntervalMillis;
+
+    private long lastChunkStartNanos; // Guarded by this
+
+    /**
+     * Blocks until a chunk may start, or until the run is cancelled.
+     */
+    public synchronized void awaitCapacity(BooleanSupplier cancelled) {
+        long waitStarted = System.nanoTime();
+        while (true) {
+            long now = System.nanoTime();
+            if (mayStart(now, lastChunkStartNanos, minChunkIntervalMillis * 1_000_000, poolUtilization(), maxPoolUtilization)) {
+                lastChunkStartNanos = now;
+                long waitedMillis = (now - waitStarted) / 1_000_000;
+                if (waitedMillis > 5_000) {
+                    logger.info("Throttled payroll chunk started after waiting {} ms for connection pool capacity.", waitedMillis);
+                }
+                return;
+            }
+            if (cancelled.getAsBoolean()) {
+                return;
+            }
+            try {
+                wait(pollIntervalMillis); // Releases the monitor while paused
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // lastChunkStartNanos is 0 before the first chunk
+    static boolean mayStart(long nowNanos, long lastChunkStartNanos, long minIntervalNanos, double utilization,
+            double maxUtilization) {
+        boolean intervalPassed = lastChunkStartNanos == 0 || nowNanos - lastChunkStartNanos >= minIntervalNanos;
+        return intervalPassed && utilization <= maxUtilization;
+    }
+
+    // Busy connections over the pool maximum; 1 when requests are already queueing for a connection
+    double poolUtilization() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return 0;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                return 0; // Pool not started yet
+            }
+            if (pool.getThreadsAwaitingConnection() > 0) {
+                return 1;
+            }
+            return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+        } catch (SQLException e) {
+            logger.warn("Could not read connection pool utilization: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
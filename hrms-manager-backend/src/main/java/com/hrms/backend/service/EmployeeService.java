@@ -1,6 +1,8 @@
 package com.hrms.backend.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -15,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.hrms.backend.dto.EmployeeCreationRequest;
 import com.hrms.backend.dto.EmployeeDetailsDto;
+import com.hrms.backend.dto.PayrollYearToDateDto;
+import com.hrms.backend.dto.PayslipCacheValidators;
 import com.hrms.backend.dto.PayslipDto;
 import com.hrms.backend.dto.UserDto;
 import com.hrms.backend.entity.Employee;
@@ -23,6 +27,8 @@ import com.hrms.backend.entity.Role;
 import com.hrms.backend.entity.User;
 import com.hrms.backend.repository.EmployeeRepository;
 import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipRepository.PayslipHistoryVersion;
+import com.hrms.backend.repository.PayslipRepository.PayslipYearToDate;
 import com.hrms.backend.repository.UserRepository;
 
 @Service
@@ -308,6 +314,42 @@ public class EmployeeService {
         return convertToPayslipDto(payslip);
     }
 
+    /**
+     * The user's year-to-date totals, read from the accumulators on their latest payslip of the year.
+     * @throws NoSuchElementException if they have no payslip in that year, or its totals have not been computed yet.
+     */
+    public PayrollYearToDateDto getMyYearToDate(Long userId, Integer year) {
+        PayslipYearToDate latest = payslipRepository.findFirstByEmployeeUserIdAndPayPeriodYearOrderByPayPeriodMonthDesc(userId, year)
+                .filter(ytd -> ytd.getYtdGrossSalary() != null)
+                .orElseThrow(() -> new NoSuchElementException("No year-to-date payroll totals for you for " + year));
+        return new PayrollYearToDateDto(year, latest.getPayPeriodMonth(), latest.getYtdGrossSalary(), latest.getYtdTaxDeduction(),
+                latest.getYtdPfDeduction(), latest.getYtdNetSalary());
+    }
+
+    /**
+     * Validators of the user's payslip for a month, from a three-column query instead of the entity.
+     * Empty when there is no such payslip (the full lookup then reports the 404).
+     */
+    public Optional<PayslipCacheValidators> getMyPayslipValidators(Long userId, Integer month, Integer year) {
+        return payslipRepository.findVersionByUserIdAndPeriod(userId, month, year)
+                .map(version -> validators("p" + version.getId() + "-r" + version.getPayrollRunId(), version.getGenerationDate()));
+    }
+
+    // Validators of the user's whole payslip list; empty when there are no payslips yet
+    public Optional<PayslipCacheValidators> getMyPayslipHistoryValidators(Long userId) {
+        PayslipHistoryVersion version = payslipRepository.findHistoryVersionByUserId(userId);
+        if (version == null || version.getCount() == null || version.getCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(validators("n" + version.getCount() + "-r" + version.getLastRunId(), version.getLastGenerated()));
+    }
+
+    // Weak ETag: it tracks the payslip figures, not the exact bytes (e.g. an employee name change keeps it)
+    private static PayslipCacheValidators validators(String version, LocalDateTime generationDate) {
+        long lastModified = generationDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new PayslipCacheValidators("W/\"" + version + "-" + Long.toString(lastModified, 36) + "\"", lastModified);
+    }
+
     // New method to get all payslips for a specific employee
     public List<PayslipDto> getAllPayslipsForEmployee(Long employeeId) {
         logger.info("Fetching all payslips for employee ID: {}", employeeId);
@@ -318,7 +360,7 @@ public class EmployeeService {
     }
 
     // Helper method to convert Employee entity to EmployeeDetailsDto
-    private EmployeeDetailsDto convertToDto(Employee employee) {
+    EmployeeDetailsDto convertToDto(Employee employee) {
         String username = (employee.getUser() != null) ? employee.getUser().getUsername() : "N/A";
         Long userId = (employee.getUser() != null) ? employee.getUser().getId() : null;
 
@@ -338,7 +380,7 @@ public class EmployeeService {
     }
 
     // Helper method to convert Payslip entity to PayslipDto
-    private PayslipDto convertToPayslipDto(Payslip payslip) {
+    PayslipDto convertToPayslipDto(Payslip payslip) {
         String employeeName = (payslip.getEmployee() != null) ?
                 payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName() : "N/A";
         String employeeIdNumber = (payslip.getEmployee() != null) ? payslip.getEmployee().getEmployeeIdNumber() : "N/A";
@@ -0,0 +1,63 @@
+package com.hrms.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.hrms.backend.dto.HolidayDto;
+import com.hrms.backend.dto.HolidayRequest;
+import com.hrms.backend.entity.Holiday;
+import com.hrms.backend.repository.HolidayRepository;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class HolidayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HolidayService.class);
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private WorkingCalendar workingCalendar;
+
+    public List<HolidayDto> getHolidays(Integer year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public HolidayDto addHoliday(HolidayRequest request) {
+        if (holidayRepository.existsByHolidayDate(request.getHolidayDate())) {
+            throw new IllegalArgumentException("A holiday is already defined on " + request.getHolidayDate());
+        }
+        Holiday holiday = holidayRepository.save(new Holiday(request.getHolidayDate(), request.getName().trim()));
+        workingCalendar.evict(YearMonth.from(holiday.getHolidayDate()));
+        logger.info("Holiday '{}' added on {}.", holiday.getName(), holiday.getHolidayDate());
+        return convertToDto(holiday);
+    }
+
+    @Transactional
+    public void deleteHoliday(Long holidayId) {
+        Holiday holiday = holidayRepository.findById(holidayId)
+                .orElseThrow(() -> new NoSuchElementException("Holiday not found with ID: " + holidayId));
+        holidayRepository.delete(holiday);
+        workingCalendar.evict(YearMonth.from(holiday.getHolidayDate()));
+        logger.info("Holiday '{}' on {} deleted.", holiday.getName(), holiday.getHolidayDate());
+    }
+
+    // Helper method to convert Entity to DTO
+    private HolidayDto convertToDto(Holiday holiday) {
+        return new HolidayDto(holiday.getId(), holiday.getHolidayDate(), holiday.getName());
+    }
+}
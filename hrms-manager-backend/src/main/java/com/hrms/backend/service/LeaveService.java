@@ -38,6 +38,12 @@ public class LeaveService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private WorkingCalendar workingCalendar;
+
+    @Autowired
+    private PayslipRecomputeService payslipRecomputeService;
+
     /**
      * Allows an employee to apply for leave.
      *
@@ -60,6 +66,10 @@ public class LeaveService {
         if (request.getReason() == null || request.getReason().trim().isEmpty()) {
             throw new IllegalArgumentException("Reason for leave is required.");
         }
+        int workingDays = workingCalendar.countWorkingDays(request.getStartDate(), request.getEndDate());
+        if (workingDays == 0) {
+            throw new IllegalArgumentException("Leave period contains no working days (weekends and holidays only).");
+        }
 
         Employee employee = employeeRepository.findByUserId(employeeUserId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee record not found for user ID: " + employeeUserId));
@@ -73,8 +83,8 @@ public class LeaveService {
         leaveApplication.setAppliedDate(LocalDate.now());
 
         LeaveApplication savedApplication = leaveApplicationRepository.save(leaveApplication);
-        logger.info("Leave application created successfully for employee {} (ID: {}) from {} to {}",
-                    employee.getFirstName(), employee.getId(), request.getStartDate(), request.getEndDate());
+        logger.info("Leave application created successfully for employee {} (ID: {}) from {} to {} ({} working days)",
+                    employee.getFirstName(), employee.getId(), request.getStartDate(), request.getEndDate(), workingDays);
         return convertToDto(savedApplication);
     }
 
@@ -165,6 +175,11 @@ public class LeaveService {
         }
 
         LeaveApplication updatedApplication = leaveApplicationRepository.save(leaveApplication);
+        if (updatedApplication.getStatus() == LeaveStatus.APPROVED) {
+            // Approved leave days count in payroll; refresh payslips already generated for the months it spans
+            payslipRecomputeService.markDirty(updatedApplication.getEmployee().getId(),
+                    updatedApplication.getStartDate(), updatedApplication.getEndDate());
+        }
         logger.info("Leave application ID {} processed successfully by admin/HR. New status: {}",
                     updatedApplication.getId(), updatedApplication.getStatus());
         return convertToDto(updatedApplication);
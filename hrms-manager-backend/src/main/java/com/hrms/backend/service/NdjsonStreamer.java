@@ -0,0 +1,69 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes newline-delimited JSON from repository cursors, for the streaming endpoints. The producer runs inside
+ * one read-only transaction, so the cursors it opens stay valid while it writes, and values are buffered by the
+ * generator instead of flushed one by one.
+ */
+@Component
+public class NdjsonStreamer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NdjsonStreamer.class);
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @param description names the stream in the log, e.g. "Payroll diff".
+     * @return the number of values the producer reports written.
+     * @throws IOException if writing fails, usually because the client went away mid-stream.
+     */
+    public int write(OutputStream out, String description, Producer producer) throws IOException {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+        try {
+            int written = readOnly.execute(status -> {
+                try {
+                    return producer.produce(writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.close();
+            return written;
+        } catch (UncheckedIOException e) {
+            logger.warn("{} stream aborted: {}", description, e.getMessage());
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Producer {
+        // Writes every value and returns how many
+        int produce(SequenceWriter writer) throws IOException;
+    }
+}
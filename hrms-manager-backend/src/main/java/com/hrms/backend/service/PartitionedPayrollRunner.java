@@ -0,0 +1,169 @@
+package com.hrms.backend.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrms.backend.dto.PayrollChunkFailure;
+import com.hrms.backend.dto.PayrollRunReport;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.PayrollRunChunk;
+import com.hrms.backend.repository.EmployeeRepository;
+import com.hrms.backend.repository.PayrollRunChunkRepository;
+import com.hrms.backend.repository.PayslipRepository;
+
+/**
+ * Runs monthly payroll split into fixed-size chunks of employees. Chunks are computed in parallel on the
+ * bounded payroll executor and each one commits in its own transaction, so a failing chunk is reported
+ * instead of rolling back the whole month. The month summary is rebuilt from the payslips once the chunks
+ * are done, rather than updated by every chunk.
+ */
+@Service
+public class PartitionedPayrollRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedPayrollRunner.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayrollMonthSummaryService payrollMonthSummaryService;
+
+    @Autowired
+    private PayrollRunChunkRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("payrollExecutor")
+    private ThreadPoolTaskExecutor payrollExecutor;
+
+    @Value("${hrms.payroll.chunk-size:500}")
+    private int chunkSize;
+
+    public PayrollRunReport run(Integer month, Integer year) {
+        return run(month, year, null, PayrollProgressListener.NONE);
+    }
+
+    /**
+     * @param payrollRunId persisted run to checkpoint against, or null for an unrecorded run. When the run
+     *                     already has committed chunks (a resume after restart), their employees are skipped and
+     *                     new chunk indexes continue after the last checkpoint.
+     */
+    public PayrollRunReport run(Integer month, Integer year, Long payrollRunId, PayrollProgressListener listener) {
+        logger.info("Initiating partitioned payroll processing for {}-{} (chunk size {})", month, year, chunkSize);
+        YearMonth yearMonth = YearMonth.of(year, month);
+
+        List<Employee> allEmployees = employeeRepository.findAllWithUser();
+        List<Employee> employees = allEmployees;
+        int firstChunkIndex = 0;
+        if (payrollRunId != null) {
+            List<PayrollRunChunk> checkpoints = checkpointRepository.findByPayrollRunIdOrderByChunkIndexAsc(payrollRunId);
+            if (!checkpoints.isEmpty()) {
+                Set<Long> committed = new HashSet<>(payslipRepository.findEmployeeIdsByPayrollRunId(payrollRunId));
+                employees = allEmployees.stream().filter(e -> !committed.contains(e.getId())).collect(Collectors.toList());
+                firstChunkIndex = checkpoints.get(checkpoints.size() - 1).getChunkIndex() + 1;
+                logger.info("Resuming payroll run {} at chunk {}: {} employees already committed, {} remaining.",
+                        payrollRunId, firstChunkIndex, allEmployees.size() - employees.size(), employees.size());
+            }
+        }
+        int resumedEmployees = allEmployees.size() - employees.size();
+
+        PayrollMonthInputs inputs = payrollService.loadMonthInputs(yearMonth);
+        List<List<Employee>> chunks = Partitions.partition(employees, chunkSize);
+        listener.onStart(allEmployees.size(), firstChunkIndex + chunks.size());
+
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        AtomicInteger skippedEmployees = new AtomicInteger();
+        List<CompletableFuture<PayrollChunkFailure>> results = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            int chunkIndex = firstChunkIndex + i;
+            List<Employee> chunk = chunks.get(i);
+            results.add(CompletableFuture.supplyAsync(() -> {
+                listener.beforeChunk(chunkIndex);
+                // Cancellation is cooperative: chunks already running are allowed to commit
+                if (listener.isCancelled()) {
+                    skippedEmployees.addAndGet(chunk.size());
+                    return null;
+                }
+                PayrollChunkFailure failure = runChunk(chunkIndex, chunk, inputs, payrollRunId, chunkTransaction);
+                listener.onChunkFinished(chunkIndex, chunk.size(), failure);
+                return failure;
+            }, payrollExecutor));
+        }
+
+        List<PayrollChunkFailure> failures = results.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        int failedEmployees = failures.stream().mapToInt(PayrollChunkFailure::getEmployeeCount).sum();
+        int processedEmployees = allEmployees.size() - failedEmployees - skippedEmployees.get();
+        rebuildSummary(month, year);
+
+        logger.info("Partitioned payroll for {}-{} finished: {} chunks, {} failed, {} of {} employees processed{}.",
+                month, year, firstChunkIndex + chunks.size(), failures.size(), processedEmployees, allEmployees.size(),
+                skippedEmployees.get() > 0 ? " (cancelled)" : "");
+        PayrollRunReport report = new PayrollRunReport(month, year, allEmployees.size(), processedEmployees,
+                firstChunkIndex + chunks.size(), failures);
+        report.setResumedEmployees(resumedEmployees);
+        report.setCancelled(skippedEmployees.get() > 0);
+        return report;
+    }
+
+    // The payslips are committed either way, so a failed rebuild does not fail the run
+    private void rebuildSummary(Integer month, Integer year) {
+        try {
+            payrollMonthSummaryService.rebuildMonth(month, year);
+        } catch (RuntimeException e) {
+            logger.error("Could not rebuild the payroll summary for {}-{}; rebuild it from the admin summary endpoint: {}",
+                    month, year, e.getMessage(), e);
+        }
+    }
+
+    // Returns null on success, or a failure entry describing the rolled back chunk
+    private PayrollChunkFailure runChunk(int chunkIndex, List<Employee> chunk, PayrollMonthInputs inputs, Long payrollRunId,
+                                         TransactionTemplate chunkTransaction) {
+        Long firstEmployeeId = chunk.get(0).getId();
+        Long lastEmployeeId = chunk.get(chunk.size() - 1).getId();
+        try {
+            chunkTransaction.executeWithoutResult(status -> {
+                payrollService.processChunk(chunk, inputs, payrollRunId);
+                if (payrollRunId != null) {
+                    // Committed together with the payslips, so the checkpoint never runs ahead of the data
+                    checkpointRepository.save(new PayrollRunChunk(payrollRunId, chunkIndex, firstEmployeeId, lastEmployeeId,
+                            chunk.size(), LocalDateTime.now()));
+                }
+            });
+            logger.debug("Payroll chunk {} committed ({} employees).", chunkIndex, chunk.size());
+            return null;
+        } catch (RuntimeException e) {
+            logger.error("Payroll chunk {} (employees {} to {}) failed and was rolled back: {}",
+                    chunkIndex, firstEmployeeId, lastEmployeeId, e.getMessage(), e);
+            return new PayrollChunkFailure(chunkIndex, firstEmployeeId, lastEmployeeId, chunk.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hrms.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits lists into consecutive sublists, for payroll chunks and for IN-list batches that stay within
+ * the database's bind parameter limits.
+ */
+final class Partitions {
+
+    private Partitions() {}
+
+    // Views of the list, not copies; the last one may be shorter
+    static <T> List<List<T>> partition(List<T> items, int size) {
+        int effectiveSize = Math.max(1, size);
+        List<List<T>> chunks = new ArrayList<>((items.size() + effectiveSize - 1) / effectiveSize);
+        for (int from = 0; from < items.size(); from += effectiveSize) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + effectiveSize)));
+        }
+        return chunks;
+    }
+}
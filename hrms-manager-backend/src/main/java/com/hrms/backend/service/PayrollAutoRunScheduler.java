@@ -0,0 +1,72 @@
+package com.hrms.backend.service;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hrms.backend.dto.PayrollRunDto;
+import com.hrms.backend.entity.PayrollRunStatus;
+import com.hrms.backend.repository.PayrollRunRepository;
+
+/**
+ * Month-end payroll without an admin at the keyboard: at an off-peak time the month that just closed is
+ * submitted as an ordinary payroll run, so it goes through the same calculation, checkpoints and month lock.
+ * The run is throttled, pacing its chunks against connection pool usage so daytime traffic that overlaps it
+ * is not starved. Every instance fires the schedule; the month lock makes all but one attach to the same run.
+ * Disabled unless hrms.payroll.auto-run.cron is set.
+ */
+@Component
+public class PayrollAutoRunScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollAutoRunScheduler.class);
+
+    static final String REQUESTED_BY = "Payroll Scheduler";
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    // The cron's zone; blank for the JVM default, like the cron itself
+    @Value("${hrms.payroll.auto-run.zone:}")
+    private String zone;
+
+    @Scheduled(cron = "${hrms.payroll.auto-run.cron:-}", zone = "${hrms.payroll.auto-run.zone:}")
+    public void runClosedMonth() {
+        YearMonth closed = closedMonth(Instant.now());
+        submit(closed.getMonthValue(), closed.getYear());
+    }
+
+    // The month before the one the cron's zone is in, so a run just after midnight on the 1st picks the month
+    // that closed there even when the JVM default zone is still in it
+    YearMonth closedMonth(Instant now) {
+        ZoneId zoneId = zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+        return YearMonth.from(now.atZone(zoneId)).minusMonths(1);
+    }
+
+    // A month already processed cleanly is left alone; one that failed or had failed chunks is run again
+    PayrollRunDto submit(Integer month, Integer year) {
+        boolean completed = payrollRunRepository.findByPayPeriodMonthAndPayPeriodYearOrderByCreatedAtDesc(month, year).stream()
+                .anyMatch(run -> run.getStatus() == PayrollRunStatus.COMPLETED);
+        if (completed) {
+            logger.info("Scheduled payroll for {}-{} skipped: the month has already been processed.", month, year);
+            return null;
+        }
+        try {
+            PayrollRunDto run = payrollRunService.submit(month, year, REQUESTED_BY, true);
+            logger.info("Scheduled payroll for {}-{} submitted as run {} ({}).", month, year, run.getId(), run.getStatus());
+            return run;
+        } catch (RuntimeException e) {
+            logger.error("Scheduled payroll for {}-{} could not be submitted: {}", month, year, e.getMessage(), e);
+            return null;
+        }
+    }
+}
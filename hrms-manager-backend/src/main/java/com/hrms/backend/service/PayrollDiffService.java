@@ -0,0 +1,180 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.hrms.backend.dto.PayslipDiffDto;
+import com.hrms.backend.dto.PayslipFieldDiffDto;
+import com.hrms.backend.entity.PayrollRun;
+import com.hrms.backend.repository.PayrollRunRepository;
+import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipRepository.PayslipFigures;
+import com.hrms.backend.repository.PayslipSnapshotRepository;
+
+/**
+ * Per-employee differences between two payroll runs (their snapshots) or two months (current payslips).
+ * Both sides are read as employee-ordered cursors and merged in a single pass, so memory stays constant
+ * whatever the headcount; only employees with a difference are written, one JSON object per line.
+ */
+@Service
+public class PayrollDiffService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollDiffService.class);
+
+    // Compared figures, in payslip order
+    private static final List<Field> FIELDS = List.of(
+            new Field("grossSalary", PayslipFigures::getGrossSalary),
+            new Field("baseMonthlySalary", PayslipFigures::getBaseMonthlySalary),
+            new Field("totalWorkingDaysInMonth", figures -> decimal(figures.getTotalWorkingDaysInMonth())),
+            new Field("daysPresent", figures -> decimal(figures.getDaysPresent())),
+            new Field("daysAbsent", figures -> decimal(figures.getDaysAbsent())),
+            new Field("daysHalfDay", figures -> decimal(figures.getDaysHalfDay())),
+            new Field("daysOnApprovedLeave", figures -> decimal(figures.getDaysOnApprovedLeave())),
+            new Field("attendanceDeduction", PayslipFigures::getAttendanceDeduction),
+            new Field("taxDeduction", PayslipFigures::getTaxDeduction),
+            new Field("pfDeduction", PayslipFigures::getPfDeduction),
+            new Field("otherDeductions", PayslipFigures::getOtherDeductions),
+            new Field("bonusAmount", PayslipFigures::getBonusAmount),
+            new Field("netSalary", PayslipFigures::getNetSalary));
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayslipSnapshotRepository payslipSnapshotRepository;
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
+    /**
+     * Copies the payslips written by a run, so later re-runs of the month can be diffed against it.
+     * Replaces an earlier snapshot of the same run.
+     * @return the number of payslips captured.
+     */
+    public int snapshotRun(Long runId) {
+        payslipSnapshotRepository.deleteByPayrollRunId(runId);
+        int captured = payslipSnapshotRepository.snapshotRun(runId);
+        logger.info("Captured {} payslips for payroll run {}.", captured, runId);
+        return captured;
+    }
+
+    // Runs are checked up front so a missing one is reported before streaming starts
+    public StreamingResponseBody diffRuns(Long fromRunId, Long toRunId) {
+        PayrollRun from = findRun(fromRunId);
+        PayrollRun to = findRun(toRunId);
+        logger.info("Diffing payroll run {} ({}-{}) against run {} ({}-{}).", fromRunId, from.getPayPeriodMonth(),
+                from.getPayPeriodYear(), toRunId, to.getPayPeriodMonth(), to.getPayPeriodYear());
+        return out -> writeDiff(() -> payslipSnapshotRepository.streamFiguresByPayrollRunId(fromRunId),
+                () -> payslipSnapshotRepository.streamFiguresByPayrollRunId(toRunId), out);
+    }
+
+    public StreamingResponseBody diffMonths(YearMonth from, YearMonth to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both months are required for a payroll diff.");
+        }
+        logger.info("Diffing payslips of {} against {}.", from, to);
+        return out -> writeDiff(() -> payslipRepository.streamFiguresByPeriod(from.getMonthValue(), from.getYear()),
+                () -> payslipRepository.streamFiguresByPeriod(to.getMonthValue(), to.getYear()), out);
+    }
+
+    private void writeDiff(Supplier<Stream<PayslipFigures>> fromSide, Supplier<Stream<PayslipFigures>> toSide,
+                           OutputStream out) throws IOException {
+        int written = ndjsonStreamer.write(out, "Payroll diff", writer -> {
+            try (Stream<PayslipFigures> fromStream = fromSide.get(); Stream<PayslipFigures> toStream = toSide.get()) {
+                return merge(fromStream.iterator(), toStream.iterator(), writer);
+            }
+        });
+        logger.info("Payroll diff finished: {} employees differ.", written);
+    }
+
+    // Merge join on employee id; both iterators must be ordered by it
+    private int merge(Iterator<PayslipFigures> fromRows, Iterator<PayslipFigures> toRows, SequenceWriter writer) throws IOException {
+        int written = 0;
+        PayslipFigures from = next(fromRows);
+        PayslipFigures to = next(toRows);
+        while (from != null || to != null) {
+            PayslipDiffDto diff;
+            if (to == null || (from != null && from.getEmployeeId() < to.getEmployeeId())) {
+                diff = compare(from, null);
+                from = next(fromRows);
+            } else if (from == null || to.getEmployeeId() < from.getEmployeeId()) {
+                diff = compare(null, to);
+                to = next(toRows);
+            } else {
+                diff = compare(from, to);
+                from = next(fromRows);
+                to = next(toRows);
+            }
+            if (diff != null) {
+                writer.write(diff);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    // Null when both sides are equal
+    private PayslipDiffDto compare(PayslipFigures from, PayslipFigures to) {
+        List<PayslipFieldDiffDto> changes = new ArrayList<>();
+        for (Field field : FIELDS) {
+            BigDecimal before = from == null ? null : field.getter.apply(from);
+            BigDecimal after = to == null ? null : field.getter.apply(to);
+            if (!sameValue(before, after)) {
+                BigDecimal delta = (after == null ? BigDecimal.ZERO : after).subtract(before == null ? BigDecimal.ZERO : before);
+                changes.add(new PayslipFieldDiffDto(field.name, before, after, delta));
+            }
+        }
+        PayslipFigures present = to != null ? to : from;
+        String change = from == null ? "ADDED" : to == null ? "REMOVED" : "CHANGED";
+        if (changes.isEmpty() && from != null && to != null) {
+            return null;
+        }
+        return new PayslipDiffDto(present.getEmployeeId(), present.getEmployeeIdNumber(), change, changes);
+    }
+
+    private static boolean sameValue(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static BigDecimal decimal(Integer value) {
+        return value == null ? null : BigDecimal.valueOf(value);
+    }
+
+    private static PayslipFigures next(Iterator<PayslipFigures> rows) {
+        return rows.hasNext() ? rows.next() : null;
+    }
+
+    private PayrollRun findRun(Long runId) {
+        return payrollRunRepository.findById(runId)
+                .orElseThrow(() -> new NoSuchElementException("Payroll run not found with ID: " + runId));
+    }
+
+    private static final class Field {
+        final String name;
+        final Function<PayslipFigures, BigDecimal> getter;
+
+        Field(String name, Function<PayslipFigures, BigDecimal> getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+    }
+}
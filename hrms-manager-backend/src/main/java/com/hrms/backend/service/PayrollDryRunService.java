@@ -0,0 +1,140 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.hrms.backend.dto.PayrollDryRunDto;
+import com.hrms.backend.dto.PayrollTotalsDto;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.PayrollRuleSet;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.repository.EmployeeRepository;
+import com.hrms.backend.repository.EmployeeRepository.EmployeePayProfile;
+
+/**
+ * Evaluates a whole month of payroll against a rule set without writing anything, for previewing the
+ * cost of a rate change. Uses the same grouped input queries and fixed-point kernel as the bulk run, reads
+ * employees as a three-column projection and only keeps running totals (in cents) per department.
+ */
+@Service
+public class PayrollDryRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollDryRunService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayrollRuleSetService payrollRuleSetService;
+
+    /**
+     * @param ruleSetId rule set to evaluate, or null for the active one.
+     */
+    public PayrollDryRunDto dryRun(Integer month, Integer year, Long ruleSetId) {
+        if (month == null || year == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month or year for payroll dry run.");
+        }
+        long started = System.nanoTime();
+        PayrollRuleSet ruleSet = ruleSetId == null
+                ? payrollRuleSetService.getActiveRuleSet()
+                : payrollRuleSetService.getRuleSet(ruleSetId);
+
+        PayrollMonthInputs inputs = payrollService.loadMonthInputs(YearMonth.of(year, month));
+        inputs.setRuleSet(ruleSet);
+        PayrollMath.Rate taxRate = PayrollMath.Rate.of(ruleSet.getTaxPercentage());
+        PayrollMath.Rate pfRate = PayrollMath.Rate.of(ruleSet.getPfPercentage());
+        PayrollMath.Amounts amounts = new PayrollMath.Amounts();
+
+        Totals overall = new Totals();
+        Map<String, Totals> byDepartment = new TreeMap<>();
+        for (EmployeePayProfile profile : employeeRepository.findAllPayProfiles()) {
+            String department = PayrollMonthSummaryService.departmentKey(profile.getDepartment());
+            Totals departmentTotals = byDepartment.computeIfAbsent(department, d -> new Totals());
+            if (payrollService.calculateFixedPoint(amounts, profile.getId(), profile.getSalary(), inputs, taxRate, pfRate,
+                    ruleSet.getStandardWorkingDaysPerMonth())) {
+                overall.add(amounts);
+                departmentTotals.add(amounts);
+            } else {
+                // Inputs the kernel cannot represent exactly go through the BigDecimal calculation
+                Payslip payslip = calculateReference(profile, inputs, ruleSet);
+                overall.add(payslip);
+                departmentTotals.add(payslip);
+            }
+        }
+
+        List<PayrollTotalsDto> departments = new ArrayList<>(byDepartment.size());
+        byDepartment.forEach((department, totals) -> departments.add(totals.toDto(department)));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Payroll dry run for {}-{} with rule set version {}: {} employees, net total {} ({} ms).",
+                month, year, ruleSet.getVersion(), overall.employeeCount, BigDecimal.valueOf(overall.netSalary, 2), elapsedMillis);
+        return new PayrollDryRunDto(month, year, payrollRuleSetService.convertToDto(ruleSet), overall.toDto(null),
+                departments, elapsedMillis);
+    }
+
+    private Payslip calculateReference(EmployeePayProfile profile, PayrollMonthInputs inputs, PayrollRuleSet ruleSet) {
+        Employee employee = new Employee();
+        employee.setId(profile.getId());
+        employee.setSalary(profile.getSalary() == null ? 0.0 : profile.getSalary());
+        Payslip payslip = new Payslip();
+        payrollService.populatePayslip(payslip, employee, inputs, ruleSet.getTaxPercentage(), ruleSet.getPfPercentage(),
+                ruleSet.getStandardWorkingDaysPerMonth());
+        return payslip;
+    }
+
+    // Running sums in cents
+    private static final class Totals {
+        int employeeCount;
+        long baseSalary;
+        long bonus;
+        long grossSalary;
+        long attendanceDeduction;
+        long taxDeduction;
+        long pfDeduction;
+        long netSalary;
+
+        void add(PayrollMath.Amounts amounts) {
+            employeeCount++;
+            baseSalary += amounts.baseMonthlySalary;
+            bonus += amounts.bonusAmount;
+            grossSalary += amounts.grossSalary;
+            attendanceDeduction += amounts.attendanceDeduction;
+            taxDeduction += amounts.taxDeduction;
+            pfDeduction += amounts.pfDeduction;
+            netSalary += amounts.netSalary;
+        }
+
+        void add(Payslip payslip) {
+            employeeCount++;
+            baseSalary += cents(payslip.getBaseMonthlySalary());
+            bonus += cents(payslip.getBonusAmount());
+            grossSalary += cents(payslip.getGrossSalary());
+            attendanceDeduction += cents(payslip.getAttendanceDeduction());
+            taxDeduction += cents(payslip.getTaxDeduction());
+            pfDeduction += cents(payslip.getPfDeduction());
+            netSalary += cents(payslip.getNetSalary());
+        }
+
+        PayrollTotalsDto toDto(String department) {
+            return new PayrollTotalsDto(department, employeeCount, BigDecimal.valueOf(baseSalary, 2), BigDecimal.valueOf(bonus, 2),
+                    BigDecimal.valueOf(grossSalary, 2), BigDecimal.valueOf(attendanceDeduction, 2),
+                    BigDecimal.valueOf(taxDeduction, 2), BigDecimal.valueOf(pfDeduction, 2), BigDecimal.valueOf(netSalary, 2));
+        }
+
+        private static long cents(BigDecimal amount) {
+            return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-point payslip arithmetic on long cents. Produces exactly the values of the BigDecimal
+ * calculation in PayrollService (same HALF_UP rounding at the same steps) without allocating per
+ * employee; the bulk payroll path uses it and falls back to BigDecimal for inputs it cannot represent.
+ */
+final class PayrollMath {
+
+    // Marks a value that does not fit the kernel (too many decimals or too large)
+    static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    // Salaries above this many cents are left to BigDecimal, keeping every product well inside a long
+    private static final long MAX_SALARY_CENTS = 1_000_000_000_000L;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private PayrollMath() {
+    }
+
+    /**
+     * A percentage as unscaled value and scale, e.g. 0.10 = (10, 2). Converted once per run.
+     */
+    static final class Rate {
+        final long unscaled;
+        final int scale;
+
+        private Rate(long unscaled, int scale) {
+            this.unscaled = unscaled;
+            this.scale = scale;
+        }
+
+        // Null when the rate has more than 9 decimals or more than 7 significant digits
+        static Rate of(BigDecimal rate) {
+            BigDecimal normalized = rate.scale() < 0 ? rate.setScale(0) : rate;
+            if (normalized.scale() >= POWERS_OF_TEN.length || normalized.precision() > 7) {
+                return null;
+            }
+            return new Rate(normalized.unscaledValue().longValueExact(), normalized.scale());
+        }
+    }
+
+    /**
+     * Mutable result of one payslip calculation, all amounts in cents. Reused across employees.
+     */
+    static final class Amounts {
+        long baseMonthlySalary;
+        long attendanceDeduction;
+        long taxDeduction;
+        long pfDeduction;
+        long bonusAmount;
+        long grossSalary;
+        long netSalary;
+    }
+
+    /**
+     * Same steps as PayrollService's BigDecimal calculation: base = annual / 12, daily rate = base / standard days,
+     * deduction = daily * absent + daily * halfDays / 2, tax and PF on base, gross = base + bonus,
+     * net = gross - deductions. Every division and rate application rounds HALF_UP to cents.
+     */
+    static void calculate(Amounts out, long annualSalaryCents, long bonusCents, int daysAbsent, int daysHalfDay,
+                          int standardWorkingDays, Rate taxRate, Rate pfRate) {
+        long base = divideHalfUp(annualSalaryCents, 12);
+        long dailyRate = divideHalfUp(base, standardWorkingDays);
+        long attendanceDeduction = dailyRate * daysAbsent + divideHalfUp(dailyRate * daysHalfDay, 2);
+        long tax = applyRate(base, taxRate);
+        long pf = applyRate(base, pfRate);
+        long gross = base + bonusCents;
+
+        out.baseMonthlySalary = base;
+        out.attendanceDeduction = attendanceDeduction;
+        out.taxDeduction = tax;
+        out.pfDeduction = pf;
+        out.bonusAmount = bonusCents;
+        out.grossSalary = gross;
+        out.netSalary = gross - attendanceDeduction - tax - pf;
+    }
+
+    /**
+     * Cents of BigDecimal.valueOf(salary), or NOT_REPRESENTABLE when that decimal has more than two
+     * fractional digits or is out of range. A two-decimal value that converts back to the same double is
+     * the shortest representation Double.toString (and so BigDecimal.valueOf) produces.
+     */
+    static long salaryToCents(double salary) {
+        if (!(Math.abs(salary) < MAX_SALARY_CENTS / 100.0)) { // Also rejects NaN and infinities
+            return NOT_REPRESENTABLE;
+        }
+        long cents = Math.round(salary * 100);
+        return cents / 100.0 == salary ? cents : NOT_REPRESENTABLE;
+    }
+
+    // Cents of amount.setScale(2, HALF_UP), or NOT_REPRESENTABLE
+    static long toCents(BigDecimal amount) {
+        if (amount.signum() == 0) {
+            return 0;
+        }
+        int scale = amount.scale();
+        if (scale < 0 || scale >= 2 + POWERS_OF_TEN.length || amount.precision() > 15) {
+            return NOT_REPRESENTABLE;
+        }
+        long unscaled = amount.unscaledValue().longValue();
+        return scale <= 2 ? unscaled * POWERS_OF_TEN[2 - scale] : divideHalfUp(unscaled, POWERS_OF_TEN[scale - 2]);
+    }
+
+    // cents * rate, rounded HALF_UP back to cents
+    static long applyRate(long cents, Rate rate) {
+        return divideHalfUp(cents * rate.unscaled, POWERS_OF_TEN[rate.scale]);
+    }
+
+    // dividend / divisor rounded HALF_UP (ties away from zero), as BigDecimal.divide(.., RoundingMode.HALF_UP)
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder != 0 && 2 * Math.abs(remainder) >= Math.abs(divisor)) {
+            quotient += (dividend ^ divisor) < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
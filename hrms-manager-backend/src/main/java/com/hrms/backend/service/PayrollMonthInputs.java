@@ -0,0 +1,67 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.PayrollRuleSet;
+
+/**
+ * Everything a payslip calculation needs besides the employee itself, for one pay period: the inputs
+ * per employee and the rule set (rates) the period is evaluated with.
+ * The bulk payroll run fills it for the whole workforce with a handful of grouped queries;
+ * the single-employee recalculation fills it for just that employee.
+ */
+public class PayrollMonthInputs {
+
+    private static final int[] NO_ATTENDANCE = new int[AttendanceStatus.values().length];
+
+    private final YearMonth yearMonth;
+    private final Map<Long, int[]> attendanceCounts = new HashMap<>();
+    private final Map<Long, Integer> approvedLeaveDays = new HashMap<>();
+    private final Map<Long, BigDecimal> bonusTotals = new HashMap<>();
+    private PayrollRuleSet ruleSet;
+
+    public PayrollMonthInputs(YearMonth yearMonth) {
+        this.yearMonth = yearMonth;
+    }
+
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    public PayrollRuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public void setRuleSet(PayrollRuleSet ruleSet) {
+        this.ruleSet = ruleSet;
+    }
+
+    public void addAttendance(Long employeeId, AttendanceStatus status, long count) {
+        int[] counts = attendanceCounts.computeIfAbsent(employeeId, id -> new int[AttendanceStatus.values().length]);
+        counts[status.ordinal()] += (int) count;
+    }
+
+    public void addApprovedLeaveDays(Long employeeId, int days) {
+        approvedLeaveDays.merge(employeeId, days, Integer::sum);
+    }
+
+    public void addBonus(Long employeeId, BigDecimal amount) {
+        bonusTotals.merge(employeeId, amount, BigDecimal::add);
+    }
+
+    public int getDaysWithStatus(Long employeeId, AttendanceStatus status) {
+        return attendanceCounts.getOrDefault(employeeId, NO_ATTENDANCE)[status.ordinal()];
+    }
+
+    public int getApprovedLeaveDays(Long employeeId) {
+        return approvedLeaveDays.getOrDefault(employeeId, 0);
+    }
+
+    public BigDecimal getBonusTotal(Long employeeId) {
+        return bonusTotals.getOrDefault(employeeId, BigDecimal.ZERO);
+    }
+}
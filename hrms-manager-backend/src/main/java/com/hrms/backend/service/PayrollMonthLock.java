@@ -0,0 +1,212 @@
+package com.hrms.backend.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Cluster-wide lock on the payroll of one month, so two requests or two application instances never write the
+ * same month's payslips at once. On PostgreSQL it is a session-level advisory lock held on a dedicated
+ * connection: it needs no table and is released by the database if the node dies. Other databases insert a row
+ * into payroll_locks under a token of its own; the payroll run heartbeat keeps the rows this instance holds fresh,
+ * so a row not refreshed for hrms.payroll.lock-stale-after is treated as left behind by a dead node.
+ * Locks are not re-entrant and must not be taken inside a transaction.
+ */
+@Component
+public class PayrollMonthLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollMonthLock.class);
+
+    // First key of the two-key advisory locks, so payroll locks cannot collide with other advisory lock users
+    private static final int ADVISORY_LOCK_NAMESPACE = 0x48524D53; // "HRMS"
+
+    private static final long POLL_INTERVAL_MILLIS = 250;
+
+    private final Map<String, String> heldTableLocks = new ConcurrentHashMap<>(); // Owner token -> lock key
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${hrms.payroll.lock-stale-after:PT10M}")
+    private Duration staleAfter;
+
+    private volatile Boolean postgres;
+
+    public Optional<Lease> tryAcquire(Integer month, Integer year) {
+        return acquire(month, year, Duration.ZERO);
+    }
+
+    /**
+     * Waits up to the timeout for the lock of a month.
+     * @return the held lock, to be closed when the month's payslips are written; empty if it stayed taken.
+     */
+    public Optional<Lease> acquire(Integer month, Integer year, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            Lease lease = isPostgres() ? tryAdvisoryLock(month, year) : tryTableLock(month, year);
+            if (lease != null) {
+                logger.debug("Acquired payroll lock for {}-{}.", month, year);
+                return Optional.of(lease);
+            }
+            if (System.nanoTime() >= deadline) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+
+    private Lease tryAdvisoryLock(Integer month, Integer year) {
+        int key = year * 12 + month - 1;
+        Connection connection = null;
+        boolean locked = false;
+        try {
+            connection = dataSource.getConnection();
+            try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+                ps.setInt(1, ADVISORY_LOCK_NAMESPACE);
+                ps.setInt(2, key);
+                try (ResultSet rs = ps.executeQuery()) {
+                    locked = rs.next() && rs.getBoolean(1);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not acquire the payroll lock for " + month + "-" + year, e);
+        } finally {
+            if (!locked && connection != null) {
+                closeQuietly(connection);
+            }
+        }
+        if (!locked) {
+            return null;
+        }
+        Connection held = connection;
+        return new Lease(month, year, () -> releaseAdvisoryLock(held, key));
+    }
+
+    private void releaseAdvisoryLock(Connection connection, int key) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+            ps.setInt(1, ADVISORY_LOCK_NAMESPACE);
+            ps.setInt(2, key);
+            ps.execute();
+        } catch (SQLException e) {
+            // A pooled connection must not go back with the lock still held on it
+            logger.error("Could not release payroll advisory lock {}, evicting its connection: {}", key, e.getMessage());
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                    return;
+                }
+            } catch (SQLException ignored) {
+                // Fall through to closing it
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    private Lease tryTableLock(Integer month, Integer year) {
+        String key = String.format("%d-%02d", year, month);
+        String owner = UUID.randomUUID().toString(); // Per lease: a taken-over lease must not release its successor
+        LocalDateTime now = LocalDateTime.now();
+        int stale = jdbcTemplate.update("DELETE FROM payroll_locks WHERE lock_key = ? AND acquired_at < ?",
+                key, Timestamp.valueOf(now.minus(staleAfter)));
+        if (stale > 0) {
+            logger.warn("Took over stale payroll lock for {}-{}.", month, year);
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO payroll_locks (lock_key, owner, acquired_at) VALUES (?, ?, ?)",
+                    key, owner, Timestamp.valueOf(now));
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+        heldTableLocks.put(owner, key);
+        return new Lease(month, year, () -> {
+            heldTableLocks.remove(owner);
+            jdbcTemplate.update("DELETE FROM payroll_locks WHERE lock_key = ? AND owner = ?", key, owner);
+        });
+    }
+
+    /**
+     * Marks every table lock held by this instance as alive. Called from the payroll run heartbeat; advisory locks
+     * need no refresh.
+     */
+    public void refreshHeldLocks() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        heldTableLocks.forEach((owner, key) -> {
+            if (jdbcTemplate.update("UPDATE payroll_locks SET acquired_at = ? WHERE lock_key = ? AND owner = ?", now, key, owner) == 0) {
+                // Taken over after missed refreshes; the new holder's row is left alone
+                heldTableLocks.remove(owner);
+                logger.error("Lost payroll lock {}: it went stale and was taken over.", key);
+            }
+        });
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warn("Could not close payroll lock connection: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    /**
+     * A held payroll month lock; closing it releases the lock (once).
+     */
+    public static final class Lease implements AutoCloseable {
+        private final Integer month;
+        private final Integer year;
+        private final Runnable release;
+        private boolean released;
+
+        Lease(Integer month, Integer year, Runnable release) {
+            this.month = month;
+            this.year = year;
+            this.release = release;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release.run();
+            logger.debug("Released payroll lock for {}-{}.", month, year);
+        }
+    }
+}
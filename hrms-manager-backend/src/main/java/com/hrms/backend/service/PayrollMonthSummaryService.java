@@ -0,0 +1,125 @@
+package com.hrms.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.hrms.backend.dto.PayrollMonthSummaryDto;
+import com.hrms.backend.dto.PayrollTotalsDto;
+import com.hrms.backend.entity.PayrollMonthSummary;
+import com.hrms.backend.repository.PayrollMonthSummaryRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Per-department payroll totals of a month, so reading a month costs one row per department however many
+ * employees it has. Payslip writers leave the summary alone and rebuild the month from its payslips once they
+ * are done: a partitioned run after its last chunk, background recalculation after each batch. Updating it from
+ * every chunk would make parallel chunks queue on the same department rows, and deltas from interleaved writers
+ * to one payslip could drift.
+ * A payslip counts towards the department stored on it (the employee's current one for payslips written
+ * before departments were recorded); blank departments count as "Unassigned".
+ */
+@Service
+public class PayrollMonthSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollMonthSummaryService.class);
+
+    public static final String UNASSIGNED_DEPARTMENT = "Unassigned";
+
+    // First key of the two-key advisory locks, apart from PayrollMonthLock's "HRMS" namespace
+    private static final int REBUILD_LOCK_NAMESPACE = 0x48524D52; // "HRMR"
+
+    @Autowired
+    private PayrollMonthSummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public PayrollMonthSummaryDto getMonthSummary(Integer month, Integer year) {
+        if (month == null || year == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month or year for payroll summary.");
+        }
+        List<PayrollMonthSummary> rows = summaryRepository
+                .findByPayPeriodYearAndPayPeriodMonthAndHeadcountGreaterThanOrderByDepartmentAsc(year, month, 0);
+        PayrollMonthSummary overall = new PayrollMonthSummary(year, month, null);
+        List<PayrollTotalsDto> departments = new ArrayList<>(rows.size());
+        LocalDateTime updatedAt = null;
+        for (PayrollMonthSummary row : rows) {
+            add(overall, row);
+            departments.add(toDto(row));
+            if (updatedAt == null || row.getUpdatedAt().isAfter(updatedAt)) {
+                updatedAt = row.getUpdatedAt();
+            }
+        }
+        return new PayrollMonthSummaryDto(month, year, toDto(overall), departments, updatedAt);
+    }
+
+    /**
+     * Recomputes a month from its payslips with one grouped statement. Called after every partitioned run and
+     * every batch of background recalculations; by hand for months whose payslips were written before the
+     * summary existed, or after payslips were edited outside the application.
+     * @return the number of departments written.
+     */
+    @Transactional
+    public int rebuildMonth(Integer month, Integer year) {
+        if (month == null || year == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month or year for payroll summary.");
+        }
+        lockMonthForRebuild(year, month); // The end-of-run and background rebuilds can overlap
+        summaryRepository.deleteByPeriod(year, month);
+        int departments = summaryRepository.rebuildPeriod(year, month);
+        logger.info("Rebuilt payroll summary for {}-{}: {} departments.", month, year, departments);
+        return departments;
+    }
+
+    /**
+     * Serializes rebuilds of one month until the transaction ends. A rebuild deletes the month's rows and inserts
+     * them again; under READ COMMITTED a second rebuild's delete would not see the first one's new rows, and its
+     * insert would then fail on the (year, month, department) constraint. On PostgreSQL this is a transaction-level
+     * advisory lock; other databases are not locked, so rebuilds there must not overlap.
+     */
+    private void lockMonthForRebuild(Integer year, Integer month) {
+        if (isPostgres()) {
+            jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?, ?)", REBUILD_LOCK_NAMESPACE, year * 12 + month - 1);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) con ->
+                    "PostgreSQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+
+    static String departmentKey(String department) {
+        return department == null || department.isBlank() ? UNASSIGNED_DEPARTMENT : department.trim();
+    }
+
+    private static PayrollTotalsDto toDto(PayrollMonthSummary row) {
+        return new PayrollTotalsDto(row.getDepartment(), row.getHeadcount(), row.getTotalBaseSalary(), row.getTotalBonus(),
+                row.getTotalGrossSalary(), row.getTotalAttendanceDeduction(), row.getTotalTaxDeduction(),
+                row.getTotalPfDeduction(), row.getTotalNetSalary());
+    }
+
+    private static void add(PayrollMonthSummary total, PayrollMonthSummary row) {
+        total.setHeadcount(total.getHeadcount() + row.getHeadcount());
+        total.setTotalBaseSalary(total.getTotalBaseSalary().add(row.getTotalBaseSalary()));
+        total.setTotalBonus(total.getTotalBonus().add(row.getTotalBonus()));
+        total.setTotalGrossSalary(total.getTotalGrossSalary().add(row.getTotalGrossSalary()));
+        total.setTotalAttendanceDeduction(total.getTotalAttendanceDeduction().add(row.getTotalAttendanceDeduction()));
+        total.setTotalTaxDeduction(total.getTotalTaxDeduction().add(row.getTotalTaxDeduction()));
+        total.setTotalPfDeduction(total.getTotalPfDeduction().add(row.getTotalPfDeduction()));
+        total.setTotalNetSalary(total.getTotalNetSalary().add(row.getTotalNetSalary()));
+    }
+}
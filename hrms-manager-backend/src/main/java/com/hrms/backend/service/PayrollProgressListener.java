@@ -0,0 +1,28 @@
+package com.hrms.backend.service;
+
+import com.hrms.backend.dto.PayrollChunkFailure;
+
+/**
+ * Callbacks from a partitioned payroll run. Chunk callbacks are invoked from the payroll executor
+ * threads, possibly concurrently.
+ */
+public interface PayrollProgressListener {
+
+    PayrollProgressListener NONE = new PayrollProgressListener() {};
+
+    default void onStart(int totalEmployees, int totalChunks) {
+    }
+
+    // Called before each chunk starts and before the cancellation check; may block to pace the run
+    default void beforeChunk(int chunkIndex) {
+    }
+
+    // failure is null when the chunk committed
+    default void onChunkFinished(int chunkIndex, int employeeCount, PayrollChunkFailure failure) {
+    }
+
+    // Checked before each chunk starts; remaining chunks are skipped once this returns true
+    default boolean isCancelled() {
+        return false;
+    }
+}
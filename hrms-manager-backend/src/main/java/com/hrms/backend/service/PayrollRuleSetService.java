@@ -0,0 +1,113 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.hrms.backend.dto.PayrollRuleSetDto;
+import com.hrms.backend.dto.PayrollRuleSetRequest;
+import com.hrms.backend.entity.PayrollRuleSet;
+import com.hrms.backend.repository.PayrollRuleSetRepository;
+
+import jakarta.transaction.Transactional;
+
+@Service
+public class PayrollRuleSetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRuleSetService.class);
+
+    // The rates payroll used before rule sets existed; seeded as version 1
+    private static final BigDecimal DEFAULT_TAX_PERCENTAGE = new BigDecimal("0.10"); // 10%
+    private static final BigDecimal DEFAULT_PF_PERCENTAGE = new BigDecimal("0.12"); // 12%
+    private static final Integer DEFAULT_STANDARD_WORKING_DAYS_PER_MONTH = 25; // 25 days
+
+    @Autowired
+    private PayrollRuleSetRepository payrollRuleSetRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void seedDefaultRuleSet() {
+        if (payrollRuleSetRepository.count() == 0) {
+            PayrollRuleSet ruleSet = defaultRuleSet();
+            ruleSet.setVersion(1);
+            ruleSet.setActive(true);
+            payrollRuleSetRepository.save(ruleSet);
+            logger.info("Seeded default payroll rule set (version 1).");
+        }
+    }
+
+    /**
+     * The rule set payroll runs and recalculations use. Falls back to the built-in defaults (version 0,
+     * not persisted) when no version is active.
+     */
+    public PayrollRuleSet getActiveRuleSet() {
+        return payrollRuleSetRepository.findFirstByActiveTrue().orElseGet(PayrollRuleSetService::defaultRuleSet);
+    }
+
+    public PayrollRuleSet getRuleSet(Long ruleSetId) {
+        return payrollRuleSetRepository.findById(ruleSetId)
+                .orElseThrow(() -> new NoSuchElementException("Payroll rule set not found with ID: " + ruleSetId));
+    }
+
+    public List<PayrollRuleSetDto> getRuleSets() {
+        return payrollRuleSetRepository.findAllByOrderByVersionDesc().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public PayrollRuleSetDto createRuleSet(PayrollRuleSetRequest request, String createdBy) {
+        int version = payrollRuleSetRepository.findTopByOrderByVersionDesc().map(r -> r.getVersion() + 1).orElse(1);
+        PayrollRuleSet ruleSet = new PayrollRuleSet(version, request.getName().trim(), request.getTaxPercentage(),
+                request.getPfPercentage(), request.getStandardWorkingDaysPerMonth(), createdBy);
+        if (request.isActivate()) {
+            payrollRuleSetRepository.deactivateAll();
+            ruleSet.setActive(true);
+        }
+        PayrollRuleSet saved = payrollRuleSetRepository.save(ruleSet);
+        logger.info("Payroll rule set version {} '{}' created by {} (tax {}, PF {}, {} standard days, active: {}).",
+                saved.getVersion(), saved.getName(), createdBy, saved.getTaxPercentage(), saved.getPfPercentage(),
+                saved.getStandardWorkingDaysPerMonth(), saved.getActive());
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public PayrollRuleSetDto activateRuleSet(Long ruleSetId) {
+        PayrollRuleSet ruleSet = getRuleSet(ruleSetId);
+        payrollRuleSetRepository.deactivateAll();
+        ruleSet.setActive(true);
+        PayrollRuleSet saved = payrollRuleSetRepository.save(ruleSet);
+        logger.info("Payroll rule set version {} is now active.", saved.getVersion());
+        return convertToDto(saved);
+    }
+
+    private static PayrollRuleSet defaultRuleSet() {
+        PayrollRuleSet ruleSet = new PayrollRuleSet(0, "Built-in default", DEFAULT_TAX_PERCENTAGE, DEFAULT_PF_PERCENTAGE,
+                DEFAULT_STANDARD_WORKING_DAYS_PER_MONTH, "Admin System");
+        ruleSet.setActive(true);
+        return ruleSet;
+    }
+
+    // Helper method to convert Entity to DTO
+    PayrollRuleSetDto convertToDto(PayrollRuleSet ruleSet) {
+        return new PayrollRuleSetDto(
+            ruleSet.getId(),
+            ruleSet.getVersion(),
+            ruleSet.getName(),
+            ruleSet.getTaxPercentage(),
+            ruleSet.getPfPercentage(),
+            ruleSet.getStandardWorkingDaysPerMonth(),
+            ruleSet.getActive(),
+            ruleSet.getCreatedAt(),
+            ruleSet.getCreatedBy()
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrms.backend.dto.PayrollRunDto;
+
+/**
+ * Keeps the open Server-Sent Events streams per payroll run and pushes run snapshots to them.
+ */
+@Component
+public class PayrollRunEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRunEventBroadcaster.class);
+
+    // Streams are closed by the client or when the run finishes; this is only a safety net
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, List<SseEmitter>> emittersByRun = new ConcurrentHashMap<>();
+
+    public SseEmitter register(Long runId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emittersByRun.computeIfAbsent(runId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(runId, emitter));
+        emitter.onTimeout(() -> remove(runId, emitter));
+        emitter.onError(e -> remove(runId, emitter));
+        return emitter;
+    }
+
+    // eventName is "progress" while the run is active and "finished" for the final snapshot
+    public void publish(PayrollRunDto run, String eventName) {
+        List<SseEmitter> emitters = emittersByRun.get(run.getId());
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            send(run.getId(), emitter, run, eventName);
+        }
+    }
+
+    public void complete(Long runId) {
+        List<SseEmitter> emitters = emittersByRun.remove(runId);
+        if (emitters != null) {
+            emitters.forEach(SseEmitter::complete);
+        }
+    }
+
+    public void send(Long runId, SseEmitter emitter, PayrollRunDto run, String eventName) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).id(String.valueOf(run.getCompletedChunks())).data(run));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop the stream, the run itself is unaffected
+            logger.debug("Dropping payroll run {} event stream: {}", runId, e.getMessage());
+            remove(runId, emitter);
+        }
+    }
+
+    private void remove(Long runId, SseEmitter emitter) {
+        List<SseEmitter> emitters = emittersByRun.get(runId);
+        if (emitters != null) {
+            emitters.remove(emitter);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.hrms.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hrms.backend.dto.PayrollChunkFailure;
+import com.hrms.backend.dto.PayrollRunDto;
+import com.hrms.backend.dto.PayrollRunReport;
+import com.hrms.backend.entity.PayrollRun;
+import com.hrms.backend.entity.PayrollRunChunk;
+import com.hrms.backend.entity.PayrollRunStatus;
+import com.hrms.backend.repository.PayrollRunChunkRepository;
+import com.hrms.backend.repository.PayrollRunRepository;
+
+/**
+ * Persisted, asynchronous payroll jobs. A submitted run is stored as QUEUED and executed on the payroll job
+ * executor through the partitioned runner; progress is written back per chunk and pushed to SSE subscribers.
+ * Every committed chunk leaves a checkpoint, so a run interrupted by a restart resumes with the remaining employees.
+ * Runs hold the month's PayrollMonthLock while they write payslips, so one month is never processed twice at once
+ * across instances; a request for a month that already has a queued or running job attaches to that job.
+ * Each active run records the instance that owns it, which heartbeats it. A run whose heartbeat goes stale lost its
+ * instance: the next request for its month, the startup sweep or any instance's heartbeat adopts it and resumes it
+ * after its last committed chunk, provided nothing holds its month lock.
+ */
+@Service
+public class PayrollRunService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollRunService.class);
+
+    private static final List<PayrollRunStatus> ACTIVE_STATUSES = List.of(PayrollRunStatus.QUEUED, PayrollRunStatus.RUNNING);
+
+    // Long enough for another instance to finish queuing a run it holds the lock for
+    private static final Duration SUBMIT_LOCK_WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private PayrollRunChunkRepository checkpointRepository;
+
+    @Autowired
+    private PartitionedPayrollRunner partitionedPayrollRunner;
+
+    @Autowired
+    private PayrollRunEventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private PayrollDiffService payrollDiffService;
+
+    @Autowired
+    private PayslipDocumentService payslipDocumentService;
+
+    @Autowired
+    private PayrollMonthLock payrollMonthLock;
+
+    @Autowired
+    private ConnectionPoolThrottle connectionPoolThrottle;
+
+    @Autowired
+    @Qualifier("payrollJobExecutor")
+    private ThreadPoolTaskExecutor payrollJobExecutor;
+
+    // How long a queued run waits for a month that another instance is processing
+    @Value("${hrms.payroll.lock-wait:PT1H}")
+    private Duration lockWait;
+
+    // Several missed heartbeats, so a slow database round trip does not hand a live run to another instance
+    @Value("${hrms.payroll.heartbeat-timeout:PT2M}")
+    private Duration heartbeatTimeout;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<Long> ownedRuns = ConcurrentHashMap.newKeySet(); // Queued on or executing in this instance
+
+    /**
+     * Queues a payroll run, or returns the month's queued or running run if there is one.
+     * @throws IllegalStateException if the month is locked by something other than a run (a synchronous request),
+     * or the payroll job queue is full.
+     */
+    public PayrollRunDto submit(Integer month, Integer year, String requestedBy) {
+        return submit(month, year, requestedBy, false);
+    }
+
+    /**
+     * @param throttled whether the run paces its chunks through the ConnectionPoolThrottle.
+     */
+    public PayrollRunDto submit(Integer month, Integer year, String requestedBy, boolean throttled) {
+        if (month == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12.");
+        }
+        if (year == null || year < 2000) {
+            throw new IllegalArgumentException("Invalid payroll year: " + year);
+        }
+
+        Optional<PayrollRun> active = findActiveRun(month, year);
+        if (active.isPresent()) {
+            return attach(active.get(), requestedBy);
+        }
+        // The lock makes check-then-queue atomic across instances; it is released once the run is queued
+        Optional<PayrollMonthLock.Lease> lease = payrollMonthLock.acquire(month, year, SUBMIT_LOCK_WAIT);
+        if (lease.isEmpty()) {
+            return attach(findActiveRun(month, year).orElseThrow(() -> new IllegalStateException(
+                    "Payroll for " + month + "-" + year + " is already being processed.")), requestedBy);
+        }
+        PayrollRun run;
+        try (PayrollMonthLock.Lease held = lease.get()) {
+            active = findActiveRun(month, year);
+            if (active.isPresent()) {
+                return attach(active.get(), requestedBy);
+            }
+            PayrollRun queued = new PayrollRun(month, year, requestedBy);
+            queued.setThrottled(throttled);
+            queued.setOwner(instanceId);
+            queued.setHeartbeatAt(LocalDateTime.now());
+            run = payrollRunRepository.save(queued);
+        }
+        Long runId = run.getId();
+        if (!enqueue(runId, false)) {
+            finish(runId, PayrollRunStatus.FAILED, "The payroll job queue was full.");
+            throw new IllegalStateException("Too many payroll runs are queued; submit the run for " + month + "-" + year
+                    + " again later.");
+        }
+        logger.info("Payroll run {} for {}-{} queued by {}{}.", runId, month, year, requestedBy, throttled ? " (throttled)" : "");
+        return convertToDto(run);
+    }
+
+    public Optional<PayrollRun> findActiveRun(Integer month, Integer year) {
+        return payrollRunRepository.findFirstByPayPeriodMonthAndPayPeriodYearAndStatusInOrderByCreatedAtAsc(month, year,
+                ACTIVE_STATUSES);
+    }
+
+    private PayrollRunDto attach(PayrollRun run, String requestedBy) {
+        // Otherwise the request would wait on a run that nothing executes any more
+        adoptIfOrphaned(run);
+        logger.info("Payroll request for {}-{} by {} attached to run {} ({}).", run.getPayPeriodMonth(), run.getPayPeriodYear(),
+                requestedBy, run.getId(), run.getStatus());
+        return convertToDto(run);
+    }
+
+    public PayrollRunDto getRun(Long runId) {
+        return convertToDto(findRun(runId));
+    }
+
+    public PayrollRunDto requestCancel(Long runId) {
+        PayrollRun run = findRun(runId);
+        if (run.isFinished()) {
+            throw new IllegalArgumentException("Payroll run " + runId + " has already finished with status " + run.getStatus() + ".");
+        }
+        payrollRunRepository.requestCancel(runId);
+        logger.info("Cancellation requested for payroll run {}.", runId);
+        return getRun(runId);
+    }
+
+    public SseEmitter subscribe(Long runId) {
+        PayrollRunDto snapshot = getRun(runId);
+        SseEmitter emitter = eventBroadcaster.register(runId);
+        // Send the current state straight away so late subscribers do not wait for the next chunk
+        if (PayrollRunStatus.valueOf(snapshot.getStatus()) == PayrollRunStatus.QUEUED
+                || PayrollRunStatus.valueOf(snapshot.getStatus()) == PayrollRunStatus.RUNNING) {
+            eventBroadcaster.send(runId, emitter, snapshot, "progress");
+        } else {
+            eventBroadcaster.send(runId, emitter, snapshot, "finished");
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * Runs that were queued or running when an instance stopped lost their executor thread. Those already orphaned
+     * are adopted on startup; runs of this instance's previous process are picked up by the heartbeat once its
+     * heartbeat times out.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        adoptOrphanedRuns();
+    }
+
+    @Scheduled(fixedDelayString = "${hrms.payroll.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!ownedRuns.isEmpty()) {
+            payrollRunRepository.heartbeat(instanceId, LocalDateTime.now(), List.copyOf(ownedRuns), ACTIVE_STATUSES);
+        }
+        payrollMonthLock.refreshHeldLocks(); // Month locks of runs and of synchronous requests alike
+        adoptOrphanedRuns();
+    }
+
+    private void adoptOrphanedRuns() {
+        for (PayrollRun run : payrollRunRepository.findOrphaned(LocalDateTime.now().minus(heartbeatTimeout), ACTIVE_STATUSES)) {
+            adoptIfOrphaned(run);
+        }
+    }
+
+    // Claims the run if its heartbeat is stale and queues it on this instance; a no-op if it is alive or already adopted
+    private void adoptIfOrphaned(PayrollRun run) {
+        Long runId = run.getId();
+        LocalDateTime now = LocalDateTime.now();
+        if (ownedRuns.contains(runId)
+                || payrollRunRepository.claim(runId, instanceId, now, now.minus(heartbeatTimeout), ACTIVE_STATUSES) == 0) {
+            return;
+        }
+        logger.warn("Adopting orphaned payroll run {} for {}-{} (status {}, last heartbeat {}).",
+                runId, run.getPayPeriodMonth(), run.getPayPeriodYear(), run.getStatus(), run.getHeartbeatAt());
+        if (!enqueue(runId, true)) {
+            // Not heartbeated from here, so it is orphaned again after the timeout and retried then
+            logger.warn("Payroll job queue is full; orphaned payroll run {} will be adopted later.", runId);
+        }
+    }
+
+    // The job queue is bounded; a rejected run must not be left QUEUED as if something were going to execute it
+    private boolean enqueue(Long runId, boolean adopted) {
+        ownedRuns.add(runId);
+        try {
+            payrollJobExecutor.execute(() -> execute(runId, adopted));
+            return true;
+        } catch (TaskRejectedException e) {
+            ownedRuns.remove(runId);
+            return false;
+        }
+    }
+
+    /**
+     * Runs on the payroll job executor. A run submitted here waits up to the lock wait for its month; an adopted run
+     * only tries the lock, since a held lock means its previous owner is still executing it after all.
+     */
+    void execute(Long runId, boolean adopted) {
+        try {
+            executeOwned(runId, adopted);
+        } finally {
+            ownedRuns.remove(runId);
+        }
+    }
+
+    private void executeOwned(Long runId, boolean adopted) {
+        PayrollRun queued = findRun(runId);
+        Integer month = queued.getPayPeriodMonth();
+        Integer year = queued.getPayPeriodYear();
+        Optional<PayrollMonthLock.Lease> lease = adopted ? payrollMonthLock.tryAcquire(month, year)
+                : payrollMonthLock.acquire(month, year, lockWait);
+        if (lease.isEmpty()) {
+            PayrollRun current = findRun(runId);
+            if (!adopted && current.getStatus() == PayrollRunStatus.QUEUED && instanceId.equals(current.getOwner())) {
+                finish(runId, PayrollRunStatus.FAILED, "Timed out waiting for the payroll lock of " + month + "-" + year + ".");
+            } else {
+                // Its owner heartbeats it again, or it is adopted again once the month lock is free
+                logger.info("Payroll run {} is being executed elsewhere (status {}).", runId, current.getStatus());
+            }
+            return;
+        }
+        PayrollRunStatus status;
+        try (PayrollMonthLock.Lease held = lease.get()) {
+            // Reloaded under the lock: another instance may have executed it meanwhile
+            PayrollRun run = findRun(runId);
+            if (run.isFinished()) {
+                logger.info("Payroll run {} was already executed elsewhere (status {}).", runId, run.getStatus());
+                return;
+            }
+            status = executeLocked(run);
+        }
+
+        // Once the run is reported finished and the lock released, and only if it wrote the month's payslips;
+        // payslips not rendered then are rendered on first download
+        if (status == PayrollRunStatus.COMPLETED || status == PayrollRunStatus.COMPLETED_WITH_ERRORS) {
+            payslipDocumentService.renderMonthInBackground(month, year);
+        }
+    }
+
+    // Returns the status the run finished with
+    private PayrollRunStatus executeLocked(PayrollRun run) {
+        Long runId = run.getId();
+        if (Boolean.TRUE.equals(run.getCancelRequested())) {
+            finish(runId, PayrollRunStatus.CANCELLED, null);
+            return PayrollRunStatus.CANCELLED;
+        }
+        if (run.getStatus() == PayrollRunStatus.RUNNING) {
+            // Interrupted mid-run: progress is whatever the committed checkpoints say, failed chunks get retried
+            List<PayrollRunChunk> checkpoints = checkpointRepository.findByPayrollRunIdOrderByChunkIndexAsc(runId);
+            run.setCompletedChunks(checkpoints.size());
+            run.setProcessedEmployees(checkpoints.stream().mapToInt(PayrollRunChunk::getEmployeeCount).sum());
+            run.setFailedEmployees(0);
+            run.setErrorLog((run.getErrorLog() == null ? "" : run.getErrorLog())
+                    + "Resumed after restart at " + LocalDateTime.now() + " with " + checkpoints.size() + " committed chunks.\n");
+        } else {
+            run.setStartedAt(LocalDateTime.now());
+        }
+        run.setStatus(PayrollRunStatus.RUNNING);
+        payrollRunRepository.save(run);
+        eventBroadcaster.publish(convertToDto(run), "progress");
+
+        try {
+            PayrollRunReport report = partitionedPayrollRunner.run(run.getPayPeriodMonth(), run.getPayPeriodYear(), runId,
+                    new RunProgressListener(runId, Boolean.TRUE.equals(run.getThrottled())));
+            PayrollRunStatus status = report.isCancelled() ? PayrollRunStatus.CANCELLED
+                    : report.getFailedChunks().isEmpty() ? PayrollRunStatus.COMPLETED : PayrollRunStatus.COMPLETED_WITH_ERRORS;
+            finish(runId, status, null);
+            return status;
+        } catch (RuntimeException e) {
+            logger.error("Payroll run {} failed: {}", runId, e.getMessage(), e);
+            finish(runId, PayrollRunStatus.FAILED, e.getMessage());
+            return PayrollRunStatus.FAILED;
+        }
+    }
+
+    private void finish(Long runId, PayrollRunStatus status, String error) {
+        if (error != null) {
+            payrollRunRepository.appendError(runId, error + "\n");
+        }
+        try {
+            // Whatever the run committed, so a later re-run of the month can be diffed against it
+            payrollDiffService.snapshotRun(runId);
+        } catch (RuntimeException e) {
+            logger.error("Could not snapshot payslips of payroll run {}: {}", runId, e.getMessage(), e);
+        }
+        // Reload so the counters written by the chunk updates are not overwritten
+        PayrollRun run = findRun(runId);
+        run.setStatus(status);
+        run.setFinishedAt(LocalDateTime.now());
+        run = payrollRunRepository.save(run);
+        logger.info("Payroll run {} finished with status {} ({} of {} employees processed).",
+                runId, status, run.getProcessedEmployees(), run.getTotalEmployees());
+        eventBroadcaster.publish(convertToDto(run), "finished");
+        eventBroadcaster.complete(runId);
+    }
+
+    private PayrollRun findRun(Long runId) {
+        return payrollRunRepository.findById(runId)
+                .orElseThrow(() -> new NoSuchElementException("Payroll run not found with ID: " + runId));
+    }
+
+    private PayrollRunDto convertToDto(PayrollRun run) {
+        return new PayrollRunDto(
+            run.getId(),
+            run.getPayPeriodMonth(),
+            run.getPayPeriodYear(),
+            run.getStatus().name(),
+            run.getTotalEmployees(),
+            run.getProcessedEmployees(),
+            run.getFailedEmployees(),
+            run.getTotalChunks(),
+            run.getCompletedChunks(),
+            run.getCancelRequested(),
+            run.getErrorLog(),
+            run.getRequestedBy(),
+            run.getCreatedAt(),
+            run.getStartedAt(),
+            run.getFinishedAt(),
+            describe(run)
+        );
+    }
+
+    private static String describe(PayrollRun run) {
+        String period = run.getPayPeriodMonth() + "-" + run.getPayPeriodYear();
+        switch (run.getStatus()) {
+            case QUEUED:
+                return "Payroll run " + run.getId() + " for " + period + " queued.";
+            case RUNNING:
+                return "Payroll run " + run.getId() + " for " + period + " in progress: "
+                        + run.getProcessedEmployees() + " of " + run.getTotalEmployees() + " employees processed.";
+            case COMPLETED:
+                return "Payroll for " + period + " processed for " + run.getProcessedEmployees() + " employees.";
+            case COMPLETED_WITH_ERRORS:
+                return "Payroll for " + period + " processed for " + run.getProcessedEmployees() + " employees; "
+                        + run.getFailedEmployees() + " could not be processed.";
+            case CANCELLED:
+                return "Payroll run " + run.getId() + " for " + period + " was cancelled after "
+                        + run.getProcessedEmployees() + " employees.";
+            default:
+                return "Payroll run " + run.getId() + " for " + period + " failed.";
+        }
+    }
+
+    // Writes chunk progress through atomic counter updates, since chunks finish concurrently
+    private class RunProgressListener implements PayrollProgressListener {
+
+        private final Long runId;
+        private final boolean throttled;
+
+        RunProgressListener(Long runId, boolean throttled) {
+            this.runId = runId;
+            this.throttled = throttled;
+        }
+
+        @Override
+        public void onStart(int totalEmployees, int totalChunks) {
+            PayrollRun run = findRun(runId);
+            run.setTotalEmployees(totalEmployees);
+            run.setTotalChunks(totalChunks);
+            eventBroadcaster.publish(convertToDto(payrollRunRepository.save(run)), "progress");
+        }
+
+        @Override
+        public void beforeChunk(int chunkIndex) {
+            if (throttled) {
+                connectionPoolThrottle.awaitCapacity(this::isCancelled);
+            }
+        }
+
+        @Override
+        public void onChunkFinished(int chunkIndex, int employeeCount, PayrollChunkFailure failure) {
+            if (failure == null) {
+                payrollRunRepository.recordChunkProgress(runId, employeeCount, 0);
+            } else {
+                payrollRunRepository.recordChunkProgress(runId, 0, employeeCount);
+                payrollRunRepository.appendError(runId, "Chunk " + chunkIndex + " (employees " + failure.getFirstEmployeeId()
+                        + " to " + failure.getLastEmployeeId() + "): " + failure.getError() + "\n");
+            }
+            eventBroadcaster.publish(getRun(runId), "progress");
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return Boolean.TRUE.equals(payrollRunRepository.isCancelRequested(runId));
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.hrms.backend.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -16,18 +19,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.hrms.backend.dto.PayslipDto;
-import com.hrms.backend.entity.Attendance;
 import com.hrms.backend.entity.AttendanceStatus;
-import com.hrms.backend.entity.Bonus;
 import com.hrms.backend.entity.Employee;
-import com.hrms.backend.entity.LeaveApplication;
 import com.hrms.backend.entity.LeaveStatus;
+import com.hrms.backend.entity.PayrollRuleSet;
 import com.hrms.backend.entity.Payslip;
 import com.hrms.backend.repository.AttendanceRepository;
 import com.hrms.backend.repository.BonusRepository;
 import com.hrms.backend.repository.EmployeeRepository;
 import com.hrms.backend.repository.LeaveApplicationRepository;
+import com.hrms.backend.repository.PayslipBatchWriter;
 import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipYtdWriter;
 
 import jakarta.transaction.Transactional;
 
@@ -51,39 +54,152 @@ public class PayrollService {
     
     @Autowired
     private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayslipBatchWriter payslipBatchWriter;
+
+    @Autowired
+    private WorkingCalendar workingCalendar;
+    
+    @Autowired
+    private PayrollRuleSetService payrollRuleSetService;
+
+    @Autowired
+    private PayslipYtdWriter payslipYtdWriter;
+
+    @Autowired
+    private AttendanceIndex attendanceIndex;
     
     private static final String ADMIN_SYSTEM_LABEL = "Admin System"; // Hardcoded admin label
 
-    // Hardcoded payroll constants as per your request
-    private static final BigDecimal TAX_PERCENTAGE = new BigDecimal("0.10"); // 10%
-    private static final BigDecimal PF_PERCENTAGE = new BigDecimal("0.12"); // 12%
-    private static final Integer STANDARD_WORKING_DAYS_PER_MONTH = 25; // 25 days
+    /**
+     * Computes and upserts the payslips of one chunk of employees. Runs inside the caller's transaction,
+     * so a partitioned run commits (or rolls back) each chunk on its own. Existing payslips whose input
+     * fingerprint is unchanged are only restamped with the run. The month summary is not touched; the run
+     * rebuilds it once all chunks are done.
+     * @param payrollRunId run stamped on the written payslips, or null when not part of a persisted run.
+     * @return the number of payslips written.
+     */
+    @Transactional
+    public int processChunk(List<Employee> chunk, PayrollMonthInputs inputs, Long payrollRunId) {
+        Integer month = inputs.getYearMonth().getMonthValue();
+        Integer year = inputs.getYearMonth().getYear();
+        List<Long> employeeIds = chunk.stream().map(Employee::getId).collect(Collectors.toList());
+
+        // One read of the stored fingerprints instead of the payslips themselves
+        Map<Long, Long> fingerprints = inputFingerprints(chunk, inputs);
+        Set<Long> unchangedIds = payslipRepository.findInputFingerprints(month, year, employeeIds).stream()
+                .filter(stored -> isUnchanged(stored.getInputFingerprint(), stored.getDirty(), fingerprints.get(stored.getEmployeeId())))
+                .map(PayslipRepository.PayslipInputFingerprint::getEmployeeId)
+                .collect(Collectors.toSet());
+        if (!unchangedIds.isEmpty() && payrollRunId != null) {
+            payslipRepository.assignPayrollRun(month, year, unchangedIds, payrollRunId);
+        }
+        List<Employee> changed = unchangedIds.isEmpty() ? chunk
+                : chunk.stream().filter(e -> !unchangedIds.contains(e.getId())).collect(Collectors.toList());
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        // No lookup of existing payslips: the writer overwrites them through the (employee, month, year) constraint
+        List<Long> changedIds = changed.stream().map(Employee::getId).collect(Collectors.toList());
+        List<Payslip> payslips = buildPayslips(changed, fingerprints, inputs);
+        payslips.forEach(payslip -> payslip.setPayrollRunId(payrollRunId));
+        int written = payslipBatchWriter.upsert(payslips);
+        payslipYtdWriter.refresh(year, month, changedIds);
+        return written;
+    }
 
+    /**
+     * Recomputes the YTD totals of every payslip of a year, e.g. for payslips written before the totals were
+     * maintained. Payroll writes keep them current afterwards.
+     * @return the number of payslips whose totals changed.
+     */
     @Transactional
-    public List<PayslipDto> processMonthlyPayroll(Integer month, Integer year) {
-        logger.info("Initiating monthly payroll processing for {}-{}", month, year);
-
-        // Check if payroll for this month/year has already been processed
-        List<Payslip> existingPayslips = payslipRepository.findByPayPeriodMonthAndPayPeriodYear(month, year);
-        if (!existingPayslips.isEmpty()) {
-            logger.warn("Payroll for {}-{} has already been processed. Re-processing will overwrite existing payslips.", month, year);
-            // Option: delete existing payslips before re-processing, or throw an error
-            // For simplicity, we will allow re-processing and update existing.
+    public int rebuildYearToDate(Integer year) {
+        if (year == null || year < 2000) {
+            throw new IllegalArgumentException("Invalid payroll year: " + year);
         }
+        int updated = payslipYtdWriter.refresh(year, 1, employeeRepository.findAllIds());
+        logger.info("Rebuilt year-to-date totals for {}: {} payslips updated.", year, updated);
+        return updated;
+    }
 
-        List<Employee> employees = employeeRepository.findAll();
-        if (employees.isEmpty()) {
-            logger.warn("No employees found to process payroll for {}-{}", month, year);
-            return List.of();
+    private List<Payslip> buildPayslips(List<Employee> employees, Map<Long, Long> fingerprints, PayrollMonthInputs inputs) {
+        Integer month = inputs.getYearMonth().getMonthValue();
+        Integer year = inputs.getYearMonth().getYear();
+        PayrollRuleSet ruleSet = inputs.getRuleSet();
+        PayrollMath.Rate taxRate = PayrollMath.Rate.of(ruleSet.getTaxPercentage());
+        PayrollMath.Rate pfRate = PayrollMath.Rate.of(ruleSet.getPfPercentage());
+        PayrollMath.Amounts amounts = new PayrollMath.Amounts();
+        List<Payslip> payslips = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Payslip payslip = newPayslip(employee, month, year);
+            populatePayslipFixedPoint(payslip, employee, inputs, ruleSet.getTaxPercentage(), ruleSet.getPfPercentage(),
+                    taxRate, pfRate, ruleSet.getStandardWorkingDaysPerMonth(), amounts);
+            payslip.setInputFingerprint(fingerprints.get(employee.getId()));
+            payslips.add(payslip);
         }
+        return payslips;
+    }
 
-        List<PayslipDto> generatedPayslips = employees.stream().map(employee -> {
-            // Pass the hardcoded constants directly
-            return calculateAndSavePayslipForEmployee(employee, month, year, TAX_PERCENTAGE, PF_PERCENTAGE, STANDARD_WORKING_DAYS_PER_MONTH);
-        }).collect(Collectors.toList());
+    // Current input fingerprint per employee, under the rule set captured in the inputs
+    private Map<Long, Long> inputFingerprints(List<Employee> employees, PayrollMonthInputs inputs) {
+        PayrollRuleSet ruleSet = inputs.getRuleSet();
+        int workingDaysInMonth = workingCalendar.countWorkingDays(inputs.getYearMonth());
+        Map<Long, Long> fingerprints = new HashMap<>(employees.size() * 2);
+        for (Employee employee : employees) {
+            fingerprints.put(employee.getId(), PayslipFingerprint.of(employee, inputs, ruleSet.getTaxPercentage(),
+                    ruleSet.getPfPercentage(), ruleSet.getStandardWorkingDaysPerMonth(), workingDaysInMonth));
+        }
+        return fingerprints;
+    }
 
-        logger.info("Successfully processed payroll for {}-{} for {} employees.", month, year, generatedPayslips.size());
-        return generatedPayslips;
+    // A payslip flagged dirty is recomputed even if its fingerprint matches
+    private static boolean isUnchanged(Long storedFingerprint, Boolean dirty, Long currentFingerprint) {
+        return storedFingerprint != null && storedFingerprint.equals(currentFingerprint) && !Boolean.TRUE.equals(dirty);
+    }
+
+    /**
+     * Loads the attendance counts, approved leave days and bonus totals of all employees for one month:
+     * one grouped query per input instead of one query per input per employee. The active rule set is
+     * captured once here, so every chunk of a run uses the same rates.
+     */
+    public PayrollMonthInputs loadMonthInputs(YearMonth yearMonth) {
+        LocalDate periodStart = yearMonth.atDay(1);
+        LocalDate periodEnd = yearMonth.atEndOfMonth();
+        PayrollMonthInputs inputs = new PayrollMonthInputs(yearMonth);
+        inputs.setRuleSet(payrollRuleSetService.getActiveRuleSet());
+
+        attendanceRepository.countByStatusGroupedByEmployee(periodStart, periodEnd)
+                .forEach(row -> inputs.addAttendance(row.getEmployeeId(), row.getStatus(), row.getTotal()));
+
+        leaveApplicationRepository.findSpansByStatusOverlapping(LeaveStatus.APPROVED, periodEnd, periodStart)
+                .forEach(span -> inputs.addApprovedLeaveDays(span.getEmployeeId(),
+                        workingCalendar.countWorkingDaysWithin(span.getStartDate(), span.getEndDate(), yearMonth)));
+
+        bonusRepository.sumAmountGroupedByEmployee(yearMonth.getMonthValue(), yearMonth.getYear())
+                .forEach(row -> inputs.addBonus(row.getEmployeeId(), row.getTotal()));
+
+        return inputs;
+    }
+
+    /**
+     * Recalculates an already generated payslip from the current attendance, leave and bonus data.
+     * Does nothing when payroll has not been run for that employee and month yet. The month summary is left
+     * to the caller to rebuild, once for however many payslips of the month it recalculates.
+     * @return true if a payslip was recalculated.
+     */
+    @Transactional
+    public boolean recalculateExistingPayslip(Long employeeId, Integer month, Integer year) {
+        Optional<Payslip> existing = payslipRepository.findByEmployeeIdAndPayPeriodMonthAndPayPeriodYear(employeeId, month, year);
+        if (existing.isEmpty()) {
+            return false;
+        }
+        PayrollRuleSet ruleSet = payrollRuleSetService.getActiveRuleSet();
+        calculateAndSavePayslipForEmployee(existing.get().getEmployee(), month, year,
+                ruleSet.getTaxPercentage(), ruleSet.getPfPercentage(), ruleSet.getStandardWorkingDaysPerMonth());
+        return true;
     }
 
     @Transactional
@@ -92,23 +208,119 @@ public class PayrollService {
         
         logger.info("Calculating payslip for employee: {} (ID: {}) for {}-{}", employee.getUser().getUsername(), employee.getId(), month, year);
 
+        YearMonth yearMonth = YearMonth.of(year, month);
+        PayrollMonthInputs inputs = new PayrollMonthInputs(yearMonth);
+
+        // Attendance counts, re-read from the database as packed day codes (which also refreshes the index)
+        int[] attendanceCounts = attendanceIndex.reloadMonth(employee.getId(), yearMonth);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            inputs.addAttendance(employee.getId(), status, attendanceCounts[status.ordinal()]);
+        }
+
+        // Approved Leaves
+        leaveApplicationRepository.findByEmployeeIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                employee.getId(), LeaveStatus.APPROVED, yearMonth.atEndOfMonth(), yearMonth.atDay(1))
+                .forEach(leave -> inputs.addApprovedLeaveDays(employee.getId(),
+                        workingCalendar.countWorkingDaysWithin(leave.getStartDate(), leave.getEndDate(), yearMonth)));
+
+        // Bonus Amount, summed by the database
+        inputs.addBonus(employee.getId(), bonusRepository.sumAmountByEmployeeIdAndMonthAndYear(employee.getId(), month, year));
+
+        // Create or Update Payslip
+        Optional<Payslip> existingPayslip = payslipRepository.findByEmployeeIdAndPayPeriodMonthAndPayPeriodYear(employee.getId(), month, year);
+        Payslip payslip;
+        if (existingPayslip.isPresent()) {
+            payslip = existingPayslip.get();
+            logger.info("Updating existing payslip for employee {} for {}-{}", employee.getUser().getUsername(), month, year);
+        } else {
+            payslip = newPayslip(employee, month, year);
+            logger.info("Creating new payslip for employee {} for {}-{}", employee.getUser().getUsername(), month, year);
+        }
+
+        populatePayslip(payslip, employee, inputs, taxPercentage, pfPercentage, standardWorkingDaysPerMonth);
+        payslip.setInputFingerprint(PayslipFingerprint.of(employee, inputs, taxPercentage, pfPercentage,
+                standardWorkingDaysPerMonth, payslip.getTotalWorkingDaysInMonth()));
+
+        Payslip savedPayslip = payslipRepository.save(payslip);
+        payslipYtdWriter.refresh(year, month, List.of(employee.getId()));
+        logger.info("Payslip saved/updated for employee: {} (ID: {}), Net Salary: {}", employee.getUser().getUsername(), employee.getId(), savedPayslip.getNetSalary());
+        return convertToPayslipDto(savedPayslip);
+    }
+
+    private Payslip newPayslip(Employee employee, Integer month, Integer year) {
+        Payslip payslip = new Payslip();
+        payslip.setEmployee(employee);
+        payslip.setPayPeriodMonth(month);
+        payslip.setPayPeriodYear(year);
+        return payslip;
+    }
+
+    /**
+     * Bulk-path version of populatePayslip on long cents (see PayrollMath). Gives identical values; inputs the
+     * kernel cannot represent exactly are handed to the BigDecimal calculation.
+     */
+    void populatePayslipFixedPoint(Payslip payslip, Employee employee, PayrollMonthInputs inputs,
+                                   BigDecimal taxPercentage, BigDecimal pfPercentage,
+                                   PayrollMath.Rate taxRate, PayrollMath.Rate pfRate,
+                                   Integer standardWorkingDaysPerMonth, PayrollMath.Amounts amounts) {
+        Long employeeId = employee.getId();
+        if (!calculateFixedPoint(amounts, employeeId, employee.getSalary(), inputs, taxRate, pfRate, standardWorkingDaysPerMonth)) {
+            populatePayslip(payslip, employee, inputs, taxPercentage, pfPercentage, standardWorkingDaysPerMonth);
+            return;
+        }
+        int daysAbsent = inputs.getDaysWithStatus(employeeId, AttendanceStatus.ABSENT);
+        int daysHalfDay = inputs.getDaysWithStatus(employeeId, AttendanceStatus.HALF_DAY);
+
+        payslip.setGrossSalary(BigDecimal.valueOf(amounts.grossSalary, 2));
+        payslip.setBaseMonthlySalary(BigDecimal.valueOf(amounts.baseMonthlySalary, 2));
+        payslip.setTotalWorkingDaysInMonth(workingCalendar.countWorkingDays(inputs.getYearMonth()));
+        payslip.setDaysPresent(inputs.getDaysWithStatus(employeeId, AttendanceStatus.PRESENT));
+        payslip.setDaysAbsent(daysAbsent);
+        payslip.setDaysHalfDay(daysHalfDay);
+        payslip.setDaysOnApprovedLeave(inputs.getApprovedLeaveDays(employeeId));
+        payslip.setAttendanceDeduction(BigDecimal.valueOf(amounts.attendanceDeduction, 2));
+        payslip.setTaxDeduction(BigDecimal.valueOf(amounts.taxDeduction, 2));
+        payslip.setPfDeduction(BigDecimal.valueOf(amounts.pfDeduction, 2));
+        payslip.setOtherDeductions(BigDecimal.ZERO); // Placeholder, as in populatePayslip
+        payslip.setBonusAmount(BigDecimal.valueOf(amounts.bonusAmount, 2));
+        payslip.setNetSalary(BigDecimal.valueOf(amounts.netSalary, 2));
+        payslip.setGenerationDate(LocalDateTime.now());
+        payslip.setGeneratedBy(ADMIN_SYSTEM_LABEL); // Hardcoded admin label
+        payslip.setDepartment(employee.getDepartment());
+        payslip.setDirty(false);
+    }
+
+    /**
+     * Fills amounts (cents) for one employee with the fixed-point kernel.
+     * @return false when an input cannot be represented exactly; the caller must use the BigDecimal calculation.
+     */
+    boolean calculateFixedPoint(PayrollMath.Amounts amounts, Long employeeId, Double salary, PayrollMonthInputs inputs,
+                                PayrollMath.Rate taxRate, PayrollMath.Rate pfRate, Integer standardWorkingDaysPerMonth) {
+        long salaryCents = salary == null ? PayrollMath.NOT_REPRESENTABLE : PayrollMath.salaryToCents(salary);
+        long bonusCents = PayrollMath.toCents(inputs.getBonusTotal(employeeId));
+        if (taxRate == null || pfRate == null || salaryCents == PayrollMath.NOT_REPRESENTABLE || bonusCents == PayrollMath.NOT_REPRESENTABLE) {
+            return false;
+        }
+        if (standardWorkingDaysPerMonth <= 0) {
+            logger.error("STANDARD_WORKING_DAYS_PER_MONTH is zero or negative. Using default 25.");
+            standardWorkingDaysPerMonth = 25; // Fallback
+        }
+        PayrollMath.calculate(amounts, salaryCents, bonusCents, inputs.getDaysWithStatus(employeeId, AttendanceStatus.ABSENT),
+                inputs.getDaysWithStatus(employeeId, AttendanceStatus.HALF_DAY), standardWorkingDaysPerMonth, taxRate, pfRate);
+        return true;
+    }
+
+    // BigDecimal reference calculation: used by the single-employee recalculation and as the bulk path's fallback
+    void populatePayslip(Payslip payslip, Employee employee, PayrollMonthInputs inputs,
+                                 BigDecimal taxPercentage, BigDecimal pfPercentage, Integer standardWorkingDaysPerMonth) {
+        Long employeeId = employee.getId();
+        YearMonth yearMonth = inputs.getYearMonth();
+
         BigDecimal baseMonthlySalary = BigDecimal.valueOf(employee.getSalary())
                 .divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_UP);
 
-        // Calculate actual working days in the month (excluding weekends by default)
-        YearMonth yearMonth = YearMonth.of(year, month);
-        int totalDaysInMonth = yearMonth.lengthOfMonth();
-        int weekendDays = 0;
-        for (int i = 1; i <= totalDaysInMonth; i++) {
-            LocalDate date = yearMonth.atDay(i);
-            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
-                weekendDays++;
-            }
-        }
-        // Assuming public holidays are not tracked in Attendance or Leave for simplicity,
-        // so totalWorkingDaysInMonth will be total days - weekends.
-        // If you track public holidays, you'd subtract them here.
-        int actualPossibleWorkingDays = totalDaysInMonth - weekendDays;
+        // Weekdays of the month minus public holidays
+        int actualPossibleWorkingDays = workingCalendar.countWorkingDays(yearMonth);
         
         // Ensure standardWorkingDaysPerMonth is not zero to avoid division by zero
         if (standardWorkingDaysPerMonth <= 0) {
@@ -116,36 +328,10 @@ public class PayrollService {
             standardWorkingDaysPerMonth = 25; // Fallback
         }
 
-        // Attendance Data
-        List<Attendance> attendanceRecords = attendanceRepository.findByEmployeeIdAndAttendanceDateBetween(
-                employee.getId(), yearMonth.atDay(1), yearMonth.atEndOfMonth());
-
-        int daysPresent = (int) attendanceRecords.stream()
-                .filter(a -> a.getStatus() == AttendanceStatus.PRESENT)
-                .count();
-        int daysAbsent = (int) attendanceRecords.stream()
-                .filter(a -> a.getStatus() == AttendanceStatus.ABSENT)
-                .count();
-        int daysHalfDay = (int) attendanceRecords.stream()
-                .filter(a -> a.getStatus() == AttendanceStatus.HALF_DAY)
-                .count();
-
-        // Approved Leaves
-        List<LeaveApplication> approvedLeaves = leaveApplicationRepository.findByEmployeeIdAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-                employee.getId(), LeaveStatus.APPROVED, yearMonth.atEndOfMonth(), yearMonth.atDay(1));
-
-        int daysOnApprovedLeave = approvedLeaves.stream()
-                .mapToInt(leave -> {
-                    LocalDate start = leave.getStartDate().isBefore(yearMonth.atDay(1)) ? yearMonth.atDay(1) : leave.getStartDate();
-                    LocalDate end = leave.getEndDate().isAfter(yearMonth.atEndOfMonth()) ? yearMonth.atEndOfMonth() : leave.getEndDate();
-                    int days = 0;
-                    for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
-                        if (!(d.getDayOfWeek() == DayOfWeek.SATURDAY || d.getDayOfWeek() == DayOfWeek.SUNDAY)) { // Only count working days
-                            days++;
-                        }
-                    }
-                    return days;
-                }).sum();
+        int daysPresent = inputs.getDaysWithStatus(employeeId, AttendanceStatus.PRESENT);
+        int daysAbsent = inputs.getDaysWithStatus(employeeId, AttendanceStatus.ABSENT);
+        int daysHalfDay = inputs.getDaysWithStatus(employeeId, AttendanceStatus.HALF_DAY);
+        int daysOnApprovedLeave = inputs.getApprovedLeaveDays(employeeId);
 
         // Calculate attendance deduction
         BigDecimal dailyRate = baseMonthlySalary.divide(BigDecimal.valueOf(standardWorkingDaysPerMonth), 2, RoundingMode.HALF_UP);
@@ -159,12 +345,7 @@ public class PayrollService {
         // Other deductions (if any, from Payslip entity, currently not calculated here)
         BigDecimal otherDeductions = BigDecimal.ZERO; // Placeholder
 
-        // Bonus Amount
-        BigDecimal bonusAmount = bonusRepository.findByEmployeeIdAndMonthAndYear(employee.getId(), month, year)
-                .stream()
-                .map(Bonus::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal bonusAmount = inputs.getBonusTotal(employeeId).setScale(2, RoundingMode.HALF_UP);
 
         // Gross Salary (Base + Bonus)
         BigDecimal grossSalary = baseMonthlySalary.add(bonusAmount).setScale(2, RoundingMode.HALF_UP);
@@ -176,20 +357,6 @@ public class PayrollService {
                 .subtract(otherDeductions)
                 .setScale(2, RoundingMode.HALF_UP);
 
-        // Create or Update Payslip
-        Optional<Payslip> existingPayslip = payslipRepository.findByEmployeeIdAndPayPeriodMonthAndPayPeriodYear(employee.getId(), month, year);
-        Payslip payslip;
-        if (existingPayslip.isPresent()) {
-            payslip = existingPayslip.get();
-            logger.info("Updating existing payslip for employee {} for {}-{}", employee.getUser().getUsername(), month, year);
-        } else {
-            payslip = new Payslip();
-            payslip.setEmployee(employee);
-            payslip.setPayPeriodMonth(month);
-            payslip.setPayPeriodYear(year);
-            logger.info("Creating new payslip for employee {} for {}-{}", employee.getUser().getUsername(), month, year);
-        }
-
         payslip.setGrossSalary(grossSalary);
         payslip.setBaseMonthlySalary(baseMonthlySalary);
         payslip.setTotalWorkingDaysInMonth(actualPossibleWorkingDays); // Store actual possible working days
@@ -205,10 +372,8 @@ public class PayrollService {
         payslip.setNetSalary(netSalary);
         payslip.setGenerationDate(LocalDateTime.now());
         payslip.setGeneratedBy(ADMIN_SYSTEM_LABEL); // Hardcoded admin label
-
-        Payslip savedPayslip = payslipRepository.save(payslip);
-        logger.info("Payslip saved/updated for employee: {} (ID: {}), Net Salary: {}", employee.getUser().getUsername(), employee.getId(), savedPayslip.getNetSalary());
-        return convertToPayslipDto(savedPayslip);
+        payslip.setDepartment(employee.getDepartment());
+        payslip.setDirty(false);
     }
 
     public List<PayslipDto> getPayslipsByMonthAndYear(Integer month, Integer year) {
@@ -225,7 +390,7 @@ public class PayrollService {
     }
 
     // Helper method to convert Entity to DTO
-    private PayslipDto convertToPayslipDto(Payslip payslip) {
+    PayslipDto convertToPayslipDto(Payslip payslip) {
         String employeeName = (payslip.getEmployee() != null) ?
                 payslip.getEmployee().getFirstName() + " " + payslip.getEmployee().getLastName() : "N/A";
         String employeeIdNumber = (payslip.getEmployee() != null) ? payslip.getEmployee().getEmployeeIdNumber() : "N/A";
@@ -0,0 +1,158 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipRepository.PayslipExportRow;
+
+/**
+ * Payslip PDFs. After a successful payroll run the month's payslips are streamed from the database and rendered
+ * in parallel on the payroll executor (whose caller-runs policy throttles the reader), off the payroll job thread;
+ * documents already in the store are skipped. A payslip recalculated later is rendered on first download.
+ */
+@Service
+public class PayslipDocumentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipDocumentService.class);
+
+    private final PayslipPdfTemplate template = PayslipPdfTemplate.compile();
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayslipDocumentStore documentStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("payrollExecutor")
+    private ThreadPoolTaskExecutor payrollExecutor;
+
+    @Autowired
+    @Qualifier("payslipRenderExecutor")
+    private ThreadPoolTaskExecutor payslipRenderExecutor;
+
+    /**
+     * Queues renderMonth on the render executor and returns straight away.
+     */
+    public void renderMonthInBackground(Integer month, Integer year) {
+        try {
+            payslipRenderExecutor.execute(() -> {
+                try {
+                    renderMonth(month, year);
+                } catch (RuntimeException e) {
+                    logger.error("Rendering payslip documents for {}-{} failed: {}", month, year, e.getMessage(), e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Payslip render queue is full; documents for {}-{} will be rendered on download.", month, year);
+        }
+    }
+
+    /**
+     * Renders the PDFs of every payslip of a month that is not in the store yet.
+     * @return the number of documents rendered.
+     */
+    public int renderMonth(Integer month, Integer year) {
+        long started = System.currentTimeMillis();
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<PayslipExportRow> rows = payslipRepository.streamExportRowsByPeriod(month, year)) {
+                rows.forEach(row -> {
+                    String key = PayslipDocumentStore.key(row.getId(), row.getGenerationDate());
+                    if (documentStore.exists(row.getId(), key)) {
+                        return;
+                    }
+                    pending.add(CompletableFuture.runAsync(() -> {
+                        try {
+                            render(key, row);
+                            rendered.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                            logger.error("Could not render payslip {} document: {}", row.getId(), e.getMessage(), e);
+                        }
+                    }, payrollExecutor));
+                });
+            }
+        });
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+
+        logger.info("Rendered {} payslip documents for {}-{} in {} ms ({} failed).",
+                rendered.get(), month, year, System.currentTimeMillis() - started, failed.get());
+        return rendered.get();
+    }
+
+    /**
+     * Looks up a payslip document for its owner without rendering it; its key answers a conditional request.
+     * @throws NoSuchElementException if the payslip does not exist or belongs to someone else.
+     */
+    public PayslipDocument findDocumentForUser(Long payslipId, Long userId) {
+        PayslipExportRow row = payslipRepository.findExportRowByIdAndUserId(payslipId, userId)
+                .orElseThrow(() -> new NoSuchElementException("Payslip not found with ID: " + payslipId));
+        String fileName = String.format("payslip-%d-%02d.pdf", row.getPayPeriodYear(), row.getPayPeriodMonth());
+        return new PayslipDocument(PayslipDocumentStore.key(row.getId(), row.getGenerationDate()), fileName, row);
+    }
+
+    /**
+     * The document's file, rendered first if it is not in the store.
+     */
+    public Path resolve(PayslipDocument document) {
+        PayslipExportRow row = document.getRow();
+        if (documentStore.exists(row.getId(), document.getKey())) {
+            return documentStore.path(row.getId(), document.getKey());
+        }
+        return render(document.getKey(), row);
+    }
+
+    private Path render(String key, PayslipExportRow row) {
+        try {
+            return documentStore.store(row.getId(), key, template.render(row));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store payslip document " + key, e);
+        }
+    }
+
+    /**
+     * A payslip PDF, stored or not yet rendered; the key is its strong ETag.
+     */
+    public static final class PayslipDocument {
+        private final String key;
+        private final String fileName;
+        private final PayslipExportRow row;
+
+        PayslipDocument(String key, String fileName, PayslipExportRow row) {
+            this.key = key;
+            this.fileName = fileName;
+            this.row = row;
+        }
+
+        public String getKey() { return key; }
+        public String getFileName() { return fileName; }
+        PayslipExportRow getRow() { return row; }
+    }
+}
@@ -0,0 +1,92 @@
+package com.hrms.backend.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local file store for rendered payslip PDFs. A document's key is the SHA-256 of the payslip id and its
+ * generation date, and every recalculation sets a new generation date, so a key always names the same bytes:
+ * files are written once (atomically) and never modified, and the key doubles as a strong ETag. A payslip's
+ * documents share a directory, and storing a new version deletes the ones its recalculations superseded.
+ */
+@Component
+public class PayslipDocumentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipDocumentStore.class);
+
+    private final Path root;
+
+    public PayslipDocumentStore(@Value("${hrms.payslip-documents.dir:payslip-documents}") String directory) {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+    }
+
+    public static String key(Long payslipId, LocalDateTime generationDate) {
+        // Microseconds, as stored by the database, so the key is the same before and after a round trip
+        String source = payslipId + "|" + generationDate.truncatedTo(ChronoUnit.MICROS);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // One directory per payslip, fanned out over 256 directories by the low byte of its id
+    public Path path(Long payslipId, String key) {
+        return directory(payslipId).resolve(key + ".pdf");
+    }
+
+    public boolean exists(Long payslipId, String key) {
+        return Files.isRegularFile(path(payslipId, key));
+    }
+
+    // Readers see either no file or the complete one
+    public Path store(Long payslipId, String key, byte[] pdf) throws IOException {
+        Path target = path(payslipId, key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".tmp");
+        try {
+            Files.write(temp, pdf);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        logger.debug("Stored payslip document {} ({} bytes).", key, pdf.length);
+        deleteSuperseded(target);
+        return target;
+    }
+
+    // Nothing references an older version once the payslip has a new generation date. If a render of the old
+    // version finishes last and deletes the new one, the next download renders the new one again.
+    private void deleteSuperseded(Path current) {
+        try (DirectoryStream<Path> documents = Files.newDirectoryStream(current.getParent(), "*.pdf")) {
+            for (Path document : documents) {
+                if (!document.equals(current)) {
+                    Files.deleteIfExists(document);
+                    logger.debug("Deleted superseded payslip document {}.", document.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not delete superseded payslip documents in {}: {}", current.getParent(), e.getMessage());
+        }
+    }
+
+    private Path directory(Long payslipId) {
+        return root.resolve(String.format("%02x", payslipId & 0xff)).resolve(payslipId.toString());
+    }
+}
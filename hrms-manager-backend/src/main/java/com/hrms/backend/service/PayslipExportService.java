@@ -0,0 +1,163 @@
+package com.hrms.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.hrms.backend.dto.PayslipDto;
+import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipRepository.PayslipExportRow;
+
+/**
+ * Streams a month of payslips as CSV or NDJSON straight from a forward-only cursor. Rows are read as a
+ * projection (no entities in the persistence context) and written as they arrive, so memory stays flat and
+ * the first bytes go out before the last row is read.
+ */
+@Service
+public class PayslipExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipExportService.class);
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final String CSV_HEADER = "id,employeeId,employeeIdNumber,employeeName,payPeriodMonth,payPeriodYear,"
+            + "grossSalary,baseMonthlySalary,totalWorkingDaysInMonth,daysPresent,daysAbsent,daysHalfDay,daysOnApprovedLeave,"
+            + "attendanceDeduction,taxDeduction,pfDeduction,otherDeductions,bonusAmount,netSalary,generationDate,generatedBy";
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NdjsonStreamer ndjsonStreamer;
+
+    // The format is checked up front so an invalid request fails before streaming starts
+    public StreamingResponseBody export(Integer month, Integer year, String format) {
+        if (month == null || month < 1 || month > 12 || year == null) {
+            throw new IllegalArgumentException("Invalid month or year for payslip export.");
+        }
+        if (!FORMAT_CSV.equals(format) && !FORMAT_NDJSON.equals(format)) {
+            throw new IllegalArgumentException("Unsupported export format: " + format + ". Use csv or ndjson.");
+        }
+        logger.info("Exporting payslips for {}-{} as {}.", month, year, format);
+        return out -> {
+            int rows = FORMAT_CSV.equals(format) ? writeCsv(month, year, out) : writeNdjson(month, year, out);
+            logger.info("Exported {} payslips for {}-{} as {}.", rows, month, year, format);
+        };
+    }
+
+    private int writeCsv(Integer month, Integer year, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int rows;
+        try {
+            rows = forEachRow(month, year, row -> {
+                writer.write(String.valueOf(row.getId()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getEmployeeId()));
+                writer.write(',');
+                writeCsvField(writer, row.getEmployeeIdNumber());
+                writer.write(',');
+                writeCsvField(writer, employeeName(row));
+                writer.write(',');
+                writer.write(String.valueOf(row.getPayPeriodMonth()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getPayPeriodYear()));
+                writeCsvValues(writer, row.getGrossSalary(), row.getBaseMonthlySalary(), row.getTotalWorkingDaysInMonth(),
+                        row.getDaysPresent(), row.getDaysAbsent(), row.getDaysHalfDay(), row.getDaysOnApprovedLeave(),
+                        row.getAttendanceDeduction(), row.getTaxDeduction(), row.getPfDeduction(), row.getOtherDeductions(),
+                        row.getBonusAmount(), row.getNetSalary(), row.getGenerationDate());
+                writer.write(',');
+                writeCsvField(writer, row.getGeneratedBy());
+                writer.write('\n');
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-stream
+            logger.warn("Payslip export for {}-{} aborted: {}", month, year, e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private int writeNdjson(Integer month, Integer year, OutputStream out) throws IOException {
+        // Same shape as the payslip listing endpoint; forEachRow joins the streamer's read-only transaction
+        return ndjsonStreamer.write(out, "Payslip export for " + month + "-" + year, writer -> forEachRow(month, year,
+                row -> writer.write(new PayslipDto(row.getId(), row.getEmployeeId(), employeeName(row),
+                        row.getEmployeeIdNumber(), row.getPayPeriodMonth(), row.getPayPeriodYear(), row.getGrossSalary(),
+                        row.getBaseMonthlySalary(), row.getTotalWorkingDaysInMonth(), row.getDaysPresent(),
+                        row.getDaysAbsent(), row.getDaysHalfDay(), row.getDaysOnApprovedLeave(),
+                        row.getAttendanceDeduction(), row.getTaxDeduction(), row.getPfDeduction(),
+                        row.getOtherDeductions(), row.getBonusAmount(), row.getNetSalary(), row.getGenerationDate(),
+                        row.getGeneratedBy()))));
+    }
+
+    // Reads the month in one read-only transaction, handing each row to the writer as it arrives
+    private int forEachRow(Integer month, Integer year, RowWriter rowWriter) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            int rows = 0;
+            try (Stream<PayslipExportRow> stream = payslipRepository.streamExportRowsByPeriod(month, year)) {
+                Iterator<PayslipExportRow> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    rowWriter.write(iterator.next());
+                    rows++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+    }
+
+    private static String employeeName(PayslipExportRow row) {
+        return row.getFirstName() + " " + row.getLastName();
+    }
+
+    private static void writeCsvValues(Writer writer, Object... values) throws IOException {
+        for (Object value : values) {
+            writer.write(',');
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+    }
+
+    // Quotes a field when it contains a separator, quote or line break (RFC 4180)
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PayslipExportRow row) throws IOException;
+    }
+}
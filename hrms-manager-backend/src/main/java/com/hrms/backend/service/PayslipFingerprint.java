@@ -0,0 +1,73 @@
+package com.hrms.backend.service;
+
+import java.math.BigDecimal;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+
+/**
+ * 64-bit FNV-1a hash of everything a payslip is computed from: salary, department, attendance counts,
+ * approved leave days, bonus total, the rule set's rates and the month's working days. A payslip whose stored
+ * fingerprint matches the current one would be rewritten with identical figures, so a re-run can skip it.
+ * Amounts are hashed by value (1.0 and 1.00 agree).
+ */
+final class PayslipFingerprint {
+
+    // Bump whenever the payslip calculation changes, so the next run rewrites every payslip
+    static final int CALCULATION_VERSION = 1;
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    private PayslipFingerprint() {
+    }
+
+    static long of(Employee employee, PayrollMonthInputs inputs, BigDecimal taxPercentage, BigDecimal pfPercentage,
+                   Integer standardWorkingDaysPerMonth, int workingDaysInMonth) {
+        Long employeeId = employee.getId();
+        PayslipFingerprint fingerprint = new PayslipFingerprint();
+        fingerprint.add(CALCULATION_VERSION);
+        fingerprint.add(employee.getSalary() == null ? Long.MIN_VALUE : Double.doubleToLongBits(employee.getSalary()));
+        fingerprint.add(employee.getDepartment());
+        fingerprint.add(inputs.getDaysWithStatus(employeeId, AttendanceStatus.PRESENT));
+        fingerprint.add(inputs.getDaysWithStatus(employeeId, AttendanceStatus.ABSENT));
+        fingerprint.add(inputs.getDaysWithStatus(employeeId, AttendanceStatus.HALF_DAY));
+        fingerprint.add(inputs.getApprovedLeaveDays(employeeId));
+        fingerprint.add(inputs.getBonusTotal(employeeId));
+        fingerprint.add(taxPercentage);
+        fingerprint.add(pfPercentage);
+        fingerprint.add(standardWorkingDaysPerMonth == null ? Long.MIN_VALUE : standardWorkingDaysPerMonth);
+        fingerprint.add(workingDaysInMonth);
+        return fingerprint.hash;
+    }
+
+    private void add(long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= PRIME;
+        }
+    }
+
+    private void add(String value) {
+        if (value == null) {
+            add(-1L);
+            return;
+        }
+        add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            add(value.charAt(i));
+        }
+    }
+
+    private void add(BigDecimal value) {
+        if (value == null) {
+            add(Long.MIN_VALUE);
+            return;
+        }
+        BigDecimal normalized = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+        add(normalized.scale());
+        add(normalized.unscaledValue().toString());
+    }
+}
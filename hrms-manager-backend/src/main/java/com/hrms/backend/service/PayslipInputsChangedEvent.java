@@ -0,0 +1,46 @@
+package com.hrms.backend.service;
+
+import java.util.Objects;
+
+/**
+ * Published when attendance, leave or bonus data of an employee-month changes. Instances are equal per
+ * (employee, month, year), which is what the recomputer coalesces on.
+ */
+public class PayslipInputsChangedEvent {
+
+    private final Long employeeId;
+    private final Integer month;
+    private final Integer year;
+
+    public PayslipInputsChangedEvent(Long employeeId, Integer month, Integer year) {
+        this.employeeId = employeeId;
+        this.month = month;
+        this.year = year;
+    }
+
+    public Long getEmployeeId() { return employeeId; }
+    public Integer getMonth() { return month; }
+    public Integer getYear() { return year; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PayslipInputsChangedEvent)) {
+            return false;
+        }
+        PayslipInputsChangedEvent other = (PayslipInputsChangedEvent) o;
+        return Objects.equals(employeeId, other.employeeId) && Objects.equals(month, other.month) && Objects.equals(year, other.year);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(employeeId, month, year);
+    }
+
+    @Override
+    public String toString() {
+        return "employee " + employeeId + " " + month + "-" + year;
+    }
+}
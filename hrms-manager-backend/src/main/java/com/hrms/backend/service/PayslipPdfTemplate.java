@@ -0,0 +1,196 @@
+package com.hrms.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.hrms.backend.repository.PayslipRepository.PayslipExportRow;
+
+/**
+ * Single-page payslip PDF. The layout is compiled once: every line becomes pre-encoded PDF bytes with slots
+ * for its placeholders, and the objects that never change (catalog, page, fonts) are encoded with their xref
+ * offsets up front. Rendering a payslip only fills the slots and appends the content stream and xref table.
+ * Uses the standard Helvetica fonts, so no font is embedded and no PDF library is needed.
+ */
+final class PayslipPdfTemplate {
+
+    private static final DateTimeFormatter GENERATED_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // Line layout: font (F1 regular, F2 bold), size, x, y, text with {placeholders}
+    private static final Object[][] LAYOUT = {
+            {"F2", 18, 50, 780, "Payslip"},
+            {"F1", 11, 50, 758, "{period}"},
+            {"F2", 11, 50, 720, "Employee"},
+            {"F1", 10, 50, 702, "Name: {employeeName}"},
+            {"F1", 10, 50, 688, "Employee ID: {employeeIdNumber}"},
+            {"F2", 11, 50, 656, "Attendance"},
+            {"F1", 10, 50, 638, "Working days in month: {totalWorkingDaysInMonth}"},
+            {"F1", 10, 50, 624, "Days present: {daysPresent}"},
+            {"F1", 10, 50, 610, "Days absent: {daysAbsent}"},
+            {"F1", 10, 50, 596, "Half days: {daysHalfDay}"},
+            {"F1", 10, 50, 582, "Days on approved leave: {daysOnApprovedLeave}"},
+            {"F2", 11, 50, 550, "Earnings"},
+            {"F1", 10, 50, 532, "Base monthly salary: {baseMonthlySalary}"},
+            {"F1", 10, 50, 518, "Bonus: {bonusAmount}"},
+            {"F1", 10, 50, 504, "Gross salary: {grossSalary}"},
+            {"F2", 11, 50, 472, "Deductions"},
+            {"F1", 10, 50, 454, "Attendance deduction: {attendanceDeduction}"},
+            {"F1", 10, 50, 440, "Tax: {taxDeduction}"},
+            {"F1", 10, 50, 426, "Provident fund: {pfDeduction}"},
+            {"F1", 10, 50, 412, "Other deductions: {otherDeductions}"},
+            {"F2", 12, 50, 378, "Net salary: {netSalary}"},
+            {"F1", 8, 50, 60, "Payslip #{id}, generated {generationDate} by {generatedBy}"},
+    };
+
+    private static final Map<String, Function<PayslipExportRow, String>> PLACEHOLDERS = Map.ofEntries(
+            Map.entry("id", row -> String.valueOf(row.getId())),
+            Map.entry("period", row -> Month.of(row.getPayPeriodMonth()).getDisplayName(TextStyle.FULL, Locale.ENGLISH)
+                    + " " + row.getPayPeriodYear()),
+            Map.entry("employeeName", row -> row.getFirstName() + " " + row.getLastName()),
+            Map.entry("employeeIdNumber", PayslipExportRow::getEmployeeIdNumber),
+            Map.entry("totalWorkingDaysInMonth", row -> String.valueOf(row.getTotalWorkingDaysInMonth())),
+            Map.entry("daysPresent", row -> String.valueOf(row.getDaysPresent())),
+            Map.entry("daysAbsent", row -> String.valueOf(row.getDaysAbsent())),
+            Map.entry("daysHalfDay", row -> String.valueOf(row.getDaysHalfDay())),
+            Map.entry("daysOnApprovedLeave", row -> String.valueOf(row.getDaysOnApprovedLeave())),
+            Map.entry("baseMonthlySalary", row -> amount(row.getBaseMonthlySalary())),
+            Map.entry("bonusAmount", row -> amount(row.getBonusAmount())),
+            Map.entry("grossSalary", row -> amount(row.getGrossSalary())),
+            Map.entry("attendanceDeduction", row -> amount(row.getAttendanceDeduction())),
+            Map.entry("taxDeduction", row -> amount(row.getTaxDeduction())),
+            Map.entry("pfDeduction", row -> amount(row.getPfDeduction())),
+            Map.entry("otherDeductions", row -> amount(row.getOtherDeductions())),
+            Map.entry("netSalary", row -> amount(row.getNetSalary())),
+            Map.entry("generationDate", row -> generated(row.getGenerationDate())),
+            Map.entry("generatedBy", PayslipExportRow::getGeneratedBy));
+
+    // Objects 1-5; the content stream is object 6
+    private static final String[] STATIC_OBJECTS = {
+            "<< /Type /Catalog /Pages 2 0 R >>",
+            "<< /Type /Pages /Kids [3 0 R] /Count 1 >>",
+            "<< /Type /Page /Parent 2 0 R /MediaBox [0 0 595 842] /Resources << /Font << /F1 4 0 R /F2 5 0 R >> >> /Contents 6 0 R >>",
+            "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>",
+            "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica-Bold /Encoding /WinAnsiEncoding >>",
+    };
+
+    private final List<Object[]> lines; // Per line: byte[] literals and Function slots, in order
+    private final byte[] header; // File header and the static objects
+    private final int[] staticOffsets;
+
+    private PayslipPdfTemplate(List<Object[]> lines, byte[] header, int[] staticOffsets) {
+        this.lines = lines;
+        this.header = header;
+        this.staticOffsets = staticOffsets;
+    }
+
+    static PayslipPdfTemplate compile() {
+        List<Object[]> lines = new ArrayList<>(LAYOUT.length);
+        for (Object[] line : LAYOUT) {
+            List<Object> parts = new ArrayList<>();
+            StringBuilder literal = new StringBuilder(String.format("BT /%s %d Tf %d %d Td (", line[0], line[1], line[2], line[3]));
+            String text = (String) line[4];
+            int position = 0;
+            while (position < text.length()) {
+                int open = text.indexOf('{', position);
+                if (open < 0) {
+                    literal.append(escape(text.substring(position)));
+                    break;
+                }
+                int close = text.indexOf('}', open);
+                String name = text.substring(open + 1, close);
+                Function<PayslipExportRow, String> placeholder = PLACEHOLDERS.get(name);
+                if (placeholder == null) {
+                    throw new IllegalStateException("Unknown payslip template placeholder: " + name);
+                }
+                literal.append(escape(text.substring(position, open)));
+                parts.add(literal.toString().getBytes(StandardCharsets.ISO_8859_1));
+                parts.add(placeholder);
+                literal.setLength(0);
+                position = close + 1;
+            }
+            literal.append(") Tj ET\n");
+            parts.add(literal.toString().getBytes(StandardCharsets.ISO_8859_1));
+            lines.add(parts.toArray());
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        write(header, "%PDF-1.4\n");
+        header.write(new byte[] {'%', (byte) 0xE2, (byte) 0xE3, (byte) 0xCF, (byte) 0xD3, '\n'}, 0, 6); // Marks the file as binary
+        int[] offsets = new int[STATIC_OBJECTS.length];
+        for (int i = 0; i < STATIC_OBJECTS.length; i++) {
+            offsets[i] = header.size();
+            write(header, (i + 1) + " 0 obj\n" + STATIC_OBJECTS[i] + "\nendobj\n");
+        }
+        return new PayslipPdfTemplate(lines, header.toByteArray(), offsets);
+    }
+
+    @SuppressWarnings("unchecked")
+    byte[] render(PayslipExportRow row) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(2048);
+        for (Object[] line : lines) {
+            for (Object part : line) {
+                if (part instanceof byte[]) {
+                    content.write((byte[]) part, 0, ((byte[]) part).length);
+                } else {
+                    String value = ((Function<PayslipExportRow, String>) part).apply(row);
+                    write(content, escape(value == null ? "" : value));
+                }
+            }
+        }
+
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream(header.length + content.size() + 512);
+        pdf.write(header, 0, header.length);
+        int contentOffset = pdf.size();
+        write(pdf, "6 0 obj\n<< /Length " + content.size() + " >>\nstream\n");
+        pdf.write(content.toByteArray(), 0, content.size());
+        write(pdf, "\nendstream\nendobj\n");
+
+        int xrefOffset = pdf.size();
+        StringBuilder xref = new StringBuilder("xref\n0 7\n0000000000 65535 f \n");
+        for (int offset : staticOffsets) {
+            xref.append(String.format("%010d 00000 n \n", offset));
+        }
+        xref.append(String.format("%010d 00000 n \n", contentOffset));
+        xref.append("trailer\n<< /Size 7 /Root 1 0 R >>\nstartxref\n").append(xrefOffset).append("\n%%EOF\n");
+        write(pdf, xref.toString());
+        return pdf.toByteArray();
+    }
+
+    // PDF string literal escaping; characters outside Latin-1 are replaced
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20 || c > 0xFF) {
+                escaped.append('?');
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String amount(BigDecimal value) {
+        return value == null ? "0.00" : value.toPlainString();
+    }
+
+    private static String generated(LocalDateTime generationDate) {
+        return generationDate == null ? "" : GENERATED_FORMAT.format(generationDate);
+    }
+}
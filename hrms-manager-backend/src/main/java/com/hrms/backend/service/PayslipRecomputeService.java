@@ -0,0 +1,179 @@
+package com.hrms.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hrms.backend.repository.PayslipRepository;
+
+/**
+ * Keeps generated payslips in line with later attendance, leave and bonus changes without recalculating
+ * inside the admin's request. The change marks the payslip dirty in its own transaction and publishes an
+ * event; after commit the employee-month is queued, and a scheduled drain recalculates each queued
+ * employee-month once no matter how many changes hit it in between, then rebuilds the summary of every month it
+ * recalculated once. A recalculation that fails is retried with exponential backoff up to a few attempts; after
+ * that the payslip stays dirty until the next restart sweep or the next change to its inputs.
+ */
+@Service
+public class PayslipRecomputeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipRecomputeService.class);
+
+    // Doubles after every failed attempt
+    private static final long RETRY_BACKOFF_MILLIS = 10_000;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayrollMonthSummaryService payrollMonthSummaryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${hrms.payroll.recompute-max-attempts:5}")
+    private int maxAttempts;
+
+    private final Set<PayslipInputsChangedEvent> pending = ConcurrentHashMap.newKeySet();
+    private final Map<PayslipInputsChangedEvent, FailedRecompute> failed = new ConcurrentHashMap<>();
+    private final Set<YearMonth> staleSummaries = ConcurrentHashMap.newKeySet(); // Recalculated since their last rebuild
+
+    /**
+     * Marks the payslip of the employee-month dirty and schedules its recalculation after commit.
+     * Must be called inside the transaction that changes the input.
+     */
+    public void markDirty(Long employeeId, Integer month, Integer year) {
+        payslipRepository.markDirty(employeeId, month, year);
+        eventPublisher.publishEvent(new PayslipInputsChangedEvent(employeeId, month, year));
+    }
+
+    /**
+     * Bulk version for many employees of one month, e.g. after a bonus import: one update per thousand employees,
+     * and each employee-month is still recalculated once.
+     * @return the number of generated payslips flagged.
+     */
+    public int markDirty(Integer month, Integer year, Collection<Long> employeeIds) {
+        int flagged = 0;
+        for (List<Long> batch : Partitions.partition(new ArrayList<>(employeeIds), 1000)) {
+            flagged += payslipRepository.markDirty(month, year, batch);
+        }
+        employeeIds.forEach(employeeId -> eventPublisher.publishEvent(new PayslipInputsChangedEvent(employeeId, month, year)));
+        return flagged;
+    }
+
+    public void markDirty(Long employeeId, LocalDate date) {
+        markDirty(employeeId, date.getMonthValue(), date.getYear());
+    }
+
+    // Every month touched by [start, end], e.g. for an approved leave spanning a month end
+    public void markDirty(Long employeeId, LocalDate start, LocalDate end) {
+        for (YearMonth ym = YearMonth.from(start); !ym.isAfter(YearMonth.from(end)); ym = ym.plusMonths(1)) {
+            markDirty(employeeId, ym.getMonthValue(), ym.getYear());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInputsChanged(PayslipInputsChangedEvent event) {
+        pending.add(event);
+    }
+
+    // Dirty flags survive a restart even though the in-memory queue does not
+    @EventListener(ApplicationReadyEvent.class)
+    public void requeueDirtyPayslips() {
+        payslipRepository.findDirtyKeys()
+                .forEach(key -> pending.add(new PayslipInputsChangedEvent(key.getEmployeeId(), key.getMonth(), key.getYear())));
+        if (!pending.isEmpty()) {
+            logger.info("Re-queued {} dirty payslips for recalculation.", pending.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hrms.payroll.recompute-delay-ms:2000}")
+    public void drainPending() {
+        long now = System.currentTimeMillis();
+        failed.forEach((key, failure) -> {
+            if (failure.retryAt <= now) {
+                pending.add(key);
+            }
+        });
+        if (pending.isEmpty()) {
+            rebuildStaleSummaries();
+            return;
+        }
+        List<PayslipInputsChangedEvent> batch = new ArrayList<>(pending);
+        // Remove before recalculating: a change committed meanwhile re-adds its key and is picked up next time
+        pending.removeAll(batch);
+
+        int recalculated = 0;
+        for (PayslipInputsChangedEvent key : batch) {
+            try {
+                if (payrollService.recalculateExistingPayslip(key.getEmployeeId(), key.getMonth(), key.getYear())) {
+                    recalculated++;
+                    staleSummaries.add(YearMonth.of(key.getYear(), key.getMonth()));
+                }
+                failed.remove(key);
+            } catch (RuntimeException e) {
+                retryLater(key, e);
+            }
+        }
+        logger.info("Payslip recomputation: {} employee-months queued, {} payslips recalculated.", batch.size(), recalculated);
+        rebuildStaleSummaries();
+    }
+
+    // A month whose rebuild fails stays stale and is tried again on the next drain
+    private void rebuildStaleSummaries() {
+        for (YearMonth month : new ArrayList<>(staleSummaries)) {
+            try {
+                payrollMonthSummaryService.rebuildMonth(month.getMonthValue(), month.getYear());
+                staleSummaries.remove(month);
+            } catch (RuntimeException e) {
+                logger.warn("Could not rebuild the payroll summary for {}, will retry: {}", month, e.getMessage());
+            }
+        }
+    }
+
+    // The payslip is still dirty: it is retried after a backoff, and once the attempts run out it is left to the
+    // restart sweep, or to the next change to its inputs, which starts counting again
+    private void retryLater(PayslipInputsChangedEvent key, RuntimeException e) {
+        FailedRecompute previous = failed.get(key);
+        int attempts = previous == null ? 1 : previous.attempts + 1;
+        if (attempts >= maxAttempts) {
+            failed.remove(key);
+            logger.error("Failed to recalculate payslip for {} after {} attempts, giving up until the next restart: {}",
+                    key, attempts, e.getMessage(), e);
+            return;
+        }
+        long backoff = RETRY_BACKOFF_MILLIS << (attempts - 1);
+        failed.put(key, new FailedRecompute(attempts, System.currentTimeMillis() + backoff));
+        logger.warn("Failed to recalculate payslip for {} (attempt {}), retrying in {} ms: {}", key, attempts, backoff, e.getMessage());
+    }
+
+    private static final class FailedRecompute {
+        private final int attempts;
+        private final long retryAt; // Epoch millis
+
+        FailedRecompute(int attempts, long retryAt) {
+            this.attempts = attempts;
+            this.retryAt = retryAt;
+        }
+    }
+}
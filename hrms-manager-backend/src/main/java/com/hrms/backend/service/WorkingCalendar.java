@@ -0,0 +1,104 @@
+package com.hrms.backend.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hrms.backend.entity.Holiday;
+import com.hrms.backend.repository.HolidayRepository;
+
+/**
+ * Shared working-day calendar: weekdays minus the holidays in the holiday table.
+ * Each month is computed once into a bitmask (bit d-1 set when day d is a working day) and cached,
+ * so counting the working days of a month or of any interval is a mask and a bit count.
+ * HolidayService evicts a month whenever one of its holidays changes.
+ */
+@Component
+public class WorkingCalendar {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkingCalendar.class);
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    private final Map<YearMonth, Integer> workingDayMasks = new ConcurrentHashMap<>();
+
+    public int workingDayMask(YearMonth yearMonth) {
+        return workingDayMasks.computeIfAbsent(yearMonth, this::computeMask);
+    }
+
+    public int countWorkingDays(YearMonth yearMonth) {
+        return Integer.bitCount(workingDayMask(yearMonth));
+    }
+
+    // Working days of [start, end], both inclusive; 0 when end is before start
+    public int countWorkingDays(LocalDate start, LocalDate end) {
+        int days = 0;
+        for (YearMonth ym = YearMonth.from(start); !ym.isAfter(YearMonth.from(end)); ym = ym.plusMonths(1)) {
+            int fromDay = ym.equals(YearMonth.from(start)) ? start.getDayOfMonth() : 1;
+            int toDay = ym.equals(YearMonth.from(end)) ? end.getDayOfMonth() : ym.lengthOfMonth();
+            days += Integer.bitCount(workingDayMask(ym) & dayRangeMask(fromDay, toDay));
+        }
+        return days;
+    }
+
+    // Working days of [start, end] that fall inside the given month
+    public int countWorkingDaysWithin(LocalDate start, LocalDate end, YearMonth yearMonth) {
+        LocalDate from = start.isBefore(yearMonth.atDay(1)) ? yearMonth.atDay(1) : start;
+        LocalDate to = end.isAfter(yearMonth.atEndOfMonth()) ? yearMonth.atEndOfMonth() : end;
+        if (to.isBefore(from)) {
+            return 0;
+        }
+        return Integer.bitCount(workingDayMask(yearMonth) & dayRangeMask(from.getDayOfMonth(), to.getDayOfMonth()));
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return (workingDayMask(YearMonth.from(date)) & (1 << (date.getDayOfMonth() - 1))) != 0;
+    }
+
+    // Evicts once the current transaction commits, so a concurrent reader cannot re-cache the old holidays
+    public void evict(YearMonth yearMonth) {
+        workingDayMasks.remove(yearMonth);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    workingDayMasks.remove(yearMonth);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        workingDayMasks.clear();
+    }
+
+    private int computeMask(YearMonth yearMonth) {
+        int mask = 0;
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            DayOfWeek dayOfWeek = yearMonth.atDay(day).getDayOfWeek();
+            if (dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY) {
+                mask |= 1 << (day - 1);
+            }
+        }
+        for (Holiday holiday : holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(yearMonth.atDay(1), yearMonth.atEndOfMonth())) {
+            mask &= ~(1 << (holiday.getHolidayDate().getDayOfMonth() - 1));
+        }
+        logger.debug("Working-day mask computed for {}: {} working days.", yearMonth, Integer.bitCount(mask));
+        return mask;
+    }
+
+    // Bits fromDay-1 .. toDay-1
+    private static int dayRangeMask(int fromDay, int toDay) {
+        return (int) (((1L << toDay) - 1) & ~((1L << (fromDay - 1)) - 1));
+    }
+}
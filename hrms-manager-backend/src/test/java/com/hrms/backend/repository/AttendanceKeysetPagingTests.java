@@ -0,0 +1,75 @@
+package com.hrms.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AttendanceKeysetPagingTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Repeated first names, so pages also break between rows that only the id orders
+        String[] firstNames = {"Asha", "Ravi", "Asha", "Meera", "Ravi"};
+        for (int n = 0; n < firstNames.length; n++) {
+            User user = entityManager.persist(new User("keyset-" + n, "secret", Role.EMPLOYEE));
+            Employee employee = entityManager.persist(new Employee(user, "KS" + n, firstNames[n], "Last" + n,
+                    "keyset-" + n + "@hrms.test", "Engineering", "Engineer", 600000.0, LocalDate.of(2024, 1, 1)));
+            for (int day = 1; day <= 4; day++) {
+                entityManager.persist(new Attendance(employee, LocalDate.of(2025, 7, day), AttendanceStatus.PRESENT, null,
+                        LocalDateTime.now()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void walkingThePagesVisitsEveryRecordOnceInListingOrder() {
+        List<Long> expected = attendanceRepository.findAll().stream()
+                .sorted(Comparator.comparing(Attendance::getAttendanceDate).reversed()
+                        .thenComparing(a -> a.getEmployee().getFirstName())
+                        .thenComparing(Attendance::getId))
+                .map(Attendance::getId)
+                .collect(Collectors.toList());
+
+        List<Long> visited = new ArrayList<>();
+        List<Attendance> page = attendanceRepository.findFirstPage(Limit.of(3));
+        while (!page.isEmpty()) {
+            page.forEach(a -> visited.add(a.getId()));
+            Attendance last = page.get(page.size() - 1);
+            page = attendanceRepository.findPageAfter(last.getAttendanceDate(), last.getEmployee().getFirstName(),
+                    last.getId(), Limit.of(3));
+        }
+
+        assertThat(visited).hasSize(20).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,124 @@
+package com.hrms.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hrms.backend.entity.Bonus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Bonus lookups of the payroll paths: loading the entities and summing in Java against the SUM projections,
+ * with the composite indexes and (dropped inside the transaction) without them. Needs a disposable PostgreSQL
+ * database and is skipped otherwise, e.g.:
+ * <pre>
+ * mvn test -Dtest=BonusLookupBenchmark -Dhrms.benchmark=true \
+ *     -Dspring.datasource.url=jdbc:postgresql://localhost:5432/hrms_bench -Dspring.datasource.username=... \
+ *     -Dspring.datasource.password=... -Dhrms.benchmark.employees=20000
+ * </pre>
+ * Everything runs in one rolled back test transaction, including the DROP INDEX.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "hrms.benchmark", matches = "true")
+class BonusLookupBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BonusLookupBenchmark.class);
+
+    private static final int MONTH = 6;
+    private static final int YEAR = 2099;
+    private static final int LOOKUPS = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BonusRepository bonusRepository;
+
+    @Test
+    void compareBonusLookups() {
+        int employeeCount = Integer.getInteger("hrms.benchmark.employees", 20_000);
+        List<Long> employeeIds = seed(employeeCount);
+        List<Long> sample = employeeIds.subList(0, Math.min(LOOKUPS, employeeIds.size()));
+
+        long start = System.nanoTime();
+        BigDecimal loaded = BigDecimal.ZERO;
+        for (Long employeeId : sample) {
+            List<Bonus> bonuses = bonusRepository.findByEmployeeIdAndMonthAndYear(employeeId, MONTH, YEAR);
+            loaded = loaded.add(bonuses.stream().map(Bonus::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add));
+            entityManager.clear();
+        }
+        long entityNanos = System.nanoTime() - start;
+
+        long projectionNanos = timeSums(sample);
+        long monthNanos = timeMonth();
+        logger.info("Indexed month plan:\n{}", plan());
+
+        jdbcTemplate.execute("DROP INDEX idx_bonuses_employee_period");
+        jdbcTemplate.execute("DROP INDEX idx_bonuses_period_employee");
+        jdbcTemplate.execute("ANALYZE bonuses");
+        long unindexedNanos = timeSums(sample);
+        long unindexedMonthNanos = timeMonth();
+        logger.info("Unindexed month plan:\n{}", plan());
+
+        logger.info("{} single-employee lookups: entities + stream sum {} ms, SUM projection {} ms, without index {} ms",
+                sample.size(), millis(entityNanos), millis(projectionNanos), millis(unindexedNanos));
+        logger.info("Whole-month grouped totals ({} employees): {} ms, without index {} ms",
+                employeeCount, millis(monthNanos), millis(unindexedMonthNanos));
+        assertThat(loaded).isEqualByComparingTo(new BigDecimal("150.00").multiply(BigDecimal.valueOf(sample.size())));
+    }
+
+    private long timeSums(List<Long> employeeIds) {
+        long start = System.nanoTime();
+        BigDecimal total = BigDecimal.ZERO;
+        for (Long employeeId : employeeIds) {
+            total = total.add(bonusRepository.sumAmountByEmployeeIdAndMonthAndYear(employeeId, MONTH, YEAR));
+        }
+        assertThat(total).isEqualByComparingTo(new BigDecimal("150.00").multiply(BigDecimal.valueOf(employeeIds.size())));
+        return System.nanoTime() - start;
+    }
+
+    private long timeMonth() {
+        long start = System.nanoTime();
+        assertThat(bonusRepository.sumAmountGroupedByEmployee(MONTH, YEAR)).isNotEmpty();
+        return System.nanoTime() - start;
+    }
+
+    private String plan() {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN SELECT employee_id, SUM(amount) FROM bonuses "
+                + "WHERE month = " + MONTH + " AND year = " + YEAR + " GROUP BY employee_id", String.class));
+    }
+
+    // A year of two bonuses per month for every employee, so a month is 1/12 of the table
+    private List<Long> seed(int count) {
+        jdbcTemplate.update("INSERT INTO users (username, password, role) "
+                + "SELECT 'bonus-bench-' || g, 'secret', 'EMPLOYEE' FROM generate_series(1, ?) g", count);
+        jdbcTemplate.update("INSERT INTO employees (user_id, employee_id_number, first_name, last_name, email, department, designation, salary, join_date) "
+                + "SELECT u.id, 'BONUS-BENCH-' || u.id, 'Bench', 'Employee', 'bonus-bench' || u.id || '@hrms.test', 'Engineering', 'Engineer', 600000, DATE '2020-01-01' "
+                + "FROM users u WHERE u.username LIKE 'bonus-bench-%'");
+        jdbcTemplate.update("INSERT INTO bonuses (employee_id, amount, month, year, description, added_by, added_date) "
+                + "SELECT e.id, a.amount, m, " + YEAR + ", 'Benchmark', 'Benchmark', now() "
+                + "FROM employees e CROSS JOIN generate_series(1, 12) m CROSS JOIN (VALUES (100.00), (50.00)) a(amount) "
+                + "WHERE e.employee_id_number LIKE 'BONUS-BENCH-%'");
+        jdbcTemplate.execute("ANALYZE bonuses");
+        return jdbcTemplate.queryForList("SELECT id FROM employees WHERE employee_id_number LIKE 'BONUS-BENCH-%' ORDER BY id", Long.class);
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hrms.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hrms.backend.entity.Bonus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+
+// The plans are read for hand-written SQL shaped like the two BonusRepository sum queries (same table, predicates
+// and grouping), since the index choice depends on those; the repository methods themselves are run for their results
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BonusQueryPlanTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BonusRepository bonusRepository;
+
+    private Long firstEmployeeId;
+
+    @BeforeEach
+    void setUp() {
+        for (int n = 0; n < 3; n++) {
+            User user = entityManager.persist(new User("bonus-plan-" + n, "secret", Role.EMPLOYEE));
+            Employee employee = entityManager.persist(new Employee(user, "BP" + n, "First" + n, "Last" + n,
+                    "bonus-plan-" + n + "@hrms.test", "Engineering", "Engineer", 600000.0, LocalDate.of(2024, 1, 1)));
+            if (firstEmployeeId == null) {
+                firstEmployeeId = employee.getId();
+            }
+            for (int month = 1; month <= 12; month++) {
+                entityManager.persist(new Bonus(employee, new BigDecimal("100.00"), month, 2025, "Monthly", "Admin", LocalDateTime.now()));
+                entityManager.persist(new Bonus(employee, new BigDecimal("50.00"), month, 2025, "Spot", "Admin", LocalDateTime.now()));
+            }
+        }
+        entityManager.flush();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void singleEmployeeSumUsesEmployeePeriodIndex() {
+        String plan = explain("SELECT COALESCE(SUM(b.amount), 0) FROM bonuses b "
+                + "WHERE b.employee_id = " + firstEmployeeId + " AND b.month = 7 AND b.year = 2025");
+
+        assertThat(plan).containsIgnoringCase("idx_bonuses_employee_period");
+        assertThat(bonusRepository.sumAmountByEmployeeIdAndMonthAndYear(firstEmployeeId, 7, 2025)).isEqualByComparingTo("150.00");
+        assertThat(bonusRepository.sumAmountByEmployeeIdAndMonthAndYear(firstEmployeeId, 7, 2024)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void wholeMonthTotalsUsePeriodEmployeeIndex() {
+        String plan = explain("SELECT b.employee_id, SUM(b.amount) FROM bonuses b "
+                + "WHERE b.month = 7 AND b.year = 2025 GROUP BY b.employee_id");
+
+        assertThat(plan).containsIgnoringCase("idx_bonuses_period_employee");
+        assertThat(bonusRepository.sumAmountGroupedByEmployee(7, 2025)).hasSize(3)
+                .allSatisfy(total -> assertThat(total.getTotal()).isEqualByComparingTo("150.00"));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.hrms.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Payslip;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Rows per second of the old find-then-save path against the batched upsert, on a synthetic month.
+ * Needs a disposable PostgreSQL database and is skipped otherwise, e.g.:
+ * <pre>
+ * mvn test -Dtest=PayslipBatchWriterBenchmark -Dhrms.benchmark=true \
+ *     -Dspring.datasource.url=jdbc:postgresql://localhost:5432/hrms_bench -Dspring.datasource.username=... \
+ *     -Dspring.datasource.password=... -Dhrms.benchmark.employees=50000
+ * </pre>
+ * Everything runs in one rolled back test transaction.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PayslipBatchWriter.class)
+@EnabledIfSystemProperty(named = "hrms.benchmark", matches = "true")
+class PayslipBatchWriterBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayslipBatchWriterBenchmark.class);
+
+    private static final int MONTH = 1;
+    private static final int YEAR = 2099;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayslipBatchWriter payslipBatchWriter;
+
+    @Test
+    void compareFindThenSaveWithBatchedUpsert() {
+        int employeeCount = Integer.getInteger("hrms.benchmark.employees", 50_000);
+        List<Employee> employees = seedEmployees(employeeCount);
+
+        long start = System.nanoTime();
+        for (Employee employee : employees) {
+            Payslip payslip = payslipRepository.findByEmployeeIdAndPayPeriodMonthAndPayPeriodYear(employee.getId(), MONTH, YEAR)
+                    .orElseGet(Payslip::new);
+            fill(payslip, employee);
+            payslipRepository.save(payslip);
+        }
+        entityManager.flush();
+        long findThenSaveNanos = System.nanoTime() - start;
+
+        entityManager.clear();
+        jdbcTemplate.update("DELETE FROM payslips WHERE pay_period_month = ? AND pay_period_year = ?", MONTH, YEAR);
+
+        start = System.nanoTime();
+        List<Payslip> payslips = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            Payslip payslip = new Payslip();
+            fill(payslip, employee);
+            payslips.add(payslip);
+        }
+        int written = payslipBatchWriter.upsert(payslips);
+        long upsertNanos = System.nanoTime() - start;
+
+        logger.info("find-then-save: {} rows/s, batched upsert: {} rows/s ({} employees)",
+                String.format("%,.0f", employeeCount / (findThenSaveNanos / 1e9)),
+                String.format("%,.0f", employeeCount / (upsertNanos / 1e9)), employeeCount);
+        assertThat(written).isEqualTo(employeeCount);
+    }
+
+    private List<Employee> seedEmployees(int count) {
+        List<Object[]> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new Object[] {"bench-user-" + i, "secret", "EMPLOYEE"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, role) VALUES (?, ?, ?)", users);
+        jdbcTemplate.update("INSERT INTO employees (user_id, employee_id_number, first_name, last_name, email, department, designation, salary, join_date) "
+                + "SELECT u.id, 'BENCH-' || u.id, 'Bench', 'Employee', 'bench' || u.id || '@hrms.test', 'Engineering', 'Engineer', 600000, DATE '2020-01-01' "
+                + "FROM users u WHERE u.username LIKE 'bench-user-%'");
+        return entityManager.createQuery("SELECT e FROM Employee e JOIN FETCH e.user WHERE e.employeeIdNumber LIKE 'BENCH-%'", Employee.class)
+                .getResultList();
+    }
+
+    private static void fill(Payslip payslip, Employee employee) {
+        payslip.setEmployee(employee);
+        payslip.setPayPeriodMonth(MONTH);
+        payslip.setPayPeriodYear(YEAR);
+        payslip.setGrossSalary(new BigDecimal("50000.00"));
+        payslip.setBaseMonthlySalary(new BigDecimal("50000.00"));
+        payslip.setTotalWorkingDaysInMonth(22);
+        payslip.setDaysPresent(20);
+        payslip.setDaysAbsent(1);
+        payslip.setDaysHalfDay(1);
+        payslip.setDaysOnApprovedLeave(0);
+        payslip.setAttendanceDeduction(new BigDecimal("3000.00"));
+        payslip.setTaxDeduction(new BigDecimal("5000.00"));
+        payslip.setPfDeduction(new BigDecimal("6000.00"));
+        payslip.setOtherDeductions(BigDecimal.ZERO);
+        payslip.setBonusAmount(BigDecimal.ZERO);
+        payslip.setNetSalary(new BigDecimal("36000.00"));
+        payslip.setGenerationDate(LocalDateTime.now());
+        payslip.setGeneratedBy("Benchmark");
+    }
+}
@@ -0,0 +1,164 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.hrms.backend.dto.BulkAttendanceMarkReport;
+import com.hrms.backend.dto.BulkAttendanceMarkResult;
+import com.hrms.backend.dto.BulkMarkAttendanceRequest;
+import com.hrms.backend.dto.MarkAttendanceRequest;
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+import com.hrms.backend.repository.AttendanceBatchWriter;
+import com.hrms.backend.repository.AttendanceRepository;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AttendanceService.class, AttendanceBatchWriter.class, AttendanceIndex.class, WorkingCalendar.class})
+@TestPropertySource(properties = "hrms.attendance-bulk.batch-size=2") // Several INSERT statements per request
+class AttendanceBulkMarkingTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 22);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @MockBean
+    private PayslipRecomputeService payslipRecomputeService;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private Long adminUserId;
+
+    @BeforeEach
+    void setUp() {
+        adminUserId = entityManager.persist(new User("bulk-admin", "secret", Role.ADMIN)).getId();
+        for (int n = 0; n < 5; n++) {
+            User user = entityManager.persist(new User("bulk-" + n, "secret", Role.EMPLOYEE));
+            Employee employee = entityManager.persist(new Employee(user, "BK" + n, "First" + n, "Last" + n,
+                    "bulk-" + n + "@hrms.test", n < 4 ? "Engineering" : "Sales", "Engineer", 600000.0, LocalDate.of(2024, 1, 1)));
+            employeeIds.add(employee.getId());
+        }
+        // Employees 3 and 4 are already marked on the date
+        entityManager.persist(new Attendance(entityManager.find(Employee.class, employeeIds.get(3)), DATE,
+                AttendanceStatus.PRESENT, null, LocalDateTime.of(2025, 7, 22, 9, 0)));
+        entityManager.persist(new Attendance(entityManager.find(Employee.class, employeeIds.get(4)), DATE,
+                AttendanceStatus.ABSENT, null, LocalDateTime.of(2025, 7, 22, 9, 0)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void entriesAreCreatedLeftUnchangedSkippedOrRejected() {
+        List<MarkAttendanceRequest> entries = Arrays.asList(
+                entry(employeeIds.get(0), AttendanceStatus.PRESENT),
+                entry(employeeIds.get(1), AttendanceStatus.HALF_DAY),
+                entry(employeeIds.get(2), AttendanceStatus.ON_LEAVE),
+                entry(employeeIds.get(3), AttendanceStatus.PRESENT), // Same status as the existing mark
+                entry(employeeIds.get(4), AttendanceStatus.PRESENT), // Existing mark, no overwrite
+                entry(999_999L, AttendanceStatus.PRESENT),
+                entry(employeeIds.get(0), AttendanceStatus.ABSENT), // Duplicate
+                new MarkAttendanceRequest(employeeIds.get(1), DATE.plusDays(1), AttendanceStatus.PRESENT),
+                entry(employeeIds.get(2), null),
+                null);
+
+        BulkAttendanceMarkReport report = attendanceService.markAttendanceInBulk(
+                new BulkMarkAttendanceRequest(DATE, entries, null, null, false), adminUserId);
+
+        assertThat(report.getCreated()).isEqualTo(3);
+        assertThat(report.getUpdated()).isZero();
+        assertThat(report.getUnchanged()).isEqualTo(1);
+        assertThat(report.getSkipped()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(5);
+        assertThat(report.getResults()).extracting(BulkAttendanceMarkResult::getOutcome).containsExactly(
+                "CREATED", "CREATED", "CREATED", "UNCHANGED", "SKIPPED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "REJECTED");
+
+        entityManager.clear();
+        Map<Long, Attendance> marks = marksOnDate();
+        assertThat(marks).hasSize(5);
+        assertThat(marks.get(employeeIds.get(1)).getStatus()).isEqualTo(AttendanceStatus.HALF_DAY);
+        assertThat(marks.get(employeeIds.get(2)).getStatus()).isEqualTo(AttendanceStatus.ON_LEAVE);
+        assertThat(marks.get(employeeIds.get(4)).getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        // Written without entity callbacks, so the marker and timestamp come from the service
+        Attendance created = marks.get(employeeIds.get(0));
+        assertThat(created.getMarkedBy().getId()).isEqualTo(adminUserId);
+        assertThat(created.getTimestamp()).isNotNull();
+    }
+
+    @Test
+    void overwriteUpdatesExistingMarksInABatch() {
+        List<MarkAttendanceRequest> entries = List.of(
+                entry(employeeIds.get(3), AttendanceStatus.HALF_DAY),
+                entry(employeeIds.get(4), AttendanceStatus.PRESENT),
+                entry(employeeIds.get(0), AttendanceStatus.PRESENT));
+
+        BulkAttendanceMarkReport report = attendanceService.markAttendanceInBulk(
+                new BulkMarkAttendanceRequest(DATE, entries, null, null, true), adminUserId);
+
+        assertThat(report.getResults()).extracting(BulkAttendanceMarkResult::getOutcome)
+                .containsExactly("UPDATED", "UPDATED", "CREATED");
+        assertThat(report.getUpdated()).isEqualTo(2);
+        assertThat(report.getCreated()).isEqualTo(1);
+
+        entityManager.clear();
+        Map<Long, Attendance> marks = marksOnDate();
+        assertThat(marks.get(employeeIds.get(3)).getStatus()).isEqualTo(AttendanceStatus.HALF_DAY);
+        assertThat(marks.get(employeeIds.get(4)).getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(marks.get(employeeIds.get(4)).getMarkedBy().getId()).isEqualTo(adminUserId);
+        assertThat(marks.get(employeeIds.get(4)).getTimestamp()).isAfter(LocalDateTime.of(2025, 7, 22, 9, 0));
+    }
+
+    @Test
+    void departmentMarkingCoversOnlyThatDepartment() {
+        BulkAttendanceMarkReport report = attendanceService.markAttendanceInBulk(
+                new BulkMarkAttendanceRequest(DATE, null, "engineering", AttendanceStatus.ABSENT, false), adminUserId);
+
+        assertThat(report.getCreated()).isEqualTo(3);
+        assertThat(report.getSkipped()).isEqualTo(1); // Employee 3 is marked PRESENT already
+        assertThat(report.getRejected()).isZero();
+
+        entityManager.clear();
+        Map<Long, Attendance> marks = marksOnDate();
+        assertThat(marks).hasSize(5);
+        assertThat(marks.get(employeeIds.get(0)).getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        assertThat(marks.get(employeeIds.get(3)).getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+    }
+
+    private static MarkAttendanceRequest entry(Long employeeId, AttendanceStatus status) {
+        return new MarkAttendanceRequest(employeeId, DATE, status);
+    }
+
+    private Map<Long, Attendance> marksOnDate() {
+        return attendanceRepository.findAll().stream()
+                .filter(attendance -> attendance.getAttendanceDate().equals(DATE))
+                .collect(Collectors.toMap(attendance -> attendance.getEmployee().getId(), Function.identity()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.repository.AttendanceRepository;
+import com.hrms.backend.repository.AttendanceRepository.AttendanceDay;
+
+class AttendanceIndexTests {
+
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    @Test
+    void packedCountsMatchDayByDayCounts() {
+        Random random = new Random(42);
+        for (int run = 0; run < 1000; run++) {
+            long[] words = new long[2];
+            int[] expected = new int[STATUSES.length];
+            for (int day = 1; day <= 31; day++) {
+                int pick = random.nextInt(STATUSES.length + 1); // The extra value leaves the day unmarked
+                AttendanceStatus status = pick == STATUSES.length ? null : STATUSES[pick];
+                AttendanceIndex.setDayCode(words, day, AttendanceIndex.code(status));
+                if (status != null) {
+                    expected[status.ordinal()]++;
+                }
+                assertThat(AttendanceIndex.dayCode(words, day)).isEqualTo(AttendanceIndex.code(status));
+            }
+            assertThat(AttendanceIndex.countByStatus(words[0], words[1])).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void remarkingADayReplacesItsStatus() {
+        AttendanceIndex index = new AttendanceIndex();
+        LocalDate day = LocalDate.of(2025, 7, 22); // First day of the second word
+        index.record(7L, day, AttendanceStatus.ABSENT);
+        index.record(7L, day, AttendanceStatus.PRESENT);
+
+        int[] counts = index.countByStatus(7L, YearMonth.of(2025, 7));
+        assertThat(counts[AttendanceStatus.PRESENT.ordinal()]).isEqualTo(1);
+        assertThat(counts[AttendanceStatus.ABSENT.ordinal()]).isZero();
+        assertThat(index.monthStatuses(7L, YearMonth.of(2025, 7))[21]).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(index.countByStatus(7L, YearMonth.of(2025, 8))).containsOnly(0);
+    }
+
+    @Test
+    void reloadKeepsADayRecordedWhileTheDatabaseWasRead() {
+        AttendanceRepository attendanceRepository = mock(AttendanceRepository.class);
+        AttendanceIndex index = new AttendanceIndex();
+        ReflectionTestUtils.setField(index, "attendanceRepository", attendanceRepository);
+        LocalDate first = LocalDate.of(2025, 7, 1);
+        LocalDate second = LocalDate.of(2025, 7, 2);
+        index.record(7L, first, AttendanceStatus.ABSENT); // Re-marked on another instance since
+        when(attendanceRepository.findDaysByEmployeeIdAndDateBetween(eq(7L), any(), any())).thenAnswer(invocation -> {
+            // Commits after the rows were read, so they miss it
+            index.record(7L, second, AttendanceStatus.PRESENT);
+            return List.of(day(first, AttendanceStatus.ON_LEAVE));
+        });
+
+        AttendanceStatus[] statuses = index.reloadMonthStatuses(7L, YearMonth.of(2025, 7));
+
+        assertThat(statuses[0]).isEqualTo(AttendanceStatus.ON_LEAVE);
+        assertThat(statuses[1]).isEqualTo(AttendanceStatus.PRESENT);
+        assertThat(index.monthStatuses(7L, YearMonth.of(2025, 7))).containsExactly(statuses);
+    }
+
+    @Test
+    void tableKeepsEveryEntryWhileGrowing() {
+        AttendanceIndex.MonthTable table = new AttendanceIndex.MonthTable(16);
+        for (long employeeId = 1; employeeId <= 5000; employeeId++) {
+            table.setDay(AttendanceIndex.key(employeeId, YearMonth.of(2025, 1)), (int) (employeeId % 31) + 1, 1);
+        }
+        assertThat(table.size()).isEqualTo(5000);
+        for (long employeeId = 1; employeeId <= 5000; employeeId++) {
+            long[] words = table.get(AttendanceIndex.key(employeeId, YearMonth.of(2025, 1)));
+            assertThat(AttendanceIndex.dayCode(words, (int) (employeeId % 31) + 1)).isEqualTo(1);
+        }
+    }
+
+    private static AttendanceDay day(LocalDate date, AttendanceStatus status) {
+        return new AttendanceDay() {
+            @Override
+            public Long getEmployeeId() { return 7L; }
+            @Override
+            public LocalDate getAttendanceDate() { return date; }
+            @Override
+            public AttendanceStatus getStatus() { return status; }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hrms.backend.entity.AttendanceStatus;
+
+class AttendanceJournalTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 7, 22);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void acknowledgedMarksAreReplayedAndATornTailIsDropped() throws IOException {
+        Path file = directory.resolve("journal").resolve("self-marks.log");
+        try (AttendanceJournal journal = new AttendanceJournal(file)) {
+            journal.append(entry(1L, AttendanceStatus.PRESENT), () -> {});
+            journal.append(entry(2L, AttendanceStatus.HALF_DAY), () -> {});
+        }
+        // A crash in the middle of the third append
+        Files.write(file, "3,2025-07-22,PRES".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (AttendanceJournal journal = new AttendanceJournal(file)) {
+            List<AttendanceJournal.Entry> replayed = journal.readAll();
+            assertThat(replayed).extracting(AttendanceJournal.Entry::getEmployeeId).containsExactly(1L, 2L);
+            assertThat(replayed.get(1).getStatus()).isEqualTo(AttendanceStatus.HALF_DAY);
+
+            journal.append(entry(4L, AttendanceStatus.PRESENT), () -> {});
+            assertThat(journal.readAll()).extracting(AttendanceJournal.Entry::getEmployeeId).containsExactly(1L, 2L, 4L);
+        }
+    }
+
+    @Test
+    void truncatesOnlyWhenNothingIsPending() throws IOException {
+        Path file = directory.resolve("self-marks.log");
+        try (AttendanceJournal journal = new AttendanceJournal(file)) {
+            journal.append(entry(1L, AttendanceStatus.PRESENT), () -> {});
+
+            assertThat(journal.truncateIf(() -> false)).isFalse();
+            assertThat(journal.readAll()).hasSize(1);
+
+            assertThat(journal.truncateIf(() -> true)).isTrue();
+            assertThat(journal.readAll()).isEmpty();
+            assertThat(Files.size(file)).isZero();
+        }
+    }
+
+    private static AttendanceJournal.Entry entry(Long employeeId, AttendanceStatus status) {
+        return new AttendanceJournal.Entry(employeeId, DAY, status, LocalDateTime.of(2025, 7, 22, 9, 1, 30));
+    }
+}
@@ -0,0 +1,107 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hrms.backend.dto.AttendanceDto;
+import com.hrms.backend.dto.AttendancePageDto;
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+import com.hrms.backend.repository.AttendanceBatchWriter;
+import com.hrms.backend.repository.AttendanceRepository;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AttendanceService.class, AttendanceBatchWriter.class, AttendanceIndex.class, WorkingCalendar.class})
+class AttendancePageTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @MockBean
+    private PayslipRecomputeService payslipRecomputeService;
+
+    @BeforeEach
+    void setUp() {
+        // Repeated first names, so pages also break between rows that only the id orders
+        String[] firstNames = {"Asha", "Ravi", "Asha", "Meera", "Ravi"};
+        for (int n = 0; n < firstNames.length; n++) {
+            User user = entityManager.persist(new User("page-" + n, "secret", Role.EMPLOYEE));
+            Employee employee = entityManager.persist(new Employee(user, "PG" + n, firstNames[n], "Last" + n,
+                    "page-" + n + "@hrms.test", "Engineering", "Engineer", 600000.0, LocalDate.of(2024, 1, 1)));
+            for (int day = 1; day <= 4; day++) {
+                entityManager.persist(new Attendance(employee, LocalDate.of(2025, 7, day), AttendanceStatus.PRESENT, null,
+                        LocalDateTime.now()));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void followingTheCursorReturnsEveryRecordOnceInListingOrder() {
+        List<Long> expected = attendanceRepository.findAll().stream()
+                .sorted(Comparator.comparing(Attendance::getAttendanceDate).reversed()
+                        .thenComparing(a -> a.getEmployee().getFirstName())
+                        .thenComparing(Attendance::getId))
+                .map(Attendance::getId)
+                .collect(Collectors.toList());
+
+        List<Long> visited = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        do {
+            AttendancePageDto page = attendanceService.getAttendancePage(cursor, 3);
+            assertThat(page.getRecords()).hasSizeLessThanOrEqualTo(3);
+            page.getRecords().stream().map(AttendanceDto::getId).forEach(visited::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(7);
+        assertThat(visited).hasSize(20).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void aPageThatEndsTheListingHasNoCursor() {
+        AttendancePageDto page = attendanceService.getAttendancePage(null, 20);
+
+        assertThat(page.getRecords()).hasSize(20);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void malformedCursorsAndSizesAreRejected() {
+        assertThatThrownBy(() -> attendanceService.getAttendancePage("not-a-cursor", 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> attendanceService.getAttendancePage(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
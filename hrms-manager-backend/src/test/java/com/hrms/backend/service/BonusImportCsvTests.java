@@ -0,0 +1,25 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BonusImportCsvTests {
+
+    @Test
+    void parsesQuotedFieldsAndMixedLineEnds() {
+        List<List<String>> records = BonusImportService.parseCsv(
+                "\uFEFFemployeeId,amount,month,year,description\r\n"
+                + "1,2500.00,12,2025,\"Year-end, team A\"\n"
+                + "\n"
+                + "2,100,12,2025,\"Said \"\"thanks\"\"\nand more\"");
+
+        assertThat(records).hasSize(4);
+        assertThat(records.get(0)).containsExactly("employeeId", "amount", "month", "year", "description");
+        assertThat(records.get(1)).containsExactly("1", "2500.00", "12", "2025", "Year-end, team A");
+        assertThat(records.get(2)).containsExactly(""); // Blank line, skipped by the import
+        assertThat(records.get(3)).containsExactly("2", "100", "12", "2025", "Said \"thanks\"\nand more");
+    }
+}
@@ -0,0 +1,41 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ConnectionPoolThrottleTests {
+
+    private static final long INTERVAL = 500_000_000L; // 500 ms in nanoseconds
+
+    @Test
+    void chunkStartsOnlyOnceTheIntervalHasPassedAndThePoolHasRoom() {
+        long last = 1_000_000_000L;
+        assertThat(ConnectionPoolThrottle.mayStart(42L, 0, INTERVAL, 0.5, 0.75)).isTrue(); // First chunk
+        assertThat(ConnectionPoolThrottle.mayStart(last + INTERVAL - 1, last, INTERVAL, 0.5, 0.75)).isFalse();
+        assertThat(ConnectionPoolThrottle.mayStart(last + INTERVAL, last, INTERVAL, 0.5, 0.75)).isTrue();
+        assertThat(ConnectionPoolThrottle.mayStart(last + INTERVAL, last, INTERVAL, 0.75, 0.75)).isTrue();
+        assertThat(ConnectionPoolThrottle.mayStart(last + INTERVAL, last, INTERVAL, 0.76, 0.75)).isFalse();
+        // Requests queueing for a connection report full utilization
+        assertThat(ConnectionPoolThrottle.mayStart(last + INTERVAL, last, INTERVAL, 1, 0.75)).isFalse();
+    }
+
+    @Test
+    void waitingChunkGivesUpWhenTheRunIsCancelled() {
+        ConnectionPoolThrottle throttle = new ConnectionPoolThrottle();
+        ReflectionTestUtils.setField(throttle, "dataSource", mock(DataSource.class)); // Not a Hikari pool
+        ReflectionTestUtils.setField(throttle, "maxPoolUtilization", 0.75);
+        ReflectionTestUtils.setField(throttle, "minChunkIntervalMillis", 60_000L);
+        ReflectionTestUtils.setField(throttle, "pollIntervalMillis", 10L);
+
+        long started = System.nanoTime();
+        throttle.awaitCapacity(() -> false); // The first chunk does not wait
+        throttle.awaitCapacity(() -> true);
+
+        assertThat(System.nanoTime() - started).isLessThan(5_000_000_000L);
+    }
+}
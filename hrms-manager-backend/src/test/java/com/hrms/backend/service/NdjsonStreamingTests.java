@@ -0,0 +1,141 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.PayrollRun;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PayslipExportService.class, PayrollDiffService.class, NdjsonStreamer.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class NdjsonStreamingTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PayslipExportService payslipExportService;
+
+    @Autowired
+    private PayrollDiffService payrollDiffService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Employee> employees = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int n = 0; n < 3; n++) {
+            User user = entityManager.persist(new User("ndjson-" + n, "secret", Role.EMPLOYEE));
+            employees.add(entityManager.persist(new Employee(user, "ND" + n, "First" + n, "Last" + n,
+                    "ndjson-" + n + "@hrms.test", "Engineering", "Engineer", 600000.0, LocalDate.of(2024, 1, 1))));
+        }
+    }
+
+    @Test
+    void exportWritesOnePayslipPerLine() throws IOException {
+        payslip(employees.get(0), 7, "50000.00", null);
+        payslip(employees.get(1), 7, "42000.00", null);
+        payslip(employees.get(2), 8, "39000.00", null);
+        entityManager.flush();
+
+        List<JsonNode> lines = lines(payslipExportService.export(7, 2025, PayslipExportService.FORMAT_NDJSON));
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("employeeName").asText()).isEqualTo("First0 Last0");
+        assertThat(lines.get(0).get("netSalary").decimalValue()).isEqualByComparingTo("50000.00");
+        assertThat(lines.get(1).get("employeeIdNumber").asText()).isEqualTo("ND1");
+    }
+
+    @Test
+    void monthDiffWritesAddedRemovedAndChangedEmployees() throws IOException {
+        payslip(employees.get(0), 7, "50000.00", null);
+        payslip(employees.get(1), 7, "42000.00", null);
+        payslip(employees.get(1), 8, "43000.00", null);
+        payslip(employees.get(2), 8, "39000.00", null);
+        entityManager.flush();
+
+        List<JsonNode> lines = lines(payrollDiffService.diffMonths(YearMonth.of(2025, 7), YearMonth.of(2025, 8)));
+
+        assertThat(lines).extracting(line -> line.get("change").asText()).containsExactly("REMOVED", "CHANGED", "ADDED");
+        JsonNode changed = lines.get(1);
+        assertThat(changed.get("employeeIdNumber").asText()).isEqualTo("ND1");
+        assertThat(changed.get("fields")).hasSize(1);
+        assertThat(changed.get("fields").get(0).get("field").asText()).isEqualTo("netSalary");
+        assertThat(changed.get("fields").get(0).get("delta").decimalValue()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    void runDiffWritesOnlyEmployeesWhoseFiguresChanged() throws IOException {
+        Long first = entityManager.persist(new PayrollRun(7, 2025, "test")).getId();
+        Long second = entityManager.persist(new PayrollRun(7, 2025, "test")).getId();
+        Payslip unchanged = payslip(employees.get(0), 7, "50000.00", first);
+        Payslip rerun = payslip(employees.get(1), 7, "42000.00", first);
+        entityManager.flush();
+        payrollDiffService.snapshotRun(first);
+
+        rerun.setNetSalary(new BigDecimal("41500.00"));
+        unchanged.setPayrollRunId(second);
+        rerun.setPayrollRunId(second);
+        entityManager.flush();
+        payrollDiffService.snapshotRun(second);
+
+        List<JsonNode> lines = lines(payrollDiffService.diffRuns(first, second));
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).get("change").asText()).isEqualTo("CHANGED");
+        assertThat(lines.get(0).get("employeeId").asLong()).isEqualTo(employees.get(1).getId());
+        assertThat(lines.get(0).get("fields").get(0).get("delta").decimalValue()).isEqualByComparingTo("-500.00");
+    }
+
+    private Payslip payslip(Employee employee, int month, String netSalary, Long runId) {
+        BigDecimal net = new BigDecimal(netSalary);
+        Payslip payslip = new Payslip(employee, month, 2025, new BigDecimal("50000.00"), new BigDecimal("50000.00"), 22, 22,
+                0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, net,
+                LocalDateTime.of(2025, month, 28, 10, 0), "test");
+        payslip.setPayrollRunId(runId);
+        return entityManager.persist(payslip);
+    }
+
+    private List<JsonNode> lines(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
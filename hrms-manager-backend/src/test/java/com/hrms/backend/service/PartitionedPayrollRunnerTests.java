@@ -0,0 +1,193 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hrms.backend.config.PayrollConfig;
+import com.hrms.backend.dto.PayrollChunkFailure;
+import com.hrms.backend.dto.PayrollRunReport;
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Bonus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.LeaveApplication;
+import com.hrms.backend.entity.LeaveStatus;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+import com.hrms.backend.repository.AttendanceRepository;
+import com.hrms.backend.repository.BonusRepository;
+import com.hrms.backend.repository.EmployeeRepository;
+import com.hrms.backend.repository.LeaveApplicationRepository;
+import com.hrms.backend.repository.PayrollMonthSummaryRepository;
+import com.hrms.backend.repository.PayslipBatchWriter;
+import com.hrms.backend.repository.PayslipRepository;
+import com.hrms.backend.repository.PayslipYtdWriter;
+import com.hrms.backend.repository.UserRepository;
+
+// Chunks commit on the payroll executor's threads, so the data is committed rather than rolled back per test
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PartitionedPayrollRunner.class, PayrollService.class, PayslipBatchWriter.class, WorkingCalendar.class,
+        PayrollRuleSetService.class, PayrollMonthSummaryService.class, PayslipYtdWriter.class, AttendanceIndex.class,
+        PayrollConfig.class})
+@TestPropertySource(properties = {"hrms.payroll.chunk-size=2", "hrms.payroll.parallelism=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionedPayrollRunnerTests {
+
+    private static final int MONTH = 7;
+    private static final int YEAR = 2025;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PartitionedPayrollRunner partitionedPayrollRunner;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private PayrollMonthSummaryService payrollMonthSummaryService;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private PayrollMonthSummaryRepository summaryRepository;
+
+    @Autowired
+    private BonusRepository bonusRepository;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private LeaveApplicationRepository leaveApplicationRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        payslipRepository.deleteAllInBatch();
+        summaryRepository.deleteAllInBatch();
+        bonusRepository.deleteAllInBatch();
+        attendanceRepository.deleteAllInBatch();
+        leaveApplicationRepository.deleteAllInBatch();
+        employeeRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void chunkedRunWritesTheSamePayslipsAsOneTransactionOverTheMonth() {
+        seedEmployees(5, -1);
+
+        PayrollRunReport report = partitionedPayrollRunner.run(MONTH, YEAR);
+        assertThat(report.getFailedChunks()).isEmpty();
+        assertThat(report.getChunkCount()).isEqualTo(3);
+        assertThat(report.getProcessedEmployees()).isEqualTo(5);
+        Map<Long, Payslip> chunked = payslipsByEmployee();
+
+        payslipRepository.deleteAllInBatch();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> payrollService.processChunk(
+                employeeRepository.findAllWithUser(), payrollService.loadMonthInputs(YearMonth.of(YEAR, MONTH)), null));
+        Map<Long, Payslip> single = payslipsByEmployee();
+
+        assertThat(chunked).hasSize(5);
+        assertThat(chunked.keySet()).isEqualTo(single.keySet());
+        chunked.forEach((employeeId, payslip) -> assertThat(payslip)
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .ignoringFields("id", "employee", "generationDate")
+                .isEqualTo(single.get(employeeId)));
+    }
+
+    @Test
+    void failingChunkRollsBackAloneAndIsReported() {
+        // The fourth employee's department is too long for the payslip column, so the second chunk fails on insert
+        List<Long> ids = seedEmployees(5, 3);
+
+        PayrollRunReport report = partitionedPayrollRunner.run(MONTH, YEAR);
+
+        assertThat(report.getChunkCount()).isEqualTo(3);
+        assertThat(report.getProcessedEmployees()).isEqualTo(3);
+        assertThat(report.getFailedChunks()).hasSize(1);
+        PayrollChunkFailure failure = report.getFailedChunks().get(0);
+        assertThat(failure.getChunkIndex()).isEqualTo(1);
+        assertThat(failure.getFirstEmployeeId()).isEqualTo(ids.get(2));
+        assertThat(failure.getLastEmployeeId()).isEqualTo(ids.get(3));
+        assertThat(failure.getEmployeeCount()).isEqualTo(2);
+        assertThat(failure.getError()).isNotBlank();
+
+        // The third employee's payslip was inserted before the failure and rolled back with its chunk
+        assertThat(payslipsByEmployee().keySet()).containsExactlyInAnyOrder(ids.get(0), ids.get(1), ids.get(4));
+        assertThat(payrollMonthSummaryService.getMonthSummary(MONTH, YEAR).getTotals().getEmployeeCount()).isEqualTo(3);
+    }
+
+    private Map<Long, Payslip> payslipsByEmployee() {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                payslipRepository.findByPayPeriodMonthAndPayPeriodYear(MONTH, YEAR).stream()
+                        .collect(Collectors.toMap(p -> p.getEmployee().getId(), Function.identity())));
+    }
+
+    // Employees with differing attendance, leave and bonuses; the one at badIndex gets an over-long department
+    private List<Long> seedEmployees(int count, int badIndex) {
+        List<Long> ids = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int n = 0; n < count; n++) {
+                User user = entityManager.persist(new User("runner-" + n, "secret", Role.EMPLOYEE));
+                String department = n == badIndex ? "D".repeat(150) : (n % 2 == 0 ? "Engineering" : "Sales");
+                Employee employee = entityManager.persist(new Employee(user, "RUN" + n, "First" + n, "Last" + n,
+                        "runner-" + n + "@hrms.test", department, "Engineer", 600000.0 + n * 1000, LocalDate.of(2024, 1, 1)));
+                ids.add(employee.getId());
+
+                for (int day = 1; day <= n + 1; day++) {
+                    entityManager.persist(new Attendance(employee, LocalDate.of(YEAR, MONTH, day), AttendanceStatus.PRESENT,
+                            null, LocalDateTime.now()));
+                }
+                entityManager.persist(new Attendance(employee, LocalDate.of(YEAR, MONTH, 10),
+                        n % 2 == 0 ? AttendanceStatus.ABSENT : AttendanceStatus.HALF_DAY, null, LocalDateTime.now()));
+                if (n % 2 == 1) {
+                    entityManager.persist(new LeaveApplication(employee, LocalDate.of(YEAR, MONTH, 28), LocalDate.of(YEAR, MONTH + 1, 4),
+                            "Vacation", LeaveStatus.APPROVED, LocalDate.of(YEAR, MONTH, 1)));
+                }
+                if (n > 0) {
+                    entityManager.persist(new Bonus(employee, new BigDecimal(n * 250 + ".00"), MONTH, YEAR, "Spot award", "Admin",
+                            LocalDateTime.now()));
+                }
+            }
+        });
+        return ids;
+    }
+}
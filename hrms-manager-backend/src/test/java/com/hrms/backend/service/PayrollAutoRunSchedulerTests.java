@@ -0,0 +1,39 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PayrollAutoRunSchedulerTests {
+
+    // 00:30 on 1 August in Kolkata, while it is still 31 July in UTC
+    private static final Instant FIRST_OF_AUGUST_IN_KOLKATA = Instant.parse("2025-07-31T19:00:00Z");
+
+    @Test
+    void closedMonthIsTheOneBeforeTheCronZonesMonth() {
+        assertThat(scheduler("Asia/Kolkata").closedMonth(FIRST_OF_AUGUST_IN_KOLKATA)).isEqualTo(YearMonth.of(2025, 7));
+        assertThat(scheduler("UTC").closedMonth(FIRST_OF_AUGUST_IN_KOLKATA)).isEqualTo(YearMonth.of(2025, 6));
+    }
+
+    @Test
+    void closedMonthCrossesTheYearInJanuary() {
+        assertThat(scheduler("UTC").closedMonth(Instant.parse("2026-01-01T02:00:00Z"))).isEqualTo(YearMonth.of(2025, 12));
+    }
+
+    @Test
+    void blankZoneFallsBackToTheDefaultZone() {
+        Instant now = Instant.now();
+        assertThat(scheduler(" ").closedMonth(now)).isEqualTo(YearMonth.from(now.atZone(ZoneId.systemDefault())).minusMonths(1));
+    }
+
+    private static PayrollAutoRunScheduler scheduler(String zone) {
+        PayrollAutoRunScheduler scheduler = new PayrollAutoRunScheduler();
+        ReflectionTestUtils.setField(scheduler, "zone", zone);
+        return scheduler;
+    }
+}
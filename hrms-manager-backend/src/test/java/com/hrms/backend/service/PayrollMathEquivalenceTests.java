@@ -0,0 +1,113 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.Payslip;
+
+/**
+ * Randomised equivalence of the long-cents bulk calculation and the BigDecimal reference calculation.
+ * Seeds are fixed so a failure is reproducible; values are compared with equals, so scales must match too.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PayrollMathEquivalenceTests {
+
+    private static final int CASES = 20_000;
+
+    @Mock
+    private WorkingCalendar workingCalendar;
+
+    @InjectMocks
+    private PayrollService payrollService;
+
+    @BeforeEach
+    void setUp() {
+        when(workingCalendar.countWorkingDays(any(YearMonth.class))).thenReturn(22);
+    }
+
+    @Test
+    void fixedPointMatchesBigDecimalForTypicalInputs() {
+        Random random = new Random(20250701L);
+        for (int i = 0; i < CASES; i++) {
+            double salary = random.nextInt(5) == 0 ? random.nextInt(10_000_000) : random.nextInt(1_000_000_000) / 100.0;
+            BigDecimal bonus = random.nextInt(3) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+            assertEquivalent(salary, bonus, random.nextInt(32), random.nextInt(32), 1 + random.nextInt(31),
+                    new BigDecimal("0.10"), new BigDecimal("0.12"), random);
+        }
+    }
+
+    @Test
+    void fixedPointMatchesBigDecimalForUnusualRatesAndScales() {
+        Random random = new Random(42L);
+        for (int i = 0; i < CASES; i++) {
+            // Includes salaries with more than two decimals and odd bonus scales, which must take the fallback
+            double salary = random.nextBoolean() ? random.nextDouble() * 5_000_000 : random.nextInt(100_000_000) / 100.0;
+            BigDecimal bonus = BigDecimal.valueOf(random.nextInt(1_000_000), random.nextInt(5));
+            BigDecimal tax = BigDecimal.valueOf(random.nextInt(5_000), random.nextInt(6)).setScale(random.nextInt(6), RoundingMode.DOWN);
+            BigDecimal pf = BigDecimal.valueOf(random.nextInt(10_000), random.nextInt(5));
+            assertEquivalent(salary, bonus, random.nextInt(32), random.nextInt(32), random.nextInt(35) - 2, tax, pf, random);
+        }
+    }
+
+    @Test
+    void divideHalfUpRoundsTiesAwayFromZero() {
+        assertThat(PayrollMath.divideHalfUp(5, 2)).isEqualTo(3);
+        assertThat(PayrollMath.divideHalfUp(-5, 2)).isEqualTo(-3);
+        assertThat(PayrollMath.divideHalfUp(7, 3)).isEqualTo(2);
+        assertThat(PayrollMath.divideHalfUp(-7, 3)).isEqualTo(-2);
+        assertThat(PayrollMath.salaryToCents(0.1 + 0.2)).isEqualTo(PayrollMath.NOT_REPRESENTABLE);
+        assertThat(PayrollMath.salaryToCents(600000.5)).isEqualTo(60000050L);
+    }
+
+    private void assertEquivalent(double salary, BigDecimal bonus, int absent, int halfDays, int standardDays,
+                                  BigDecimal tax, BigDecimal pf, Random random) {
+        Employee employee = new Employee();
+        employee.setId(1L);
+        employee.setSalary(salary);
+
+        PayrollMonthInputs inputs = new PayrollMonthInputs(YearMonth.of(2025, 7));
+        inputs.addAttendance(1L, AttendanceStatus.ABSENT, absent);
+        inputs.addAttendance(1L, AttendanceStatus.HALF_DAY, halfDays);
+        inputs.addAttendance(1L, AttendanceStatus.PRESENT, random.nextInt(23));
+        inputs.addApprovedLeaveDays(1L, random.nextInt(5));
+        inputs.addBonus(1L, bonus);
+
+        Payslip reference = new Payslip();
+        payrollService.populatePayslip(reference, employee, inputs, tax, pf, standardDays);
+        Payslip fixedPoint = new Payslip();
+        payrollService.populatePayslipFixedPoint(fixedPoint, employee, inputs, tax, pf,
+                PayrollMath.Rate.of(tax), PayrollMath.Rate.of(pf), standardDays, new PayrollMath.Amounts());
+
+        String context = "salary=" + salary + " bonus=" + bonus + " absent=" + absent + " half=" + halfDays
+                + " std=" + standardDays + " tax=" + tax + " pf=" + pf;
+        assertThat(fixedPoint.getBaseMonthlySalary()).as(context).isEqualTo(reference.getBaseMonthlySalary());
+        assertThat(fixedPoint.getAttendanceDeduction()).as(context).isEqualTo(reference.getAttendanceDeduction());
+        assertThat(fixedPoint.getTaxDeduction()).as(context).isEqualTo(reference.getTaxDeduction());
+        assertThat(fixedPoint.getPfDeduction()).as(context).isEqualTo(reference.getPfDeduction());
+        assertThat(fixedPoint.getOtherDeductions()).as(context).isEqualTo(reference.getOtherDeductions());
+        assertThat(fixedPoint.getBonusAmount()).as(context).isEqualTo(reference.getBonusAmount());
+        assertThat(fixedPoint.getGrossSalary()).as(context).isEqualTo(reference.getGrossSalary());
+        assertThat(fixedPoint.getNetSalary()).as(context).isEqualTo(reference.getNetSalary());
+        assertThat(fixedPoint.getTotalWorkingDaysInMonth()).as(context).isEqualTo(reference.getTotalWorkingDaysInMonth());
+        assertThat(fixedPoint.getDaysPresent()).isEqualTo(reference.getDaysPresent());
+        assertThat(fixedPoint.getDaysOnApprovedLeave()).isEqualTo(reference.getDaysOnApprovedLeave());
+    }
+}
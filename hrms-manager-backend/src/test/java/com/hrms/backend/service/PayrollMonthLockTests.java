@@ -0,0 +1,75 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// H2 exercises the lock-table fallback; locks are taken outside transactions, as in the application
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PayrollMonthLock.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PayrollMonthLockTests {
+
+    @Autowired
+    private PayrollMonthLock payrollMonthLock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void secondHolderIsRefusedUntilTheLockIsReleased() {
+        Optional<PayrollMonthLock.Lease> first = payrollMonthLock.tryAcquire(7, 2025);
+        assertThat(first).isPresent();
+
+        assertThat(payrollMonthLock.acquire(7, 2025, Duration.ofMillis(300))).isEmpty();
+        // Other months are independent
+        try (PayrollMonthLock.Lease other = payrollMonthLock.tryAcquire(8, 2025).orElseThrow()) {
+            assertThat(other).isNotNull();
+        }
+
+        first.get().close();
+        first.get().close(); // Releasing twice is harmless
+        try (PayrollMonthLock.Lease again = payrollMonthLock.tryAcquire(7, 2025).orElseThrow()) {
+            assertThat(again).isNotNull();
+        }
+    }
+
+    @Test
+    void refreshedLockIsNotTakenOverAndAStaleOneCannotReleaseItsSuccessor() {
+        PayrollMonthLock.Lease first = payrollMonthLock.tryAcquire(9, 2025).orElseThrow();
+        backdate("2025-09");
+        payrollMonthLock.refreshHeldLocks(); // As the run heartbeat does
+        assertThat(payrollMonthLock.tryAcquire(9, 2025)).isEmpty();
+
+        // A holder that stopped refreshing loses the lock, even to a thread on the same node
+        backdate("2025-09");
+        PayrollMonthLock.Lease second = payrollMonthLock.tryAcquire(9, 2025).orElseThrow();
+        first.close();
+        assertThat(payrollMonthLock.tryAcquire(9, 2025)).isEmpty();
+
+        second.close();
+        try (PayrollMonthLock.Lease again = payrollMonthLock.tryAcquire(9, 2025).orElseThrow()) {
+            assertThat(again).isNotNull();
+        }
+    }
+
+    private void backdate(String lockKey) {
+        jdbcTemplate.update("UPDATE payroll_locks SET acquired_at = ? WHERE lock_key = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(1)), lockKey);
+    }
+}
@@ -0,0 +1,195 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hrms.backend.dto.PayrollMonthSummaryDto;
+import com.hrms.backend.entity.Attendance;
+import com.hrms.backend.entity.AttendanceStatus;
+import com.hrms.backend.entity.Bonus;
+import com.hrms.backend.entity.Employee;
+import com.hrms.backend.entity.LeaveApplication;
+import com.hrms.backend.entity.LeaveStatus;
+import com.hrms.backend.entity.Payslip;
+import com.hrms.backend.entity.Role;
+import com.hrms.backend.entity.User;
+import com.hrms.backend.repository.EmployeeRepository;
+import com.hrms.backend.repository.PayslipBatchWriter;
+import com.hrms.backend.repository.PayslipYtdWriter;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PayrollService.class, PayslipBatchWriter.class, WorkingCalendar.class, PayrollRuleSetService.class,
+        PayrollMonthSummaryService.class, PayslipYtdWriter.class,
+        AttendanceIndex.class})
+class PayrollServiceQueryCountTests {
+
+    private static final int MONTH = 7;
+    private static final int YEAR = 2025;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private WorkingCalendar workingCalendar;
+
+    @Autowired
+    private PayrollMonthSummaryService payrollMonthSummaryService;
+
+    private Statistics statistics;
+
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void payrollChunkReadsAreIndependentOfHeadcount() {
+        seedEmployees(5);
+        long smallRun = readsDuringPayrollRun();
+
+        seedEmployees(45);
+        long largeRun = readsDuringPayrollRun();
+
+        assertThat(smallRun).isPositive();
+        assertThat(largeRun).isEqualTo(smallRun);
+    }
+
+    @Test
+    void rerunRewritesOnlyPayslipsWhoseInputsChanged() {
+        seedEmployees(5);
+        assertThat(runPayroll(MONTH)).isEqualTo(5);
+        assertThat(runPayroll(MONTH)).isZero();
+
+        Employee employee = entityManager.getEntityManager()
+                .createQuery("SELECT e FROM Employee e ORDER BY e.id", Employee.class)
+                .setMaxResults(1)
+                .getSingleResult();
+        entityManager.persist(new Bonus(employee, new BigDecimal("250.00"), MONTH, YEAR, "Referral", "Admin", LocalDateTime.now()));
+        assertThat(runPayroll(MONTH)).isEqualTo(1);
+    }
+
+    @Test
+    void correctingAMonthCascadesToLaterYearToDateTotals() {
+        seedEmployees(1);
+        runPayroll(MONTH);
+        runPayroll(MONTH + 1);
+        Payslip july = payslip(MONTH);
+        Payslip august = payslip(MONTH + 1);
+        assertThat(july.getYtdGrossSalary()).isEqualByComparingTo(july.getGrossSalary());
+        assertThat(august.getYtdGrossSalary()).isEqualByComparingTo(july.getGrossSalary().add(august.getGrossSalary()));
+        BigDecimal augustNetBefore = august.getYtdNetSalary();
+
+        entityManager.persist(new Bonus(july.getEmployee(), new BigDecimal("250.00"), MONTH, YEAR, "Referral", "Admin", LocalDateTime.now()));
+        runPayroll(MONTH);
+        BigDecimal julyNetIncrease = payslip(MONTH).getNetSalary().subtract(july.getNetSalary());
+        assertThat(julyNetIncrease).isPositive();
+        assertThat(payslip(MONTH + 1).getYtdNetSalary()).isEqualByComparingTo(augustNetBefore.add(julyNetIncrease));
+    }
+
+    @Test
+    void summaryIsRebuiltFromThePayslipsAfterARecalculation() {
+        seedEmployees(3);
+        runPayroll(MONTH);
+        Employee employee = entityManager.getEntityManager()
+                .createQuery("SELECT e FROM Employee e ORDER BY e.id", Employee.class)
+                .setMaxResults(1)
+                .getSingleResult();
+
+        entityManager.persist(new Bonus(employee, new BigDecimal("250.00"), MONTH, YEAR, "Referral", "Admin", LocalDateTime.now()));
+        assertThat(payrollService.recalculateExistingPayslip(employee.getId(), MONTH, YEAR)).isTrue();
+        entityManager.flush(); // Flushed so the native rebuild sees the recalculated payslip
+        payrollMonthSummaryService.rebuildMonth(MONTH, YEAR);
+        entityManager.clear();
+
+        PayrollMonthSummaryDto summary = payrollMonthSummaryService.getMonthSummary(MONTH, YEAR);
+        BigDecimal netSalaries = entityManager.getEntityManager()
+                .createQuery("SELECT SUM(p.netSalary) FROM Payslip p WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2", BigDecimal.class)
+                .setParameter(1, MONTH)
+                .setParameter(2, YEAR)
+                .getSingleResult();
+        assertThat(summary.getTotals().getEmployeeCount()).isEqualTo(3);
+        assertThat(summary.getTotals().getTotalBonus()).isEqualByComparingTo("4750.00");
+        assertThat(summary.getTotals().getTotalNetSalary()).isEqualByComparingTo(netSalaries);
+    }
+
+    private Payslip payslip(int month) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.getEntityManager()
+                .createQuery("SELECT p FROM Payslip p WHERE p.payPeriodMonth = ?1 AND p.payPeriodYear = ?2", Payslip.class)
+                .setParameter(1, month)
+                .setParameter(2, YEAR)
+                .getSingleResult();
+    }
+
+    // The month as a single chunk, as PartitionedPayrollRunner computes each of its chunks
+    private int runPayroll(int month) {
+        entityManager.flush();
+        entityManager.clear();
+        PayrollMonthInputs inputs = payrollService.loadMonthInputs(YearMonth.of(YEAR, month));
+        int written = payrollService.processChunk(employeeRepository.findAllWithUser(), inputs, null);
+        entityManager.flush();
+        return written;
+    }
+
+    private long readsDuringPayrollRun() {
+        entityManager.flush();
+        entityManager.clear();
+        workingCalendar.evictAll(); // Both runs load the month's holidays once
+        statistics.clear();
+
+        PayrollMonthInputs inputs = payrollService.loadMonthInputs(YearMonth.of(YEAR, MONTH));
+        payrollService.processChunk(employeeRepository.findAllWithUser(), inputs, null);
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount()
+                - statistics.getEntityInsertCount()
+                - statistics.getEntityUpdateCount();
+    }
+
+    private void seedEmployees(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = seeded++;
+            User user = entityManager.persist(new User("employee" + n, "secret", Role.EMPLOYEE));
+            Employee employee = entityManager.persist(new Employee(user, "EMP" + n, "First" + n, "Last" + n,
+                    "employee" + n + "@hrms.test", "Engineering", "Engineer", 600000.0 + n, LocalDate.of(2024, 1, 1)));
+
+            entityManager.persist(new Attendance(employee, LocalDate.of(YEAR, MONTH, 1), AttendanceStatus.PRESENT, null, LocalDateTime.now()));
+            entityManager.persist(new Attendance(employee, LocalDate.of(YEAR, MONTH, 2), AttendanceStatus.ABSENT, null, LocalDateTime.now()));
+            entityManager.persist(new Attendance(employee, LocalDate.of(YEAR, MONTH, 3), AttendanceStatus.HALF_DAY, null, LocalDateTime.now()));
+
+            LeaveApplication leave = new LeaveApplication(employee, LocalDate.of(YEAR, MONTH, 28), LocalDate.of(YEAR, MONTH + 1, 4),
+                    "Vacation", LeaveStatus.APPROVED, LocalDate.of(YEAR, MONTH, 1));
+            entityManager.persist(leave);
+
+            entityManager.persist(new Bonus(employee, new BigDecimal("1500.00"), MONTH, YEAR, "Spot award", "Admin", LocalDateTime.now()));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hrms.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hrms.backend.entity.Holiday;
+import com.hrms.backend.repository.HolidayRepository;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingCalendarTests {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @InjectMocks
+    private WorkingCalendar workingCalendar;
+
+    @Test
+    void countsWeekdaysMinusHolidays() {
+        // July 2025 has 23 weekdays; the 4th is a Friday
+        when(holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(any(), any()))
+                .thenReturn(List.of(new Holiday(LocalDate.of(2025, 7, 4), "Independence Day")));
+
+        assertThat(workingCalendar.countWorkingDays(YearMonth.of(2025, 7))).isEqualTo(22);
+        assertThat(workingCalendar.isWorkingDay(LocalDate.of(2025, 7, 4))).isFalse();
+        assertThat(workingCalendar.isWorkingDay(LocalDate.of(2025, 7, 5))).isFalse(); // Saturday
+        assertThat(workingCalendar.isWorkingDay(LocalDate.of(2025, 7, 7))).isTrue();
+        assertThat(workingCalendar.countWorkingDays(LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 7))).isEqualTo(2);
+        verify(holidayRepository, times(1)).findByHolidayDateBetweenOrderByHolidayDateAsc(any(), any());
+    }
+
+    @Test
+    void clipsIntervalsToTheMonthAndAcrossMonths() {
+        when(holidayRepository.findByHolidayDateBetweenOrderByHolidayDateAsc(any(), any())).thenReturn(List.of());
+
+        // 28 July to 4 August 2025: Mon-Thu in July, Fri 1 and Mon 4 in August
+        LocalDate start = LocalDate.of(2025, 7, 28);
+        LocalDate end = LocalDate.of(2025, 8, 4);
+        assertThat(workingCalendar.countWorkingDaysWithin(start, end, YearMonth.of(2025, 7))).isEqualTo(4);
+        assertThat(workingCalendar.countWorkingDaysWithin(start, end, YearMonth.of(2025, 8))).isEqualTo(2);
+        assertThat(workingCalendar.countWorkingDays(start, end)).isEqualTo(6);
+        assertThat(workingCalendar.countWorkingDays(LocalDate.of(2025, 8, 31), LocalDate.of(2025, 8, 31))).isZero();
+    }
+}